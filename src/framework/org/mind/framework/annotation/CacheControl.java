@@ -0,0 +1,62 @@
+package org.mind.framework.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * HTTP cache of the dynamic GET action, used together with {@link Mapping}.
+ * <pre>
+ * &#64;CacheControl(maxAge = 60, staleWhileRevalidate = 300)
+ * &#64;Mapping("/products/${id}")
+ * public Product product(long id) {...}
+ * </pre>
+ * The rendered body is hashed into a weak ETag (the response is still compressed by the container), a request with the matched <code>If-None-Match</code>
+ * is answered with 304 and no body, so the client and CDN revalidate cheaply. The directives are sent
+ * with the response of status 200 or 304 instead of <code>no-cache</code>.
+ * <p>
+ * With {@link ResponseCache}, the ETag of the cached response is used.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CacheControl {
+
+    /**
+     * Seconds of <code>max-age</code>, -1 sends <code>no-cache</code>: stored but revalidated by each request.
+     */
+    long maxAge() default -1L;
+
+    /**
+     * Seconds of <code>s-maxage</code> of the shared caches (CDN), -1 if not sent.
+     */
+    long sMaxAge() default -1L;
+
+    /**
+     * Seconds of <code>stale-while-revalidate</code>, -1 if not sent.
+     */
+    long staleWhileRevalidate() default -1L;
+
+    /**
+     * Seconds of <code>stale-if-error</code>, -1 if not sent.
+     */
+    long staleIfError() default -1L;
+
+    /**
+     * <code>private</code>, only the browser caches the response, otherwise <code>public</code>.
+     */
+    boolean privateCache() default false;
+
+    boolean mustRevalidate() default false;
+
+    /**
+     * Hash the body into the weak ETag and answer <code>If-None-Match</code>.
+     */
+    boolean eTag() default true;
+}
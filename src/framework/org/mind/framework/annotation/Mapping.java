@@ -32,4 +32,33 @@ public @interface Mapping {
      * Simple one line logging
      */
     boolean simpleLogging() default false;
+
+    /**
+     * Timeout (ms) of the asynchronous action, which returns {@link java.util.concurrent.CompletionStage}.
+     * <p>-1 is <code>server.asyncTimeout</code>, 0 is no timeout. The request without async support
+     * holds the container thread, it waits at most <code>server.asyncTimeout</code> without the timeout.
+     */
+    long asyncTimeout() default -1L;
+
+    /**
+     * Initial adaptive concurrency limit of the action, the limit adapts from the observed latency,
+     * the over-limit request is answered with 503 before the action runs.
+     * <p>0 is the <code>server.concurrency.limit</code> of server.properties, -1 is disabled.
+     */
+    int concurrencyLimit() default 0;
+
+    /**
+     * Priority of the action under overload, the low priority request is shed with 503 first,
+     * the high priority request is never shed. See <code>server.shedding.*</code> of server.properties.
+     */
+    Priority priority() default Priority.NORMAL;
+
+    enum Priority {
+        // shed when the server is overloaded
+        LOW,
+        // shed when the server is heavily overloaded
+        NORMAL,
+        // never shed, e.g. health check, payment
+        HIGH
+    }
 }
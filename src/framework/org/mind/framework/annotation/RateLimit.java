@@ -0,0 +1,62 @@
+package org.mind.framework.annotation;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request rate limit of the action, used together with {@link Mapping}.
+ * <p>
+ * The rate is enforced before the action runs, the over-limit request is answered with 429 and <code>Retry-After</code>.
+ * The permits are taken from a local token bucket, with <code>cluster = true</code> they are synced
+ * from a cluster-wide limiter (Redisson RRateLimiter by default) in batches.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RateLimit {
+
+    enum KeyType {
+        // all requests of the route
+        ROUTE,
+        // per client IP
+        IP,
+        // per value of the request header
+        HEADER
+    }
+
+    /**
+     * Permits of each interval.
+     */
+    long permits();
+
+    long interval() default 1L;
+
+    TimeUnit unit() default TimeUnit.SECONDS;
+
+    KeyType key() default KeyType.ROUTE;
+
+    /**
+     * Request header, when the key is {@link KeyType#HEADER}
+     */
+    String header() default StringUtils.EMPTY;
+
+    /**
+     * Limit the rate of the cluster, the permits are shared by all nodes.
+     */
+    boolean cluster() default false;
+
+    /**
+     * Number of the permits synced from the cluster at once.
+     */
+    int batch() default 10;
+}
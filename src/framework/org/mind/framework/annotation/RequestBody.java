@@ -0,0 +1,39 @@
+package org.mind.framework.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Bind the JSON request body to the parameter of the action, used together with {@link Mapping}.
+ * <p>
+ * The body is parsed straight from the request input stream by the cached Gson <code>TypeAdapter</code>
+ * of the parameter type, without building the body String. It must be the last parameter, after the URI parameters.
+ * The malformed body is answered with 400, the body over the max size with 413.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RequestBody {
+
+    /**
+     * The empty body is answered with 400 if required, otherwise the parameter is null.
+     */
+    boolean required() default true;
+
+    /**
+     * Bytes, the max size of the body, -1 is the <code>server.maxBodySize</code>.
+     */
+    long maxSize() default -1L;
+
+    /**
+     * Bind only the fields annotated by @Expose.
+     */
+    boolean exposed() default false;
+}
@@ -0,0 +1,50 @@
+package org.mind.framework.annotation;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Server-side response cache of the idempotent GET action, used together with {@link Mapping}.
+ * <p>
+ * The rendered bytes, content type, headers set by the action and a weak ETag are cached by the key of URI
+ * and the given request parameters/headers, a request with the matched <code>If-None-Match</code>
+ * is answered with 304. Only the response of status 200 is cached.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ResponseCache {
+
+    /**
+     * Time to live of the cached response.
+     */
+    long ttl() default 60L;
+
+    TimeUnit unit() default TimeUnit.SECONDS;
+
+    /**
+     * Request parameters which are part of the cache key.
+     */
+    String[] params() default {};
+
+    /**
+     * Request headers which are part of the cache key, they are also added to <code>Vary</code>.
+     */
+    String[] headers() default {};
+
+    /**
+     * Bean name of the {@link org.mind.framework.cache.Cacheable} store, e.g. a byte-bounded cache.
+     * Default is {@link org.mind.framework.cache.LruCache}.
+     */
+    String cacheable() default StringUtils.EMPTY;
+}
@@ -0,0 +1,42 @@
+package org.mind.framework.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesce the identical concurrent GET requests of the action, used together with {@link Mapping}.
+ * <p>
+ * The first request of a key executes the action, the concurrent requests of the same key
+ * wait for it and share its rendered response. When the wait times out or the response
+ * can not be shared (not status 200, sets cookie or asynchronous), they execute the action independently.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SingleFlight {
+
+    /**
+     * Max time of the concurrent requests waiting for the first one.
+     */
+    long timeout() default 1_000L;
+
+    TimeUnit unit() default TimeUnit.MILLISECONDS;
+
+    /**
+     * Request parameters which are part of the key, the key always contains URI.
+     */
+    String[] params() default {};
+
+    /**
+     * Request headers which are part of the key.
+     */
+    String[] headers() default {};
+}
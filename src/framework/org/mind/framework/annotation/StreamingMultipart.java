@@ -0,0 +1,39 @@
+package org.mind.framework.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Limits of the streaming multipart action, used together with {@link Mapping}.
+ * <p>
+ * The action declares a {@link org.mind.framework.web.dispatcher.multipart.MultipartParts} parameter (the last one)
+ * to read the parts in order as they arrive, the request is not parsed by the <code>MultipartResolver</code>.
+ * The limits are enforced while streaming, the request over them is answered with 413.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface StreamingMultipart {
+
+    /**
+     * Bytes, the max size of each part, -1 is the <code>server.upload.maxPartSize</code>.
+     */
+    long maxPartSize() default -1L;
+
+    /**
+     * Bytes, the max size of the request, -1 is the <code>server.upload.maxTotalSize</code>.
+     */
+    long maxTotalSize() default -1L;
+
+    /**
+     * The max number of the parts.
+     */
+    int maxParts() default 100;
+}
@@ -34,6 +34,8 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -199,7 +201,7 @@ public class CacheinOperationInterceptor implements MethodInterceptor {
         for (int i = 0; i < params.length; ++i) {
             String value = null;
             if (Objects.nonNull(params[i])) {
-                if (ConverterFactory.getInstance().isConvert(params[i].getClass()))
+                if (ConverterFactory.getInstance().isText(params[i].getClass()))
                     value = String.valueOf(params[i]);
                 else if (params[i] instanceof CacheinFace<?> face)
                     value = String.valueOf(face.getValue());
@@ -217,9 +219,9 @@ public class CacheinOperationInterceptor implements MethodInterceptor {
             }
 
             attrKey =
-                    attrKey.replaceAll(
-                            "#\\{" + paramNames[i] + "\\}",
-                            StringUtils.defaultIfEmpty(value, StringUtils.EMPTY));
+                    MatcherUtils.compile(Pattern.quote("#{" + paramNames[i] + "}"))
+                            .matcher(attrKey)
+                            .replaceAll(Matcher.quoteReplacement(StringUtils.defaultIfEmpty(value, StringUtils.EMPTY)));
         }
 
         return attrKey;
@@ -874,6 +874,16 @@ public class RedissonHelper {
         return rLimiter;
     }
 
+    /**
+     * The rate is set synchronously, the first acquire never runs before it.
+     * The limiter is deleted from redis after it is not used for the keepAlive.
+     */
+    public RRateLimiter getRateLimiter(String name, long rate, Duration interval, Duration keepAlive) {
+        RRateLimiter rLimiter = getClient().getRateLimiter(RATE_LIMITED_PREFIX + name);
+        rLimiter.trySetRate(RateType.OVERALL, rate, interval, keepAlive);
+        return rLimiter;
+    }
+
     public RLock getLock(String name) {
         return getClient().getLock(LOCK_PREFIX + name);
     }
@@ -0,0 +1,109 @@
+package org.mind.framework.metric;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request coalescing statistics of the last 60 seconds and in total.
+ * <p>
+ * executed: the first request of a key, which executes the action.
+ * <br/>shared: the requests which share the response of the first one.
+ * <br/>fallback: the requests which execute the action independently.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+public class CoalescingTraffic {
+    private static final Map<String, CoalescingTraffic> TRAFFICS = new ConcurrentHashMap<>();
+
+    @Getter
+    private final String name;
+
+    // success: the first request, exception: the fallback request
+    private final MinuteTraffic executed = new MinuteTraffic();
+
+    // success: the shared request
+    private final MinuteTraffic shared = new MinuteTraffic();
+
+    private final LongAdder totalExecuted = new LongAdder();
+    private final LongAdder totalShared = new LongAdder();
+    private final LongAdder totalFallback = new LongAdder();
+
+    private CoalescingTraffic(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Register the traffic by the unique name, the registered one of the same name is returned.
+     */
+    public static CoalescingTraffic register(String name) {
+        return TRAFFICS.computeIfAbsent(name, CoalescingTraffic::new);
+    }
+
+    public static Collection<CoalescingTraffic> all() {
+        return Collections.unmodifiableCollection(TRAFFICS.values());
+    }
+
+    public void recordExecuted(long requestTime) {
+        executed.recordSuccess(requestTime);
+        totalExecuted.increment();
+    }
+
+    public void recordShared() {
+        shared.recordSuccess();
+        totalShared.increment();
+    }
+
+    /**
+     * The wait timed out or the response could not be shared, executed independently.
+     */
+    public void recordFallback() {
+        executed.recordException();
+        totalFallback.increment();
+    }
+
+    public long executedByPeriod() {
+        return executed.totalSuccess();
+    }
+
+    public long sharedByPeriod() {
+        return shared.totalSuccess();
+    }
+
+    public long fallbackByPeriod() {
+        return executed.totalException();
+    }
+
+    /**
+     * Ratio of the shared requests in the last 60 seconds, 0 ~ 1.
+     */
+    public double coalescingRatio() {
+        long sharedCount = sharedByPeriod();
+        long total = sharedCount + executed.totalRequestByPeriod();
+        return total == 0L ? 0D : (double) sharedCount / total;
+    }
+
+    public long getTotalExecuted() {
+        return totalExecuted.sum();
+    }
+
+    public long getTotalShared() {
+        return totalShared.sum();
+    }
+
+    public long getTotalFallback() {
+        return totalFallback.sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s - executed: %d, shared: %d, fallback: %d, ratio(1m): %.2f%%",
+                name, getTotalExecuted(), getTotalShared(), getTotalFallback(), coalescingRatio() * 100);
+    }
+}
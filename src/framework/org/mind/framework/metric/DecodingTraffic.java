@@ -0,0 +1,82 @@
+package org.mind.framework.metric;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of the compressed request bodies (<code>Content-Encoding: gzip/deflate</code>)
+ * of the last 60 seconds and in total.
+ * <p>
+ * decoded: the body read to the end.
+ * <br/>rejected: over the decoded size or the compression ratio limit, or malformed.
+ * <br/>saved: the bytes not uploaded, decoded bytes - compressed bytes.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+public class DecodingTraffic {
+    private static final DecodingTraffic INSTANCE = new DecodingTraffic();
+
+    // success: decoded, exception: rejected
+    private final MinuteTraffic traffic = new MinuteTraffic();
+
+    private final LongAdder totalDecoded = new LongAdder();
+    private final LongAdder totalRejected = new LongAdder();
+    private final LongAdder compressedBytes = new LongAdder();
+    private final LongAdder decodedBytes = new LongAdder();
+
+    private DecodingTraffic() {
+    }
+
+    public static DecodingTraffic getInstance() {
+        return INSTANCE;
+    }
+
+    public void recordDecoded(long compressed, long decoded) {
+        traffic.recordSuccess();
+        totalDecoded.increment();
+        compressedBytes.add(compressed);
+        decodedBytes.add(decoded);
+    }
+
+    public void recordRejected() {
+        traffic.recordException();
+        totalRejected.increment();
+    }
+
+    public long decodedByPeriod() {
+        return traffic.totalSuccess();
+    }
+
+    public long rejectedByPeriod() {
+        return traffic.totalException();
+    }
+
+    public long getTotalDecoded() {
+        return totalDecoded.sum();
+    }
+
+    public long getTotalRejected() {
+        return totalRejected.sum();
+    }
+
+    public long getCompressedBytes() {
+        return compressedBytes.sum();
+    }
+
+    public long getDecodedBytes() {
+        return decodedBytes.sum();
+    }
+
+    public long getBytesSaved() {
+        return getDecodedBytes() - getCompressedBytes();
+    }
+
+    @Override
+    public String toString() {
+        long decoded = getDecodedBytes();
+        return String.format("decoded: %d, rejected: %d, decoded(1m): %d, rejected(1m): %d, compressed bytes: %d, decoded bytes: %d, saved bytes: %d(%.2f%%)",
+                getTotalDecoded(), getTotalRejected(), decodedByPeriod(), rejectedByPeriod(),
+                getCompressedBytes(), decoded, getBytesSaved(), decoded == 0L ? 0D : getBytesSaved() * 100D / decoded);
+    }
+}
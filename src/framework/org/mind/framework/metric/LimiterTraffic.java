@@ -0,0 +1,88 @@
+package org.mind.framework.metric;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * Statistics of a concurrency limiter: the live limit, in-flight requests,
+ * accepted and rejected requests of the last 60 seconds and in total.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+public class LimiterTraffic {
+    private static final Map<String, LimiterTraffic> TRAFFICS = new ConcurrentHashMap<>();
+
+    @Getter
+    private final String name;
+
+    private final IntSupplier inFlight;
+
+    // success: accepted with request time, exception: rejected
+    private final MinuteTraffic traffic = new MinuteTraffic();
+
+    private final LongAdder totalRejected = new LongAdder();
+
+    @Getter
+    private volatile int limit;
+
+    private LimiterTraffic(String name, IntSupplier inFlight) {
+        this.name = name;
+        this.inFlight = inFlight;
+    }
+
+    /**
+     * Register the traffic by name, the previous one of the same name is replaced.
+     */
+    public static LimiterTraffic register(String name, IntSupplier inFlight) {
+        LimiterTraffic traffic = new LimiterTraffic(name, inFlight);
+        TRAFFICS.put(name, traffic);
+        return traffic;
+    }
+
+    public static Collection<LimiterTraffic> all() {
+        return Collections.unmodifiableCollection(TRAFFICS.values());
+    }
+
+    public void recordAccepted(long requestTime) {
+        traffic.recordSuccess(requestTime);
+    }
+
+    public void recordRejected() {
+        traffic.recordException();
+        totalRejected.increment();
+    }
+
+    public void updateLimit(int limit) {
+        this.limit = limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.getAsInt();
+    }
+
+    public long acceptedByPeriod() {
+        return traffic.totalSuccess();
+    }
+
+    public long rejectedByPeriod() {
+        return traffic.totalException();
+    }
+
+    public long getTotalRejected() {
+        return totalRejected.sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s - limit: %d, in-flight: %d, accepted(1m): %d, rejected(1m): %d, rejected: %d",
+                name, limit, getInFlight(), acceptedByPeriod(), rejectedByPeriod(), getTotalRejected());
+    }
+}
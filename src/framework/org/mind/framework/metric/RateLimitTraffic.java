@@ -0,0 +1,83 @@
+package org.mind.framework.metric;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of a rate limit: accepted and rejected requests of the last 60 seconds and in total,
+ * the round trips of syncing the cluster permits.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+public class RateLimitTraffic {
+    private static final Map<String, RateLimitTraffic> TRAFFICS = new ConcurrentHashMap<>();
+
+    @Getter
+    private final String name;
+
+    // success: accepted, exception: rejected
+    private final MinuteTraffic traffic = new MinuteTraffic();
+
+    private final LongAdder totalRejected = new LongAdder();
+
+    private final LongAdder clusterSyncs = new LongAdder();
+
+    private RateLimitTraffic(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Register the traffic by name, the previous one of the same name is replaced.
+     */
+    public static RateLimitTraffic register(String name) {
+        RateLimitTraffic traffic = new RateLimitTraffic(name);
+        TRAFFICS.put(name, traffic);
+        return traffic;
+    }
+
+    public static Collection<RateLimitTraffic> all() {
+        return Collections.unmodifiableCollection(TRAFFICS.values());
+    }
+
+    public void recordAccepted() {
+        traffic.recordSuccess();
+    }
+
+    public void recordRejected() {
+        traffic.recordException();
+        totalRejected.increment();
+    }
+
+    public void recordClusterSync() {
+        clusterSyncs.increment();
+    }
+
+    public long acceptedByPeriod() {
+        return traffic.totalSuccess();
+    }
+
+    public long rejectedByPeriod() {
+        return traffic.totalException();
+    }
+
+    public long getTotalRejected() {
+        return totalRejected.sum();
+    }
+
+    public long getClusterSyncs() {
+        return clusterSyncs.sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s - accepted(1m): %d, rejected(1m): %d, rejected: %d, cluster syncs: %d",
+                name, acceptedByPeriod(), rejectedByPeriod(), getTotalRejected(), getClusterSyncs());
+    }
+}
@@ -5,6 +5,7 @@ import org.mind.framework.web.server.GracefulShutdown;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -20,6 +21,9 @@ public class Async {
 
     private static final ThreadPoolExecutor SYNCHRONOUS_EXECUTOR;
 
+    // virtual thread per task when enabled, otherwise SYNCHRONOUS_EXECUTOR
+    private static final ExecutorService DEFAULT_EXECUTOR;
+
     static {
         SYNCHRONOUS_EXECUTOR = ExecutorFactory.newThreadPoolExecutor(
                 0,
@@ -33,14 +37,29 @@ public class Async {
         GracefulShutdown.newShutdown("Async-Graceful", SYNCHRONOUS_EXECUTOR)
                 .awaitTime(15L, TimeUnit.SECONDS)
                 .registerShutdownHook();
+
+        if (VirtualThreads.isEnabled()) {
+            DEFAULT_EXECUTOR = VirtualThreads.newThreadPerTaskExecutor("async-virtual-");
+            GracefulShutdown.newShutdown("Async-Virtual-Graceful", DEFAULT_EXECUTOR)
+                    .awaitTime(15L, TimeUnit.SECONDS)
+                    .registerShutdownHook();
+        } else
+            DEFAULT_EXECUTOR = SYNCHRONOUS_EXECUTOR;
     }
 
     public static ThreadPoolExecutor synchronousExecutor() {
         return SYNCHRONOUS_EXECUTOR;
     }
 
+    /**
+     * The executor of {@link #run(Callable)}, virtual threads when enabled.
+     */
+    public static ExecutorService defaultExecutor() {
+        return DEFAULT_EXECUTOR;
+    }
+
     public static <T> CompletableFuture<T> run(Callable<T> callable) {
-        return run(callable, SYNCHRONOUS_EXECUTOR);
+        return run(callable, DEFAULT_EXECUTOR);
     }
 
     public static <T> CompletableFuture<T> run(Callable<T> callable, Executor executor) {
@@ -5,7 +5,9 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.util.Objects;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -98,6 +100,36 @@ public class ExecutorFactory {
         return executor;
     }
 
+    /**
+     * Start a virtual thread for each task when the virtual threads are enabled,
+     * otherwise a cached pool of platform threads, and the caller runs the task when the pool is full.
+     *
+     * @see VirtualThreads#isEnabled()
+     */
+    public static ExecutorService newVirtualThreadExecutor(String threadNamePrefix, int maxPoolSize) {
+        if (VirtualThreads.isEnabled())
+            return VirtualThreads.newThreadPerTaskExecutor(threadNamePrefix);
+
+        return newThreadPoolExecutor(
+                0,
+                maxPoolSize,
+                KEEP_ALIVE_TIME,
+                TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                newThreadFactory(threadNamePrefix, false),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Virtual thread factory when the virtual threads are enabled, otherwise platform (user) thread factory.
+     */
+    public static ThreadFactory newVirtualThreadFactory(String threadNamePrefix) {
+        if (VirtualThreads.isEnabled())
+            return VirtualThreads.newThreadFactory(threadNamePrefix);
+
+        return newThreadFactory(threadNamePrefix, false);
+    }
+
     public static ThreadFactory newThreadFactory(String threadNamePrefix, boolean daemon) {
         return newThreadFactory(threadNamePrefix, daemon, Thread.NORM_PRIORITY);
     }
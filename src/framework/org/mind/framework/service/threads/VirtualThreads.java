@@ -0,0 +1,182 @@
+package org.mind.framework.service.threads;
+
+import lombok.extern.slf4j.Slf4j;
+import org.mind.framework.web.server.WebServerConfig;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Virtual threads support, the API is looked up by reflection,
+ * so the framework still compiles and runs on JDK 17, it falls back to platform threads.
+ * <p>
+ * Enabled by <code>server.virtualThreads = true</code> in server.properties and JDK 21+.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@Slf4j
+public final class VirtualThreads {
+    // Thread.ofVirtual()
+    private static final MethodHandle OF_VIRTUAL;
+    // Thread.Builder.name(String, long)
+    private static final MethodHandle BUILDER_NAME;
+    // Thread.Builder.factory()
+    private static final MethodHandle BUILDER_FACTORY;
+    // Thread.isVirtual()
+    private static final MethodHandle IS_VIRTUAL;
+    // Executors.newThreadPerTaskExecutor(ThreadFactory)
+    private static final MethodHandle PER_TASK_EXECUTOR;
+
+    private static final boolean SUPPORTED;
+
+    // virtual threads created by the framework factories
+    private static final LongAdder STARTED = new LongAdder();
+    private static final AtomicInteger ACTIVE = new AtomicInteger();
+
+    static {
+        MethodHandle ofVirtual = null, builderName = null, builderFactory = null, isVirtual = null, perTaskExecutor = null;
+        boolean supported = false;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+
+            ofVirtual = lookup.findStatic(Thread.class, "ofVirtual",
+                    MethodType.methodType(Class.forName("java.lang.Thread$Builder$OfVirtual")));
+            builderName = lookup.findVirtual(builderClass, "name",
+                    MethodType.methodType(builderClass, String.class, long.class));
+            builderFactory = lookup.findVirtual(builderClass, "factory", MethodType.methodType(ThreadFactory.class));
+            isVirtual = lookup.findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+            perTaskExecutor = lookup.findStatic(Executors.class, "newThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class, ThreadFactory.class));
+
+            // preview API of JDK 19/20 throws UnsupportedOperationException
+            ofVirtual.invoke();
+            supported = true;
+        } catch (Throwable ignored) {
+        }
+
+        OF_VIRTUAL = ofVirtual;
+        BUILDER_NAME = builderName;
+        BUILDER_FACTORY = builderFactory;
+        IS_VIRTUAL = isVirtual;
+        PER_TASK_EXECUTOR = perTaskExecutor;
+        SUPPORTED = supported;
+    }
+
+    private static final class Holder {
+        private static final boolean ENABLED = checkEnabled();
+
+        private static boolean checkEnabled() {
+            if (!WebServerConfig.INSTANCE.isVirtualThreads())
+                return false;
+
+            if (SUPPORTED) {
+                log.info("Virtual threads enabled, JVM: {}", Runtime.version());
+                return true;
+            }
+
+            log.warn("Virtual threads are not supported by JVM {}, fallback to platform threads", Runtime.version());
+            return false;
+        }
+    }
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * The JVM supports virtual threads.
+     */
+    public static boolean isSupported() {
+        return SUPPORTED;
+    }
+
+    /**
+     * Virtual threads are configured and supported by the JVM.
+     */
+    public static boolean isEnabled() {
+        return Holder.ENABLED;
+    }
+
+    public static boolean isVirtual(Thread thread) {
+        if (!SUPPORTED || Objects.isNull(thread))
+            return false;
+
+        try {
+            return (boolean) IS_VIRTUAL.invokeExact(thread);
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    /**
+     * Virtual thread factory, the threads are named as prefix + sequence.
+     *
+     * @throws UnsupportedOperationException the JVM does not support virtual threads.
+     */
+    public static ThreadFactory newThreadFactory(String threadNamePrefix) {
+        checkSupported();
+        try {
+            Object builder = OF_VIRTUAL.invoke();
+            builder = BUILDER_NAME.invoke(builder, threadNamePrefix, 0L);
+            ThreadFactory factory = (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+            return runnable -> factory.newThread(counting(runnable));
+        } catch (Throwable e) {
+            throw new UnsupportedOperationException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Executor which starts a new virtual thread for each task.
+     *
+     * @throws UnsupportedOperationException the JVM does not support virtual threads.
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String threadNamePrefix) {
+        ThreadFactory factory = newThreadFactory(threadNamePrefix);
+        try {
+            return (ExecutorService) PER_TASK_EXECUTOR.invoke(factory);
+        } catch (Throwable e) {
+            throw new UnsupportedOperationException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Number of virtual threads started by the framework factories.
+     */
+    public static long getStartedCount() {
+        return STARTED.sum();
+    }
+
+    /**
+     * Number of running virtual threads started by the framework factories.
+     */
+    public static int getActiveCount() {
+        return ACTIVE.get();
+    }
+
+    private static Runnable counting(Runnable runnable) {
+        Objects.requireNonNull(runnable);
+        return () -> {
+            STARTED.increment();
+            ACTIVE.incrementAndGet();
+            try {
+                runnable.run();
+            } finally {
+                ACTIVE.decrementAndGet();
+            }
+        };
+    }
+
+    private static void checkSupported() {
+        if (!SUPPORTED)
+            throw new UnsupportedOperationException("Virtual threads are not supported by JVM " + Runtime.version());
+    }
+}
@@ -6,10 +6,12 @@ import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.bouncycastle.util.Strings;
 import org.mind.framework.exception.BaseException;
+import org.mind.framework.web.dispatcher.handler.ContentDecodingRequest;
 import org.mind.framework.web.server.WebServerConfig;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.util.WebUtils;
 
 import java.io.IOException;
 import java.net.URLDecoder;
@@ -219,6 +221,10 @@ public class HttpUtils {
      */
     public static byte[] getPostBytes(HttpServletRequest request) throws IOException {
         int contentLength = request.getContentLength();
+        // the decoded body of Content-Encoding, the length is unknown but limited by the decoding
+        if (contentLength < 0 && Objects.nonNull(WebUtils.getNativeRequest(request, ContentDecodingRequest.class)))
+            return request.getInputStream().readAllBytes();
+
         if (contentLength <= 0)
             return null;
 
@@ -6,6 +6,7 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
 import com.google.gson.JsonObject;
 import com.google.gson.ToNumberStrategy;
 import com.google.gson.reflect.TypeToken;
@@ -17,6 +18,7 @@ import org.mind.framework.http.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.io.Reader;
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
@@ -218,6 +220,31 @@ public class JsonUtils {
         return defaultEmpty(target);
     }
 
+    /**
+     * Serialize the target to the writer without building the JSON string.
+     *
+     * @throws com.google.gson.JsonIOException if the writer fails.
+     */
+    public static void toJson(Object target, Type targetType, boolean ofExpose, Appendable writer) {
+        if (Objects.isNull(target)) {
+            append(writer, EMPTY_JSON_OBJECT);
+            return;
+        }
+
+        final Gson gson = ofExpose ? getExposedSingleton() : getSingleton();
+        if (Objects.isNull(targetType))
+            gson.toJson(target, writer);
+        else
+            gson.toJson(target, targetType, writer);
+    }
+
+    /**
+     * The empty JSON of the target type, <code>[]</code> of the collection and array, otherwise <code>{}</code>.
+     */
+    public static String emptyJson(Object target) {
+        return Objects.isNull(target) ? EMPTY_JSON_OBJECT : defaultEmpty(target);
+    }
+
     public static String toJson(Object target, boolean isShowField, String... fieldName) {
         return toJson(target, false, isShowField, fieldName);
     }
@@ -309,6 +336,14 @@ public class JsonUtils {
         return REPLACE_PATT.matcher(source).replaceAll(StringUtils.EMPTY);
     }
 
+    private static void append(Appendable writer, String value) {
+        try {
+            writer.append(value);
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+    }
+
     private static String defaultEmpty(Object target) {
         Class<?> clazz = target.getClass();
         if (Collection.class.isAssignableFrom(clazz) || clazz.isArray())
@@ -43,9 +43,25 @@ public class MatcherUtils {
 
     public static final Pattern URI_SEP_PATTERN = Pattern.compile("\\/");
 
+    // compiled patterns of the request path
+    private static final PatternCache PATTERN_CACHE = new PatternCache(PatternCache.DEFAULT_CAPACITY);
+
     public static Matcher matcher(String value, String regex, int... flags) {
-        Pattern pattern = Pattern.compile(regex, ArrayUtils.isEmpty(flags) ? DEFAULT_EQ : flags[0]);
-        return pattern.matcher(value);
+        return compile(regex, flags).matcher(value);
+    }
+
+    /**
+     * Get the compiled pattern from the cache, compile it on the first use.
+     *
+     * @param regex given regular expression
+     * @param flags match flags, default is {@link #DEFAULT_EQ}
+     */
+    public static Pattern compile(String regex, int... flags) {
+        return PATTERN_CACHE.compile(regex, ArrayUtils.isEmpty(flags) ? DEFAULT_EQ : flags[0]);
+    }
+
+    public static PatternCache getPatternCache() {
+        return PATTERN_CACHE;
     }
 
     /**
@@ -0,0 +1,105 @@
+package org.mind.framework.util;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Size-bounded cache of compiled {@link Pattern}, keyed by regex and flags.
+ * <p>
+ * Reads are lock-free ({@link ConcurrentHashMap#get}), a miss compiles the pattern and stores it.
+ * When the capacity is reached, a quarter of the entries is dropped in map iteration order,
+ * so the hot request patterns are compiled again at most once.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+public final class PatternCache {
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final int capacity;
+    private final ConcurrentMap<PatternKey, Pattern> patterns;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public PatternCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public PatternCache(int capacity) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("Pattern cache capacity must be greater than 0.");
+
+        this.capacity = capacity;
+        this.patterns = new ConcurrentHashMap<>(Math.min(capacity, 256));
+    }
+
+    public Pattern compile(String regex, int flags) {
+        Objects.requireNonNull(regex);
+        PatternKey key = new PatternKey(regex, flags);
+
+        Pattern pattern = patterns.get(key);
+        if (Objects.nonNull(pattern)) {
+            hits.increment();
+            return pattern;
+        }
+
+        misses.increment();
+        pattern = Pattern.compile(regex, flags);
+
+        if (patterns.size() >= capacity)
+            this.evict();
+
+        Pattern exists = patterns.putIfAbsent(key, pattern);
+        return Objects.isNull(exists) ? pattern : exists;
+    }
+
+    private void evict() {
+        int target = capacity - Math.max(capacity >> 2, 1);
+        Iterator<PatternKey> iterator = patterns.keySet().iterator();
+        while (patterns.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        return patterns.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void clear() {
+        patterns.clear();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PatternCache - size: %d/%d, hits: %d, misses: %d, evictions: %d",
+                size(), capacity, getHits(), getMisses(), getEvictions());
+    }
+
+    private record PatternKey(String regex, int flags) {
+    }
+}
@@ -2,14 +2,16 @@ package org.mind.framework.util;
 
 import org.apache.commons.lang3.StringUtils;
 
-import java.io.BufferedInputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.PrintWriter;
-import java.nio.file.Files;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 /**
  * General purpose utility methods related to generating a servlet response in
@@ -100,15 +102,29 @@ public class ResponseUtils {
     }
 
     public static void write(OutputStream output, Path path) throws IOException {
-        try (InputStream input = new BufferedInputStream(Files.newInputStream(path))) {
-            byte[] buffer = new byte[FileUtils.BUFFER_SIZE];
-
-            int length;
-            while ((length = input.read(buffer)) > -1)
-                output.write(buffer, 0, length);
-
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            transfer(channel, 0L, channel.size(), output);
             output.flush();
         }
     }
 
+    /**
+     * Output the bytes of the file channel by {@link FileChannel#transferTo}, the servlet output stream is
+     * adapted by {@link Channels#newChannel(OutputStream)}, which copies through its small buffer.
+     *
+     * @param position position of the file
+     * @param count    bytes, long content is supported
+     * @throws IOException when the file is shorter than the range, e.g. truncated while writing.
+     */
+    public static void transfer(FileChannel channel, long position, long count, OutputStream output) throws IOException {
+        WritableByteChannel target = Channels.newChannel(output);
+        long end = position + count;
+        while (position < end) {
+            long transferred = channel.transferTo(position, end - position, target);
+            if (transferred <= 0L)
+                throw new EOFException(String.format("File is shorter than the range, %d bytes are not written", end - position));
+            position += transferred;
+        }
+    }
+
 }
@@ -11,15 +11,21 @@ import org.apache.commons.lang3.Strings;
 import org.mind.framework.ContextSupport;
 import org.mind.framework.annotation.Interceptor;
 import org.mind.framework.annotation.Mapping;
+import org.mind.framework.annotation.RequestBody;
 import org.mind.framework.exception.NotSupportedException;
 import org.mind.framework.web.container.ContainerAware;
+import org.mind.framework.web.dispatcher.handler.ActionInvoker;
+import org.mind.framework.web.dispatcher.handler.ActionInvokers;
 import org.mind.framework.web.dispatcher.handler.Execution;
+import org.mind.framework.web.dispatcher.multipart.MultipartParts;
 import org.mind.framework.web.dispatcher.support.Catcher;
 import org.mind.framework.web.dispatcher.support.CatcherMapping;
+import org.mind.framework.web.dispatcher.support.BeanBinder;
 import org.mind.framework.web.dispatcher.support.ConverterFactory;
 import org.mind.framework.web.interceptor.CorsCatcher;
 import org.mind.framework.web.interceptor.CorsInterceptor;
 import org.mind.framework.web.interceptor.HandlerInterceptor;
+import org.mind.framework.web.server.WebServerConfig;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -28,6 +34,7 @@ import org.springframework.web.cors.CorsConfiguration;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -108,16 +115,12 @@ public class SpringContainerAware implements ContainerAware {
             if (!this.isMappingMethod(method))
                 continue;
 
+            // One execution per route, it holds the route's own args number and interceptors
             Mapping mapping = method.getAnnotation(Mapping.class);
-            Execution execution = new Execution(bean, method, mapping);
-            if (mapping.value().length == 1) {
-                biConsumer.accept(mapping.value()[0], execution);
-                joiner.add(mapping.value()[0]);
-            } else {
-                for (String route : mapping.value()) {
-                    biConsumer.accept(route, execution);
-                    joiner.add(route);
-                }
+            ActionInvoker invoker = ActionInvokers.create(bean, method);
+            for (String route : mapping.value()) {
+                biConsumer.accept(route, new Execution(bean, method, invoker, mapping));
+                joiner.add(route);
             }
         }
 
@@ -167,14 +170,46 @@ public class SpringContainerAware implements ContainerAware {
             return false;
         }
 
-        Class<?>[] argTypes = method.getParameterTypes();
+        Parameter[] parameters = method.getParameters();
         ConverterFactory converter = ConverterFactory.getInstance();
+        boolean bean = false;
+
+        for (int i = 0; i < parameters.length; ++i) {
+            // JSON request body, bound by the Gson TypeAdapter
+            if (parameters[i].isAnnotationPresent(RequestBody.class)) {
+                if (i == parameters.length - 1)
+                    continue;
+
+                log.warn("Invalid Action method '{}', @RequestBody must be the last parameter.", method.toGenericString());
+                return false;
+            }
+
+            Class<?> argType = parameters[i].getType();
+            // streaming multipart, the parts are read by the action
+            if (argType == MultipartParts.class) {
+                if (i == parameters.length - 1)
+                    continue;
+
+                log.warn("Invalid Action method '{}', MultipartParts must be the last parameter.", method.toGenericString());
+                return false;
+            }
+
+            // POJO of the query/form parameters, bound by the generated binder
+            if (BeanBinder.isBindable(argType)) {
+                bean = true;
+                continue;
+            }
 
-        for (Class<?> argType : argTypes) {
             if (!converter.isConvert(argType)) {
                 log.warn("Invalid Action method '{}' unsupported parameter type '{}'.", method.toGenericString(), argType.getName());
                 return false;
             }
+
+            // the URI parameters are bound by position, the POJO parameters follow them
+            if (bean) {
+                log.warn("Invalid Action method '{}', URI parameter '{}' must precede the POJO parameters.", method.toGenericString(), parameters[i].getName());
+                return false;
+            }
         }
 
         return true;
@@ -223,8 +258,10 @@ public class SpringContainerAware implements ContainerAware {
         if (ArrayUtils.isNotEmpty(cross.exposedHeaders()))
             Arrays.stream(cross.exposedHeaders()).forEach(config::addExposedHeader);
 
-        if (cross.maxAge() > -1L)
-            config.setMaxAge(cross.maxAge());
+        // preflight cache of the browser, server.cors.maxAge if not declared
+        long maxAge = cross.maxAge() > -1L ? cross.maxAge() : WebServerConfig.INSTANCE.getCorsMaxAge();
+        if (maxAge > -1L)
+            config.setMaxAge(maxAge);
 
         return config;
     }
@@ -13,12 +13,14 @@ import org.mind.framework.web.container.ContainerAware;
 import org.mind.framework.web.dispatcher.handler.DispatcherHandlerRequest;
 import org.mind.framework.web.dispatcher.handler.HandlerRequest;
 import org.mind.framework.web.dispatcher.handler.HandlerResult;
+import org.mind.framework.web.dispatcher.handler.RouteRegistry;
 import org.mind.framework.web.dispatcher.support.WebContainerGenerator;
 import org.mind.framework.web.renderer.template.TemplateFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.http.HttpHeaders;
+import org.springframework.web.cors.CorsUtils;
 
 import java.io.IOException;
 import java.util.Objects;
@@ -58,6 +60,10 @@ public class DispatcherServlet extends HttpServlet {
         this.handler = this.initHandlerRequest();
         this.handler.init(this.webContainer);
 
+        // add or remove the URI mappings at runtime
+        if (this.handler instanceof RouteRegistry registry)
+            context.setAttribute(RouteRegistry.ATTRIBUTE, registry);
+
         TemplateFactory tf = WebContainerGenerator.initTemplateFactory(this.getServletConfig());
         tf.init(context);
         TemplateFactory.setTemplateFactory(tf);
@@ -117,13 +123,20 @@ public class DispatcherServlet extends HttpServlet {
     }
 
     @Override
-    protected void doOptions(HttpServletRequest req, HttpServletResponse resp) {
+    protected void doOptions(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
+        // CORS preflight, answered by the @CrossOrigin of the action
+        if (CorsUtils.isPreFlightRequest(req)) {
+            this.process(req, resp);
+            return;
+        }
+
         resp.setHeader(HttpHeaders.ALLOW, "GET, POST, PUT, DELETE, HEAD, OPTIONS");
     }
 
     @Override
     public void destroy() {
         log.info("Destroy mind-framework web container....");
+        this.getServletContext().removeAttribute(RouteRegistry.ATTRIBUTE);
         this.webContainer.destroy();
         this.handler.destroy();
         this.handler = null;
@@ -145,7 +158,9 @@ public class DispatcherServlet extends HttpServlet {
             HandlerResult.setRequestAttribute(request);
             ThrowProvider.doThrow(c);
         } finally {
-            this.handler.clear(request);
+            // asynchronous action is cleaned up by the handler on completion
+            if (!request.isAsyncStarted())
+                this.handler.clear(request);
         }
     }
 
@@ -0,0 +1,23 @@
+package org.mind.framework.web.dispatcher.handler;
+
+/**
+ * Invokes the action method of an {@link Execution}.
+ * <p>
+ * The invoker is created once when the URI mapping is loaded, see {@link ActionInvokers#create},
+ * the action instance is already bound, only the method arguments are passed per request.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@FunctionalInterface
+public interface ActionInvoker {
+
+    /**
+     * Call the action method, exceptions thrown by the method are propagated as is.
+     *
+     * @param args method arguments, may be null when the method has no parameter.
+     * @return the method result, or null when the method returns void.
+     */
+    Object invoke(Object[] args) throws Throwable;
+}
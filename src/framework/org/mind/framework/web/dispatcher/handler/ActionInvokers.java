@@ -0,0 +1,161 @@
+package org.mind.framework.web.dispatcher.handler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.mind.framework.util.ReflectionUtils;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+
+/**
+ * Factory of {@link ActionInvoker}.
+ * <p>
+ * Actions with 0 to 3 parameters and a non-void return get a class spun by {@link LambdaMetafactory},
+ * it calls the action method directly, so the JIT can inline it into the dispatcher.
+ * Other actions use a bound, spread {@link MethodHandle}. When neither can be created
+ * (e.g. the class is not accessible), falls back to core reflection.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@Slf4j
+public final class ActionInvokers {
+    private static final int MAX_SPIN_ARITY = 3;
+
+    private ActionInvokers() {
+    }
+
+    @FunctionalInterface
+    public interface Invoker0 {
+        Object invoke();
+    }
+
+    @FunctionalInterface
+    public interface Invoker1 {
+        Object invoke(Object arg0);
+    }
+
+    @FunctionalInterface
+    public interface Invoker2 {
+        Object invoke(Object arg0, Object arg1);
+    }
+
+    @FunctionalInterface
+    public interface Invoker3 {
+        Object invoke(Object arg0, Object arg1, Object arg2);
+    }
+
+    public static ActionInvoker create(Object target, Method method) {
+        Objects.requireNonNull(method);
+        final boolean isStatic = Modifier.isStatic(method.getModifiers());
+        if (!isStatic)
+            Objects.requireNonNull(target);
+
+        MethodHandles.Lookup lookup;
+        MethodHandle handle;
+        try {
+            lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            handle = lookup.unreflect(method);
+        } catch (IllegalAccessException | RuntimeException e) {
+            log.warn("Unable to create method handle of [{}], use reflection: {}", method, e.getMessage());
+            return reflective(target, method);
+        }
+
+        final int arity = method.getParameterCount();
+        if (arity <= MAX_SPIN_ARITY && method.getReturnType() != void.class) {
+            try {
+                return spin(lookup, handle, isStatic ? null : target, method, arity);
+            } catch (Throwable e) {
+                log.debug("Unable to spin invoker of [{}], use method handle: {}", method, e.getMessage());
+            }
+        }
+
+        MethodHandle invoker = isStatic ? handle : handle.bindTo(target);
+        invoker = invoker.asSpreader(Object[].class, arity)
+                .asType(MethodType.methodType(Object.class, Object[].class));
+
+        final MethodHandle spreader = invoker;
+        return args -> spreader.invokeExact(args);
+    }
+
+    /**
+     * Invoke by core reflection, the target exception is unwrapped.
+     */
+    public static ActionInvoker reflective(Object target, Method method) {
+        ReflectionUtils.makeAccessible(method);
+        return args -> {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        };
+    }
+
+    private static ActionInvoker spin(MethodHandles.Lookup lookup, MethodHandle handle, Object target, Method method, int arity) throws Throwable {
+        Class<?> samType = switch (arity) {
+            case 0 -> Invoker0.class;
+            case 1 -> Invoker1.class;
+            case 2 -> Invoker2.class;
+            default -> Invoker3.class;
+        };
+
+        // interface method (Object...)Object, the arguments are cast/unboxed to the action parameter types
+        MethodType erased = MethodType.genericMethodType(arity);
+        MethodType instantiated = handle.type().wrap().changeReturnType(Object.class);
+        MethodType factoryType = MethodType.methodType(samType);
+        if (Objects.nonNull(target)) {
+            instantiated = instantiated.dropParameterTypes(0, 1);
+            factoryType = factoryType.appendParameterTypes(method.getDeclaringClass());
+        }
+
+        CallSite site = LambdaMetafactory.metafactory(
+                lookup, "invoke", factoryType, erased, handle, instantiated);
+        MethodHandle factory = site.getTarget();
+        Object spun = Objects.isNull(target) ? factory.invoke() : factory.invoke(target);
+
+        return switch (arity) {
+            case 0 -> {
+                Invoker0 invoker = (Invoker0) spun;
+                yield args -> {
+                    checkArguments(args, 0);
+                    return invoker.invoke();
+                };
+            }
+            case 1 -> {
+                Invoker1 invoker = (Invoker1) spun;
+                yield args -> {
+                    checkArguments(args, 1);
+                    return invoker.invoke(args[0]);
+                };
+            }
+            case 2 -> {
+                Invoker2 invoker = (Invoker2) spun;
+                yield args -> {
+                    checkArguments(args, 2);
+                    return invoker.invoke(args[0], args[1]);
+                };
+            }
+            default -> {
+                Invoker3 invoker = (Invoker3) spun;
+                yield args -> {
+                    checkArguments(args, 3);
+                    return invoker.invoke(args[0], args[1], args[2]);
+                };
+            }
+        };
+    }
+
+    private static void checkArguments(Object[] args, int arity) {
+        int length = Objects.isNull(args) ? 0 : args.length;
+        if (length != arity)
+            throw new IllegalArgumentException(String.format("wrong number of arguments: %d expected: %d", length, arity));
+    }
+}
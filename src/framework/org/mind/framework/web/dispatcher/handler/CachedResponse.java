@@ -0,0 +1,78 @@
+package org.mind.framework.web.dispatcher.handler;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+import org.mind.framework.util.ResponseUtils;
+import org.mind.framework.web.renderer.Render;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The encoded bytes and the headers of a cached response, rendered without invoking the action.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@Getter
+public class CachedResponse extends Render {
+
+    private final byte[] body;
+
+    // weak validator of the md5 of the body, the container still compresses the response
+    private final String eTag;
+
+    // set by the action, replayed on the hit, excluding Content-Type/Length, ETag and Set-Cookie
+    private final Map<String, List<String>> headers;
+
+    public CachedResponse(byte[] body, String contentType) {
+        this(body, contentType, Collections.emptyMap());
+    }
+
+    public CachedResponse(byte[] body, String contentType, Map<String, List<String>> headers) {
+        this.body = body;
+        this.contentType = contentType;
+        this.headers = headers;
+        this.eTag = generateETag(body);
+    }
+
+    /**
+     * Size of the cached body, for the byte-bounded store.
+     */
+    public int length() {
+        return body.length;
+    }
+
+    @Override
+    public void render(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        // replaced, also on 304
+        headers.forEach((name, values) -> {
+            response.setHeader(name, values.get(0));
+            for (int i = 1; i < values.size(); ++i)
+                response.addHeader(name, values.get(i));
+        });
+
+        // 304, the ETag header is set by checkNotModified
+        if (new ServletWebRequest(request, response).checkNotModified(eTag))
+            return;
+
+        if (StringUtils.isNotEmpty(contentType))
+            response.setContentType(contentType);
+
+        response.setContentLength(body.length);
+        ResponseUtils.write(response.getOutputStream(), body);
+    }
+
+    public static String generateETag(byte[] body) {
+        StringBuilder builder = new StringBuilder(39).append("W/\"0");
+        DigestUtils.appendMd5DigestAsHex(body, builder);
+        return builder.append('"').toString();
+    }
+}
@@ -0,0 +1,199 @@
+package org.mind.framework.web.dispatcher.handler;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.mind.framework.annotation.Mapping;
+import org.mind.framework.metric.LimiterTraffic;
+import org.mind.framework.web.server.WebServerConfig;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Adaptive concurrency limiter of an action, the limit follows the gradient of the latency:
+ * <pre>
+ *     gradient = clamp(tolerance * longRtt / rtt, 0.5, 1.0)
+ *     newLimit = limit * gradient + sqrt(limit)
+ * </pre>
+ * The limit shrinks when the latency rises above the long-term average and grows back when it recovers,
+ * it is smoothed and kept in [1, maxLimit]. The samples are ignored when the action is not busy (in-flight &lt; limit/2).
+ * The routes of an action share one limiter.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@Slf4j
+public class ConcurrencyLimiter {
+    private static final int MIN_LIMIT = 1;
+
+    // the routes of an action share its limiter
+    private static final Map<Method, ConcurrencyLimiter> LIMITERS = new ConcurrentHashMap<>();
+
+    // weight of the new limit
+    private static final double SMOOTHING = 0.2D;
+
+    // rtt which is tolerated to rise above the long-term average
+    private static final double TOLERANCE = 1.5D;
+
+    // weight of a sample in the long-term rtt, EMA of about the last 600 samples
+    private static final double LONG_RTT_WEIGHT = 2D / 601D;
+
+    @Getter
+    private final int maxLimit;
+
+    private final long queueTimeoutNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    @Getter
+    private final LimiterTraffic traffic;
+
+    private volatile double estimatedLimit;
+
+    // ns, guarded by this
+    private double longRtt;
+
+    // over-limit requests waiting for a permit
+    private final ReentrantLock queueLock = new ReentrantLock();
+    private final Condition released = queueLock.newCondition();
+    private volatile int waiting;
+
+    public ConcurrencyLimiter(String name, int initialLimit, int maxLimit, long queueTimeout) {
+        this.maxLimit = Math.max(MIN_LIMIT, maxLimit);
+        this.estimatedLimit = Math.max(MIN_LIMIT, Math.min(initialLimit, this.maxLimit));
+        this.queueTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, queueTimeout));
+        this.traffic = LimiterTraffic.register(name, inFlight::get);
+        this.traffic.updateLimit(this.getLimit());
+    }
+
+    /**
+     * @return null if the limiter is disabled by the {@link Mapping} and server.properties.
+     */
+    public static ConcurrencyLimiter of(Method method, Mapping mapping) {
+        int initialLimit = mapping.concurrencyLimit();
+        if (initialLimit < 0)
+            return null;
+
+        WebServerConfig config = WebServerConfig.INSTANCE;
+        if (initialLimit == 0)
+            initialLimit = config.getConcurrencyLimit();
+
+        if (initialLimit <= 0)
+            return null;
+
+        final int limit = initialLimit;
+        return LIMITERS.computeIfAbsent(method, m -> new ConcurrencyLimiter(
+                m.getDeclaringClass().getSimpleName() + "." + m.getName(),
+                limit,
+                Math.max(limit, config.getConcurrencyMaxLimit()),
+                config.getConcurrencyQueueTimeout()));
+    }
+
+    /**
+     * Acquire a permit, the over-limit request waits in queue for the queue timeout at most.
+     *
+     * @return start time (ns) of the permit, it should be released by {@link #release(long)}; -1 if rejected.
+     */
+    public long acquire() {
+        if (this.tryAcquire())
+            return System.nanoTime();
+
+        if (queueTimeoutNanos > 0L && this.awaitPermit())
+            return System.nanoTime();
+
+        traffic.recordRejected();
+        return -1L;
+    }
+
+    public void release(long startNanos) {
+        if (startNanos < 0L)
+            return;
+
+        long rtt = System.nanoTime() - startNanos;
+        int current = inFlight.getAndDecrement();
+        traffic.recordAccepted(TimeUnit.NANOSECONDS.toMillis(rtt));
+        this.update(rtt, current);
+
+        if (waiting > 0) {
+            queueLock.lock();
+            try {
+                released.signal();
+            } finally {
+                queueLock.unlock();
+            }
+        }
+    }
+
+    public int getLimit() {
+        return (int) estimatedLimit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) estimatedLimit)
+                return false;
+
+            if (inFlight.compareAndSet(current, current + 1))
+                return true;
+        }
+    }
+
+    private boolean awaitPermit() {
+        long remaining = queueTimeoutNanos;
+        queueLock.lock();
+        try {
+            ++waiting;
+            while (!this.tryAcquire()) {
+                if (remaining <= 0L)
+                    return false;
+                remaining = released.awaitNanos(remaining);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            --waiting;
+            queueLock.unlock();
+        }
+    }
+
+    private synchronized void update(long rtt, int current) {
+        if (rtt <= 0L)
+            return;
+
+        longRtt = longRtt == 0D ? rtt : longRtt * (1D - LONG_RTT_WEIGHT) + rtt * LONG_RTT_WEIGHT;
+
+        // recover quickly when the latency falls back, e.g. after a slow dependency recovers
+        if (longRtt / rtt > 2D)
+            longRtt *= 0.95D;
+
+        double limit = estimatedLimit;
+
+        // not busy, the latency says nothing about the limit
+        if (current < limit / 2D)
+            return;
+
+        double gradient = Math.max(0.5D, Math.min(1D, TOLERANCE * longRtt / rtt));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        newLimit = limit * (1D - SMOOTHING) + newLimit * SMOOTHING;
+        newLimit = Math.max(MIN_LIMIT, Math.min(maxLimit, newLimit));
+
+        if ((int) newLimit != (int) limit) {
+            traffic.updateLimit((int) newLimit);
+            log.debug("{} concurrency limit: {} -> {}", traffic.getName(), (int) limit, (int) newLimit);
+        }
+        estimatedLimit = newLimit;
+    }
+}
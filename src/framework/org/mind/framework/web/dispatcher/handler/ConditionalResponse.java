@@ -0,0 +1,149 @@
+package org.mind.framework.web.dispatcher.handler;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.mind.framework.annotation.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.zip.CRC32;
+import java.util.zip.CRC32C;
+
+/**
+ * Conditional GET of an action declared by {@link CacheControl}, the captured body is hashed into a weak ETag.
+ * The container does not compress the response with a strong ETag (the compressed bytes differ),
+ * <code>If-None-Match</code> uses the weak comparison anyway.
+ * <p>
+ * The hash is CRC32C and CRC32 of the body (both are intrinsics of the JVM), 64 bits with the length,
+ * not for the security but to find the changed body.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@Slf4j
+@Getter
+public class ConditionalResponse {
+    private static final int BUFFER_SIZE = 8192;
+
+    // value of Cache-Control
+    private final String cacheControl;
+
+    private final boolean eTag;
+
+    private ConditionalResponse(String cacheControl, boolean eTag) {
+        this.cacheControl = cacheControl;
+        this.eTag = eTag;
+    }
+
+    /**
+     * @return null if the method is not annotated by {@link CacheControl}.
+     */
+    public static ConditionalResponse of(Method method) {
+        CacheControl annotation = method.getAnnotation(CacheControl.class);
+        if (Objects.isNull(annotation))
+            return null;
+
+        StringJoiner joiner = new StringJoiner(", ");
+        if (annotation.maxAge() < 0L) {
+            joiner.add(HandlerResult.NO_CACHE);
+            if (annotation.privateCache())
+                joiner.add("private");
+        } else {
+            joiner.add(annotation.privateCache() ? "private" : "public");
+            joiner.add("max-age=" + annotation.maxAge());
+        }
+
+        if (annotation.sMaxAge() > -1L && !annotation.privateCache())
+            joiner.add("s-maxage=" + annotation.sMaxAge());
+        if (annotation.mustRevalidate())
+            joiner.add("must-revalidate");
+        if (annotation.staleWhileRevalidate() > -1L)
+            joiner.add("stale-while-revalidate=" + annotation.staleWhileRevalidate());
+        if (annotation.staleIfError() > -1L)
+            joiner.add("stale-if-error=" + annotation.staleIfError());
+
+        return new ConditionalResponse(joiner.toString(), annotation.eTag());
+    }
+
+    /**
+     * Only the body of GET and HEAD is hashed.
+     */
+    public boolean isRevalidated(HttpServletRequest request) {
+        if (!eTag)
+            return false;
+
+        String method = request.getMethod();
+        return RequestMethod.GET.name().equals(method) || RequestMethod.HEAD.name().equals(method);
+    }
+
+    /**
+     * Replace the <code>no-cache</code> of the dispatcher by the declared directives.
+     */
+    public void applyHeaders(HttpServletResponse response) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+    }
+
+    /**
+     * Write the captured response, 304 without the body when it matches <code>If-None-Match</code>.
+     * The response of other status is written as is.
+     */
+    public void complete(ContentCachingResponseWrapper captured,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        if (captured.getStatus() != HttpServletResponse.SC_OK) {
+            captured.copyBodyToResponse();
+            return;
+        }
+
+        this.applyHeaders(response);
+        String value;
+        try (InputStream input = captured.getContentInputStream()) {
+            value = generateETag(input, captured.getContentSize());
+        }
+
+        // 304, discard the body
+        if (new ServletWebRequest(request, response).checkNotModified(value)) {
+            log.debug("Not modified: {}", value);
+            return;
+        }
+
+        captured.copyBodyToResponse();
+    }
+
+    public static String generateETag(byte[] body) {
+        CRC32C crc32c = new CRC32C();
+        CRC32 crc32 = new CRC32();
+        crc32c.update(body);
+        crc32.update(body);
+        return format(crc32c.getValue(), crc32.getValue(), body.length);
+    }
+
+    /*
+     * Hash the stream of the captured body without copying it to one array.
+     */
+    static String generateETag(InputStream input, int length) throws IOException {
+        CRC32C crc32c = new CRC32C();
+        CRC32 crc32 = new CRC32();
+        byte[] buffer = new byte[Math.max(1, Math.min(length, BUFFER_SIZE))];
+        int n;
+        while ((n = input.read(buffer)) > -1) {
+            crc32c.update(buffer, 0, n);
+            crc32.update(buffer, 0, n);
+        }
+        return format(crc32c.getValue(), crc32.getValue(), length);
+    }
+
+    private static String format(long crc32c, long crc32, int length) {
+        return String.format("W/\"%x-%016x\"", length, crc32c << 32 | crc32);
+    }
+}
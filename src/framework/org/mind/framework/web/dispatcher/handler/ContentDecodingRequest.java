@@ -0,0 +1,429 @@
+package org.mind.framework.web.dispatcher.handler;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Strings;
+import org.mind.framework.metric.DecodingTraffic;
+import org.mind.framework.web.server.WebServerConfig;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackInputStream;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * The request of which the body is compressed by <code>Content-Encoding: gzip</code> or <code>deflate</code>,
+ * the body is decoded while it is read, so the JSON binding, {@link org.mind.framework.util.HttpUtils#getPostString},
+ * the form parameters and the multipart parsed from the input stream see the identity body.
+ * <p>
+ * The decoded size is limited by <code>server.decompression.maxSize</code>, and the ratio of the decoded
+ * to the compressed bytes by <code>server.decompression.maxRatio</code>, the read over them fails with
+ * {@link DecodingException} (413), so a small zip bomb never fills the memory.
+ * <p>
+ * The <code>Content-Encoding</code> and <code>Content-Length</code> headers are hidden, the length is unknown (-1).
+ * The parts of the servlet container ({@link HttpServletRequest#getParts()}) are parsed from the raw bytes, not decoded.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+public class ContentDecodingRequest extends HttpServletRequestWrapper {
+    private static final int BUFFER_SIZE = 8192;
+
+    // decoded bytes, the ratio is checked after them, the small body compresses well
+    private static final long RATIO_THRESHOLD = 64 * 1024L;
+
+    @Getter
+    private final String encoding;
+
+    private final long maxSize;
+
+    private final int maxRatio;
+
+    private DecodingInputStream input;
+
+    private BufferedReader reader;
+
+    private Map<String, String[]> parameters;
+
+    ContentDecodingRequest(HttpServletRequest request, String encoding, long maxSize, int maxRatio) {
+        super(request);
+        this.encoding = encoding;
+        this.maxSize = maxSize;
+        this.maxRatio = maxRatio;
+    }
+
+    /**
+     * Wrap the request of which the body is compressed, by the limits of {@link WebServerConfig}.
+     *
+     * @return the request itself if the body is not compressed or the decompression is off.
+     * @throws DecodingException (415) if the encoding is not supported.
+     */
+    public static HttpServletRequest wrap(HttpServletRequest request) throws DecodingException {
+        WebServerConfig config = WebServerConfig.INSTANCE;
+        if (!"on".equalsIgnoreCase(config.getDecompression()))
+            return request;
+
+        return wrap(request, config.getDecompressionMaxSize(), config.getDecompressionMaxRatio());
+    }
+
+    public static HttpServletRequest wrap(HttpServletRequest request, long maxSize, int maxRatio) throws DecodingException {
+        String header = request.getHeader(HttpHeaders.CONTENT_ENCODING);
+        if (StringUtils.isEmpty(header))
+            return request;
+
+        String encoding = header.trim().toLowerCase();
+        if ("identity".equals(encoding))
+            return request;
+
+        if (!"gzip".equals(encoding) && !"x-gzip".equals(encoding) && !"deflate".equals(encoding))
+            throw new DecodingException(HttpServletResponse.SC_UNSUPPORTED_MEDIA_TYPE,
+                    "Request Content-Encoding is not supported: " + header);
+
+        return new ContentDecodingRequest(request, encoding, maxSize, maxRatio);
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        if (Objects.nonNull(reader))
+            throw new IllegalStateException("getReader() has already been called for this request");
+
+        if (Objects.isNull(input))
+            input = new DecodingInputStream(super.getInputStream());
+        return input;
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        if (Objects.isNull(reader)) {
+            if (Objects.nonNull(input))
+                throw new IllegalStateException("getInputStream() has already been called for this request");
+
+            input = new DecodingInputStream(super.getInputStream());
+            reader = new BufferedReader(new InputStreamReader(input, this.charset()));
+        }
+        return reader;
+    }
+
+    @Override
+    public int getContentLength() {
+        return -1;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        return -1L;
+    }
+
+    @Override
+    public String getHeader(String name) {
+        return isHidden(name) ? null : super.getHeader(name);
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+        return isHidden(name) ? Collections.emptyEnumeration() : super.getHeaders(name);
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+        List<String> names = new ArrayList<>();
+        Enumeration<String> enumeration = super.getHeaderNames();
+        while (enumeration.hasMoreElements()) {
+            String name = enumeration.nextElement();
+            if (!isHidden(name))
+                names.add(name);
+        }
+        return Collections.enumeration(names);
+    }
+
+    @Override
+    public int getIntHeader(String name) {
+        return isHidden(name) ? -1 : super.getIntHeader(name);
+    }
+
+    /*
+     * The container parses the form from the raw bytes, the decoded body is parsed here.
+     */
+    @Override
+    public String getParameter(String name) {
+        if (!this.isForm())
+            return super.getParameter(name);
+
+        String[] values = this.getParameterMap().get(name);
+        return Objects.isNull(values) || values.length == 0 ? null : values[0];
+    }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+        if (!this.isForm())
+            return super.getParameterMap();
+
+        if (Objects.isNull(parameters))
+            parameters = Collections.unmodifiableMap(this.parseForm());
+        return parameters;
+    }
+
+    @Override
+    public Enumeration<String> getParameterNames() {
+        if (!this.isForm())
+            return super.getParameterNames();
+        return Collections.enumeration(this.getParameterMap().keySet());
+    }
+
+    @Override
+    public String[] getParameterValues(String name) {
+        if (!this.isForm())
+            return super.getParameterValues(name);
+
+        String[] values = this.getParameterMap().get(name);
+        return Objects.isNull(values) ? null : values.clone();
+    }
+
+    private boolean isForm() {
+        return Strings.CI.startsWith(this.getContentType(), MediaType.APPLICATION_FORM_URLENCODED_VALUE);
+    }
+
+    private Map<String, String[]> parseForm() {
+        Map<String, List<String>> values = new LinkedHashMap<>();
+        Charset charset = this.charset();
+        parseQuery(this.getQueryString(), charset, values);
+        if (Objects.isNull(input) && Objects.isNull(reader)) {
+            try {
+                parseQuery(new String(this.getInputStream().readAllBytes(), charset), charset, values);
+            } catch (IOException e) {
+                // the cause is answered by the dispatcher, e.g. 413 of DecodingException
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        Map<String, String[]> result = new LinkedHashMap<>(values.size());
+        values.forEach((name, list) -> result.put(name, list.toArray(new String[0])));
+        return result;
+    }
+
+    private static void parseQuery(String query, Charset charset, Map<String, List<String>> values) {
+        if (StringUtils.isEmpty(query))
+            return;
+
+        for (String pair : StringUtils.split(query, '&')) {
+            int index = pair.indexOf('=');
+            String name = URLDecoder.decode(index < 0 ? pair : pair.substring(0, index), charset);
+            String value = index < 0 ? StringUtils.EMPTY : URLDecoder.decode(pair.substring(index + 1), charset);
+            values.computeIfAbsent(name, k -> new ArrayList<>(1)).add(value);
+        }
+    }
+
+    private Charset charset() {
+        String characterEncoding = this.getCharacterEncoding();
+        try {
+            return StringUtils.isEmpty(characterEncoding) ? StandardCharsets.UTF_8 : Charset.forName(characterEncoding);
+        } catch (IllegalArgumentException e) {
+            return StandardCharsets.UTF_8;
+        }
+    }
+
+    private static boolean isHidden(String name) {
+        return HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(name) || HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name);
+    }
+
+    /**
+     * The compressed body can not be decoded, answered with the status:
+     * 413 over the limits, 400 malformed, 415 not supported.
+     */
+    @Getter
+    public static class DecodingException extends IOException {
+        private final int status;
+
+        public DecodingException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    /*
+     * Counts the compressed bytes read from the container.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream input) {
+            super(input);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0)
+                ++count;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0)
+                count += n;
+            return n;
+        }
+    }
+
+    /*
+     * Decoded stream, the decoder is created by the first read.
+     */
+    private final class DecodingInputStream extends ServletInputStream {
+        private final ServletInputStream raw;
+        private final CountingInputStream counting;
+        private InputStream decoder;
+        private Inflater inflater;
+        private long decoded;
+        private boolean finished;
+        private boolean recorded;
+
+        DecodingInputStream(ServletInputStream raw) {
+            this.raw = raw;
+            this.counting = new CountingInputStream(raw);
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            int n = this.read(one, 0, 1);
+            return n < 0 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (finished)
+                return -1;
+
+            if (len == 0)
+                return 0;
+
+            int n;
+            try {
+                n = this.decoder().read(b, off, (int) Math.min(len, maxSize - decoded + 1L));
+            } catch (ZipException | EOFException e) {
+                this.reject();
+                throw new DecodingException(HttpServletResponse.SC_BAD_REQUEST,
+                        String.format("Request body is malformed %s: %s", encoding, e.getMessage()));
+            }
+
+            if (n < 0) {
+                finished = true;
+                this.record();
+                return -1;
+            }
+
+            decoded += n;
+            if (decoded > maxSize) {
+                this.reject();
+                throw new DecodingException(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE,
+                        String.format("Decoded request body is too large, over the limit %d", maxSize));
+            }
+
+            if (maxRatio > 0 && decoded > RATIO_THRESHOLD && decoded > counting.count * maxRatio) {
+                this.reject();
+                throw new DecodingException(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE,
+                        String.format("Request body compression ratio is over the limit %d", maxRatio));
+            }
+            return n;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return finished || Objects.isNull(decoder) ? 0 : decoder.available();
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            throw new IllegalStateException("Non-blocking read of the compressed request body is not supported");
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.end();
+            raw.close();
+        }
+
+        /*
+         * Release the native memory of the decoder, GZIPInputStream releases its own by close.
+         */
+        private void end() throws IOException {
+            if (Objects.nonNull(inflater))
+                inflater.end();
+            else if (Objects.nonNull(decoder))
+                decoder.close();
+        }
+
+        private InputStream decoder() throws IOException {
+            if (Objects.isNull(decoder)) {
+                if ("deflate".equals(encoding)) {
+                    // zlib (RFC 1950) as the spec, some clients send the raw deflate
+                    PushbackInputStream pushback = new PushbackInputStream(counting, 2);
+                    byte[] head = new byte[2];
+                    int n = pushback.readNBytes(head, 0, 2);
+                    pushback.unread(head, 0, n);
+                    boolean zlib = n == 2 && (head[0] & 0x0F) == 8 && ((head[0] & 0xFF) << 8 | (head[1] & 0xFF)) % 31 == 0;
+                    inflater = new Inflater(!zlib);
+                    decoder = new InflaterInputStream(pushback, inflater, BUFFER_SIZE);
+                } else {
+                    decoder = new GZIPInputStream(counting, BUFFER_SIZE);
+                }
+            }
+            return decoder;
+        }
+
+        private void record() throws IOException {
+            this.end();
+            if (!recorded) {
+                recorded = true;
+                DecodingTraffic.getInstance().recordDecoded(counting.count, decoded);
+            }
+        }
+
+        private void reject() throws IOException {
+            finished = true;
+            this.end();
+            if (!recorded) {
+                recorded = true;
+                DecodingTraffic.getInstance().recordRejected();
+            }
+        }
+    }
+}
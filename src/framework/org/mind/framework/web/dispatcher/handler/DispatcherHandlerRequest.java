@@ -1,51 +1,73 @@
 package org.mind.framework.web.dispatcher.handler;
 
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.ServletConfig;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.logging.log4j.Level;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.message.ParameterizedMessage;
-import org.apache.logging.log4j.spi.ExtendedLogger;
+import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.mind.framework.ContextSupport;
+import org.mind.framework.annotation.Mapping;
+import org.mind.framework.exception.BaseException;
 import org.mind.framework.exception.ThrowProvider;
 import org.mind.framework.http.Response;
 import org.mind.framework.util.DateUtils;
 import org.mind.framework.util.HttpUtils;
-import org.mind.framework.util.JsonUtils;
 import org.mind.framework.util.MatcherUtils;
 import org.mind.framework.util.ViewResolver;
 import org.mind.framework.web.Action;
 import org.mind.framework.web.container.ContainerAware;
+import org.mind.framework.web.dispatcher.limit.RateLimiting;
+import org.mind.framework.web.dispatcher.log.AccessLog;
 import org.mind.framework.web.dispatcher.support.Catcher;
+import org.mind.framework.web.dispatcher.support.Converter;
 import org.mind.framework.web.dispatcher.support.ConverterFactory;
+import org.mind.framework.web.interceptor.CorsInterceptor;
 import org.mind.framework.web.interceptor.DefaultUploadErrorInterceptor;
 import org.mind.framework.web.interceptor.ErrorInterceptor;
 import org.mind.framework.web.interceptor.HandlerInterceptor;
+import org.mind.framework.web.renderer.JsonRender;
+import org.mind.framework.web.renderer.JsonStreamRender;
 import org.mind.framework.web.renderer.Render;
-import org.mind.framework.web.renderer.TextRender;
+import org.mind.framework.web.renderer.SseRender;
 import org.mind.framework.web.server.WebServerConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.cors.CorsUtils;
 import org.springframework.web.multipart.MultipartException;
 import org.springframework.web.multipart.MultipartHttpServletRequest;
 import org.springframework.web.multipart.MultipartResolver;
+import org.springframework.web.util.ContentCachingResponseWrapper;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.Matcher;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 
 /**
@@ -54,16 +76,37 @@ import java.util.regex.Matcher;
  *
  * @author dp
  */
-public class DispatcherHandlerRequest implements HandlerRequest, HandlerResult {
+public class DispatcherHandlerRequest implements HandlerRequest, HandlerResult, RouteRegistry {
     private static final Logger log = LoggerFactory.getLogger("RequestHandler");
-    private static final Map<String, ExtendedLogger> TARGET_LOG_CACHEMAP = new ConcurrentHashMap<>();
+    private static final HandlerInterceptor[] EMPTY_INTERCEPTORS = new HandlerInterceptor[0];
 
-    private Map<String, Execution> actions;// URI regex mapping object
-    private List<String> urisRegex; // URI regex list
+    // request URIs of the parameterized routes memoized with the interceptors
+    private static final int INTERCEPTORS_MEMO_SIZE = 1024;
+
+    // not cached with the response: set by the cached response, the key headers or never cached, lower case
+    private static final Set<String> UNCACHED_HEADERS = Set.of("content-type", "content-length", "etag", "set-cookie", "vary");
+
+    // snapshot of the URI mappings, copy-on-write by the registry, lock-free for the requests
+    private volatile RouteTable routeTable = RouteTable.EMPTY;
+
+    // loads the mappings of the beans registered at runtime
+    private ContainerAware container;
+
+    // asynchronous access log of the actions
+    private final AccessLog accessLog = AccessLog.getInstance();
 
     // interceptor mapping
     private List<Catcher> interceptorsCatcher;
 
+    // interceptors of the parameterized routes by the request URI, the catchers match the concrete URI,
+    // so the URIs of one route may resolve different interceptors. Access-ordered, guarded by itself
+    private final Map<String, HandlerInterceptor[]> interceptorsMemo = new LinkedHashMap<>(256, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, HandlerInterceptor[]> eldest) {
+            return this.size() > INTERCEPTORS_MEMO_SIZE;
+        }
+    };
+
     // resource handler.
     private ResourceRequest resourceRequest;
 
@@ -75,31 +118,9 @@ public class DispatcherHandlerRequest implements HandlerRequest, HandlerResult {
 
     @Override
     public void init(ContainerAware container) throws ServletException {
-        this.urisRegex = new ArrayList<>();
+        this.container = container;
         this.interceptorsCatcher = new ArrayList<>();
-
-        // init Action Maps, support hot load, so used java.util.concurrent.ConcurrentHashMap.
-        this.actions = new HashMap<>(16) {
-            @Override
-            public Execution put(String key, Execution value) {
-                // convert URI to Regex
-                int argNumbers = MatcherUtils.checkCount(key, MatcherUtils.URI_PARAM_PATTERN);
-                String regexKey = argNumbers > 0 ? MatcherUtils.convertURI(key) : key;
-                if (this.containsKey(regexKey)) {
-                    log.error("URI mapping is a globally unique, and can not be repeated: [{}]", key);
-                    throw new IllegalArgumentException(String.format("URI mapping is a globally unique, and can not be repeated: [%s]", key));
-                }
-
-                // find args number
-                value.setArgsNumber(argNumbers);
-
-                // add uri regex to List
-                if (!key.equals(regexKey))
-                    urisRegex.add(regexKey);
-
-                return super.put(regexKey, value);
-            }
-        };
+        Map<String, Execution> routes = new LinkedHashMap<>(16);
 
         /*
          * init Action by Spring Container and create on the URI mapping relationship
@@ -108,7 +129,7 @@ public class DispatcherHandlerRequest implements HandlerRequest, HandlerResult {
         List<Catcher> mappingInterceptor = new ArrayList<>();
         for (Object bean : beanList) {
             container.loadInterceptor(bean, mappingInterceptor::add);
-            container.loadMapping(bean, this.actions::put);
+            container.loadMapping(bean, (route, execution) -> this.putRoute(routes, route, execution));
             container.loadCorsOrigin(bean, this.interceptorsCatcher::add);
         }
 
@@ -119,6 +140,15 @@ public class DispatcherHandlerRequest implements HandlerRequest, HandlerResult {
         // add to catcher list
         this.interceptorsCatcher.addAll(mappingInterceptor);
 
+        // publish the routes, the interceptors of the exact routes are pre-resolved
+        this.routeTable = this.buildTable(() -> RouteTable.of(routes));
+
+        // priority of the routes, for the load shedding before the dispatcher
+        RoutePriorities.register(this::priorityOf);
+
+        // access log writer
+        this.accessLog.start();
+
         // init MultipartResolver
         this.initMultipartResolver();
         this.initMultipartException();
@@ -156,21 +186,119 @@ public class DispatcherHandlerRequest implements HandlerRequest, HandlerResult {
 
     @Override
     public synchronized void destroy() {
-        if (!actions.isEmpty())
-            actions.clear();
-
-        if (!urisRegex.isEmpty())
-            urisRegex.clear();
+        RoutePriorities.register(null);
+        routeTable = RouteTable.EMPTY;
 
         if (!interceptorsCatcher.isEmpty())
             interceptorsCatcher.clear();
 
-        if (!TARGET_LOG_CACHEMAP.isEmpty())
-            TARGET_LOG_CACHEMAP.clear();
+        synchronized (interceptorsMemo) {
+            interceptorsMemo.clear();
+        }
+
+        accessLog.stop();
+
+        if (resourceRequest instanceof ResourceHandlerRequest handlerRequest && Objects.nonNull(handlerRequest.getCache()))
+            handlerRequest.getCache().destroy();
 
-        actions = null;
-        urisRegex = null;
         interceptorsCatcher = null;
+        container = null;
+    }
+
+    @Override
+    public synchronized void register(String route, Execution execution) {
+        Map<String, Execution> added = new LinkedHashMap<>(2);
+        this.putRoute(added, route, execution);
+        this.publish(added);
+    }
+
+    @Override
+    public synchronized Set<String> register(Object bean) {
+        if (Objects.isNull(container))
+            throw new IllegalStateException("The dispatcher is not initialized.");
+
+        Map<String, Execution> added = new LinkedHashMap<>();
+        container.loadMapping(bean, (route, execution) -> this.putRoute(added, route, execution));
+        this.publish(added);
+        return Collections.unmodifiableSet(added.keySet());
+    }
+
+    @Override
+    public synchronized boolean unregister(String route) {
+        return !this.remove(Collections.singleton(route)).isEmpty();
+    }
+
+    @Override
+    public synchronized Set<String> unregister(Object bean) {
+        Set<String> removed = new LinkedHashSet<>();
+        this.routeTable.routes().forEach((route, execution) -> {
+            if (execution.getActionInstance() == bean)
+                removed.add(route);
+        });
+        return this.remove(removed);
+    }
+
+    @Override
+    public Set<String> routes() {
+        return this.routeTable.routes().keySet();
+    }
+
+    private void publish(Map<String, Execution> added) {
+        if (added.isEmpty())
+            return;
+
+        RouteTable current = this.routeTable;
+        this.routeTable = this.buildTable(() -> current.with(added));
+        log.info("Registered URI mapping: {}", added.keySet());
+    }
+
+    private Set<String> remove(Set<String> removed) {
+        if (removed.isEmpty())
+            return Collections.emptySet();
+
+        RouteTable current = this.routeTable;
+        RouteTable table = current.without(removed);
+        if (table == current)
+            return Collections.emptySet();
+
+        Set<String> result = new LinkedHashSet<>(removed);
+        result.retainAll(current.routes().keySet());
+        this.routeTable = table;
+        log.info("Unregistered URI mapping: {}", result);
+        return result;
+    }
+
+    /*
+     * Build the snapshot and resolve the interceptors of the exact routes before it is published.
+     */
+    private RouteTable buildTable(Supplier<RouteTable> builder) {
+        RouteTable table;
+        try {
+            table = builder.get();
+        } catch (IllegalArgumentException e) {
+            log.error(e.getMessage());
+            throw e;
+        }
+
+        table.routes().forEach((uri, execution) -> {
+            if (execution.getArgsNumber() == 0 && Objects.isNull(execution.getInterceptors()))
+                execution.setInterceptors(this.matchInterceptors(uri));
+        });
+
+        // the removed routes are not kept
+        synchronized (interceptorsMemo) {
+            this.interceptorsMemo.clear();
+        }
+        return table;
+    }
+
+    private void putRoute(Map<String, Execution> routes, String route, Execution execution) {
+        try {
+            RouteTable.put(routes, route, execution);
+        } catch (IllegalArgumentException e) {
+            log.error(e.getMessage());
+            throw e;
+        }
     }
 
     @Override
@@ -180,12 +308,41 @@ public class DispatcherHandlerRequest implements HandlerRequest, HandlerResult {
         // customize response
         this.customizeResponse(request, response);
 
-        // check request is multipart request.
-        HttpServletRequest processedRequest = this.checkMultipart(request, response);
-        if (Objects.isNull(processedRequest))
+        final String requestURI = HttpUtils.getURI(request, false);
+
+        /*
+         * find action, exact match first, then the route trie.
+         */
+        final RouteTable table = this.routeTable;
+        Execution execution = table.exact(requestURI);
+        RouteTrie.Matched matched = null;
+        if (Objects.isNull(execution)) {
+            matched = table.lookup(requestURI);
+            if (Objects.nonNull(matched))
+                execution = matched.execution();
+        }
+
+        // CORS preflight, answered by the precomputed headers without the interceptors and the action
+        if (CorsUtils.isPreFlightRequest(request)) {
+            this.preflight(this.resolveInterceptors(requestURI, execution, matched), request, response);
             return;
+        }
 
-        final String requestURI = HttpUtils.getURI(processedRequest, false);
+        // decode the compressed request body (Content-Encoding: gzip/deflate) while it is read
+        HttpServletRequest processedRequest;
+        try {
+            processedRequest = ContentDecodingRequest.wrap(request);
+        } catch (ContentDecodingRequest.DecodingException e) {
+            this.decodingFailure(e, request, response);
+            return;
+        }
+
+        // check request is multipart request, the streaming multipart is read by the action.
+        if (Objects.isNull(execution) || Objects.isNull(execution.getMultipartStreaming())) {
+            processedRequest = this.checkMultipart(processedRequest, response);
+            if (Objects.isNull(processedRequest))
+                return;
+        }
 
         /*
          * Global interceptors for application containers
@@ -194,23 +351,13 @@ public class DispatcherHandlerRequest implements HandlerRequest, HandlerResult {
          * doAfter();
          * renderCompletion();
          */
-        List<HandlerInterceptor> currentInterceptors = new ArrayList<>();
-        if (Objects.nonNull(interceptorsCatcher)) {
-            for (Catcher catcher : interceptorsCatcher) {
-                if (!catcher.matchOne(requestURI, MatcherUtils.DEFAULT_EQ))// not-match
-                    continue;
-
-                HandlerInterceptor interceptor = catcher.getHandler();
-
-                // Interceptor doBefore
-                // return false, Return to the request page
-                if (!interceptor.doBefore(processedRequest, response)) {
-                    log.debug("Intercept access request URI: {}, The interception class is: {}", requestURI, interceptor.getClass().getSimpleName());
-                    return;
-                }
-
-                // Continue to use later: doAfter(), renderCompletion()
-                currentInterceptors.add(interceptor);
+        final HandlerInterceptor[] currentInterceptors = this.resolveInterceptors(requestURI, execution, matched);
+        for (HandlerInterceptor interceptor : currentInterceptors) {
+            // Interceptor doBefore
+            // return false, Return to the request page
+            if (!interceptor.doBefore(processedRequest, response)) {
+                log.debug("Intercept access request URI: {}, The interception class is: {}", requestURI, interceptor.getClass().getSimpleName());
+                return;
             }
         }
 
@@ -222,30 +369,20 @@ public class DispatcherHandlerRequest implements HandlerRequest, HandlerResult {
         if (this.resourceRequest.checkStaticResource(processedRequest, response))
             return;
 
-        // set response no-cache
-        this.processNoCache(response);
+        // set response no-cache, the action of @CacheControl sends its directives with the status 200/304
+        if (Objects.nonNull(execution) && Objects.nonNull(execution.getConditionalResponse()))
+            response.setHeader(HttpHeaders.CACHE_CONTROL, HandlerResult.NO_CACHE);
+        else
+            this.processNoCache(response);
 
         /*
-         * find and process action
+         * process action
          */
-        Execution execution = null;
         Object[] args = null;
-
-        // exact match
-        if (this.actions.containsKey(requestURI)) {
-            execution = this.actions.get(requestURI);
-            args = this.checkRequestArguments(execution);
-        } else {// regex find match
-            Matcher matcher;
-            for (String regex : this.urisRegex) {
-                matcher = MatcherUtils.matcher(requestURI, regex, MatcherUtils.DEFAULT_EQ);
-                if (!matcher.matches())// not-match
-                    continue;
-
-                execution = this.actions.get(regex);
-                args = this.checkRequestArguments(execution, matcher, requestURI);
-                break;
-            }
+        if (Objects.nonNull(execution)) {
+            args = Objects.isNull(matched) ?
+                    this.checkRequestArguments(execution) :
+                    this.checkRequestArguments(execution, matched, requestURI);
         }
 
         /*
@@ -277,74 +414,535 @@ public class DispatcherHandlerRequest implements HandlerRequest, HandlerResult {
             return;
         }
 
-        if (execution.isRequestLog() && !execution.isSimpleLogging()) {
-            this.targetLog(execution, new ParameterizedMessage("[{}]", requestURI));
+        // request rate limit, 429 before the action runs
+        final RateLimiting rateLimiting = execution.getRateLimiting();
+        if (Objects.nonNull(rateLimiting)) {
+            long retryAfter = rateLimiting.tryAcquire(rateLimiting.key(processedRequest));
+            if (retryAfter > 0L) {
+                log.warn("[{}] - (429) Over the rate limit, retry after {}s", requestURI, retryAfter);
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+                this.renderError(
+                        HttpStatus.TOO_MANY_REQUESTS.value(),
+                        "The requested URL (429) Too many requests",
+                        Render.TOO_MANY_REQUESTS_HTML,
+                        processedRequest,
+                        response);
+                return;
+            }
+        }
+
+        // bind the POJO of the query/form parameters and the JSON request body, 400/413 before the action runs
+        final RequestParamBinding requestParams = execution.getRequestParams();
+        final RequestBodyBinding requestBody = execution.getRequestBody();
+        if (Objects.nonNull(requestParams) || Objects.nonNull(requestBody)) {
+            try {
+                if (Objects.nonNull(requestParams))
+                    args = requestParams.bind(processedRequest, args);
+                if (Objects.nonNull(requestBody))
+                    args = requestBody.bind(processedRequest, args);
+            } catch (RequestBodyBinding.BindingException e) {
+                log.warn("[{}] - ({}) {}", requestURI, e.getStatus(), e.getMessage());
+                this.renderError(
+                        e.getStatus(),
+                        e.getMessage(),
+                        e.getStatus() == HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE ? Render.PAYLOAD_TOO_LARGE_HTML : Render.BAD_REQUEST_HTML,
+                        processedRequest,
+                        response);
+                return;
+            }
+        }
+
+        // streaming multipart, the parts are parsed while the action reads them
+        final MultipartStreaming streaming = execution.getMultipartStreaming();
+        if (Objects.nonNull(streaming)) {
+            try {
+                args = streaming.bind(processedRequest, args);
+            } catch (MultipartException e) {
+                this.multipartFailure(e, processedRequest, response);
+                return;
+            }
+        }
+
+        // response cache of the GET action
+        final ResponseCaching caching = execution.getResponseCaching();
+        String cacheKey = null;
+        CachedResponse cachedResponse = null;
+        if (Objects.nonNull(caching) && caching.isCacheable(processedRequest)) {
+            caching.addVary(response);
+            cacheKey = caching.key(processedRequest, requestURI);
+            cachedResponse = caching.get(cacheKey);
+        }
+
+        // coalesce the identical concurrent GET requests, wait for the first one
+        final RequestCoalescing coalescing = execution.getRequestCoalescing();
+        RequestCoalescing.Flight flight = null;
+        if (Objects.isNull(cachedResponse) && Objects.nonNull(coalescing) && coalescing.isCoalescing(processedRequest)) {
+            flight = coalescing.join(coalescing.key(processedRequest, requestURI));
+            if (!flight.leader()) {
+                cachedResponse = coalescing.await(flight);
+                flight = null;
+            }
         }
 
+        // weak ETag and Cache-Control of the rendered body
+        final ConditionalResponse conditional = execution.getConditionalResponse();
+
         // execute action
         Object result;
+        boolean async = false;
+        ContentCachingResponseWrapper cachingResponse = null;
+        JsonStreamRender streamed = null;
+        boolean sharing = false;
+        Set<String> presetHeaders = null;
+        final ConcurrencyLimiter limiter = execution.getConcurrencyLimiter();
+        long permit = -1L;
+        int failedStatus = 0;
+        long responseBytes = -1L;
         try {
-            Action.setActionContext(processedRequest, response);
-            result = execution.execute(args);
+            if (Objects.nonNull(cachedResponse)) {
+                Action.setActionContext(processedRequest, response);
+                if (Objects.nonNull(conditional))
+                    conditional.applyHeaders(response);
+                result = cachedResponse;
+                responseBytes = cachedResponse.length();
+            } else {
+                // over the concurrency limit, fast 503 before the action runs
+                if (Objects.nonNull(limiter)) {
+                    permit = limiter.acquire();
+                    if (permit < 0L) {
+                        log.warn("[{}] - (503) Over the concurrency limit: {}", requestURI, limiter.getLimit());
+                        this.renderError(
+                                HttpServletResponse.SC_SERVICE_UNAVAILABLE,
+                                "The requested URL (503) is busy, please try again later",
+                                Render.SERVICE_UNAVAILABLE_HTML,
+                                processedRequest,
+                                response);
+                        return;
+                    }
+                }
 
-            // Interceptor doAfter
-            if (!currentInterceptors.isEmpty()) {
-                for (HandlerInterceptor interceptor : currentInterceptors)
-                    interceptor.doAfter(processedRequest, response);
+                // capture the rendered bytes, HEAD has no body to cache
+                sharing = (Objects.nonNull(cacheKey) || Objects.nonNull(flight)) && HttpMethod.GET.matches(processedRequest.getMethod());
+                if (sharing || (Objects.nonNull(conditional) && conditional.isRevalidated(processedRequest)))
+                    cachingResponse = new ContentCachingResponseWrapper(response);
+
+                // the headers set after are cached with the body
+                if (sharing)
+                    presetHeaders = Set.copyOf(response.getHeaderNames());
+
+                Action.setActionContext(processedRequest, Objects.isNull(cachingResponse) ? response : cachingResponse);
+                result = execution.execute(args);
+            }
+
+            // asynchronous action, release the container thread and render on completion
+            if (result instanceof CompletionStage<?> stage) {
+                // the asynchronous result is not cached
+                if (Objects.nonNull(cachingResponse)) {
+                    cachingResponse.copyBodyToResponse();
+                    cachingResponse = null;
+                }
+
+                if (processedRequest.isAsyncSupported()) {
+                    this.processAsync(stage, execution, currentInterceptors, processedRequest, response, requestURI, begin, permit);
+                    async = true;
+                    return;
+                }
+
+                // some filter or valve does not support async, wait for the result
+                try {
+                    result = this.awaitResult(stage, execution);
+                } catch (TimeoutException e) {
+                    log.warn("[{}] - Asynchronous action timed out: {}", requestURI, e.getMessage());
+                    this.renderError(
+                            HttpServletResponse.SC_SERVICE_UNAVAILABLE,
+                            "The asynchronous request (503) timed out",
+                            Render.SERVICE_UNAVAILABLE_HTML,
+                            processedRequest,
+                            response);
+                    return;
+                }
             }
 
+            // the streamed result is not captured, the coalesced requests execute independently
+            if (JsonStreamRender.isStreaming(result)) {
+                streamed = JsonStreamRender.from(result);
+                result = streamed;
+
+                if (Objects.nonNull(cachingResponse)) {
+                    cachingResponse.copyBodyToResponse();
+                    cachingResponse = null;
+                }
+
+                if (Objects.nonNull(flight)) {
+                    coalescing.complete(flight, null, DateUtils.CachedTime.currentMillis() - begin);
+                    flight = null;
+                }
+            }
+
+            final HttpServletResponse renderResponse = Objects.isNull(cachingResponse) ? response : cachingResponse;
+
+            // the uncaptured response sends the declared directives too, e.g. eTag = false or the streamed result
+            if (Objects.nonNull(conditional) && Objects.isNull(cachingResponse) && response.getStatus() == HttpServletResponse.SC_OK)
+                conditional.applyHeaders(response);
+
+            // Interceptor doAfter
+            for (HandlerInterceptor interceptor : currentInterceptors)
+                interceptor.doAfter(processedRequest, renderResponse);
+
             // resolver result
-            this.handleResult(result, processedRequest, response);
+            this.handleResult(result, processedRequest, renderResponse);
 
             // Interceptor renderCompletion
-            if (!currentInterceptors.isEmpty())
-                currentInterceptors.forEach(interceptor -> interceptor.renderCompletion(processedRequest, response));
+            for (HandlerInterceptor interceptor : currentInterceptors)
+                interceptor.renderCompletion(processedRequest, renderResponse);
+
+            if (Objects.nonNull(cachingResponse)) {
+                responseBytes = cachingResponse.getContentSize();
+                if (sharing)
+                    this.shareResponse(caching, cacheKey, coalescing, flight, conditional, cachingResponse, presetHeaders, processedRequest, response, begin);
+                else
+                    conditional.complete(cachingResponse, processedRequest, response);
+            }
 
         } catch (IOException | ServletException e) {
+            // the compressed body is over the limits or malformed, thrown while the action reads it
+            ContentDecodingRequest.DecodingException de = ExceptionUtils.throwableOfType(e, ContentDecodingRequest.DecodingException.class);
+            if (Objects.nonNull(de) && !response.isCommitted()) {
+                failedStatus = this.decodingFailure(de, processedRequest, response);
+                return;
+            }
+
+            failedStatus = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
             throw e;
         } catch (Throwable e) {
+            // wrapped by the action or the converter
+            ContentDecodingRequest.DecodingException de = ExceptionUtils.throwableOfType(e, ContentDecodingRequest.DecodingException.class);
+            if (Objects.nonNull(de) && !response.isCommitted()) {
+                failedStatus = this.decodingFailure(de, processedRequest, response);
+                return;
+            }
+
+            // over the limits or malformed, thrown while the action reads the parts
+            if (e instanceof MultipartException me && Objects.nonNull(streaming)) {
+                failedStatus = this.multipartFailure(me, processedRequest, response);
+                return;
+            }
+
+            failedStatus = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
             Throwable c = Objects.isNull(e.getCause()) ? e : e.getCause();
             if (c instanceof IOException || c instanceof ServletException)
                 ThrowProvider.doThrow(c);
             else
                 throw new ServletException(c.getMessage(), c);// other exception throws with ServletException.
         } finally {
+            // closed here when the result is not rendered, e.g. an interceptor fails in doAfter
+            if (Objects.nonNull(streamed))
+                streamed.close();
+
+            // release the coalesced requests, they execute independently if not shared
+            if (Objects.nonNull(flight))
+                coalescing.complete(flight, null, DateUtils.CachedTime.currentMillis() - begin);
+
             Action.removeActionContext();
-            HandlerRequest.super.clear(request);
-
-            if (execution.isRequestLog()) {
-                long spendor = DateUtils.CachedTime.currentMillis() - begin;
-                this.targetLog(execution,
-                        execution.isSimpleLogging() ?
-                                new ParameterizedMessage("[{}] - [{}ms]", requestURI, spendor) :
-                                new ParameterizedMessage("Used time(ms): {}", spendor)
-                );
+            if (!async) {
+                if (Objects.nonNull(limiter))
+                    limiter.release(permit);
+                this.completeRequest(execution, request, response, requestURI, begin, failedStatus, responseBytes);
+            }
+        }
+    }
+
+    /**
+     * Share the captured response of status 200 to the response cache and the coalesced requests,
+     * then write it to the client, the response is answered with 304 when it matches <code>If-None-Match</code>.
+     * The response which sets cookie is not shared, the headers set by the action and its render are shared.
+     */
+    protected void shareResponse(ResponseCaching caching,
+                                 String cacheKey,
+                                 RequestCoalescing coalescing,
+                                 RequestCoalescing.Flight flight,
+                                 ConditionalResponse conditional,
+                                 ContentCachingResponseWrapper cachingResponse,
+                                 Set<String> presetHeaders,
+                                 HttpServletRequest request,
+                                 HttpServletResponse response,
+                                 long begin) throws IOException {
+        CachedResponse captured = null;
+        if (cachingResponse.getStatus() == HttpServletResponse.SC_OK && !cachingResponse.containsHeader(HttpHeaders.SET_COOKIE))
+            captured = new CachedResponse(
+                    cachingResponse.getContentAsByteArray(),
+                    cachingResponse.getContentType(),
+                    this.capturedHeaders(cachingResponse, presetHeaders));
+
+        if (Objects.nonNull(flight))
+            coalescing.complete(flight, captured, DateUtils.CachedTime.currentMillis() - begin);
+
+        if (Objects.isNull(captured)) {
+            cachingResponse.copyBodyToResponse();
+            return;
+        }
+
+        if (Objects.nonNull(cacheKey))
+            caching.put(cacheKey, captured);
+
+        if (Objects.nonNull(conditional))
+            conditional.applyHeaders(response);
+
+        // 304, discard the body
+        if (new ServletWebRequest(request, response).checkNotModified(captured.getETag()))
+            return;
+
+        cachingResponse.copyBodyToResponse();
+    }
+
+    /*
+     * Headers added since the action executes, the headers replaced by the cached response are excluded.
+     */
+    private Map<String, List<String>> capturedHeaders(HttpServletResponse response, Set<String> presetHeaders) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : response.getHeaderNames()) {
+            if (presetHeaders.contains(name) || UNCACHED_HEADERS.contains(name.toLowerCase(Locale.ROOT)))
+                continue;
+
+            headers.computeIfAbsent(name, k -> List.copyOf(response.getHeaders(k)));
+        }
+        return headers.isEmpty() ? Collections.emptyMap() : headers;
+    }
+
+    /**
+     * Start the {@link AsyncContext}, the result of the action is rendered by the thread which completes the stage.
+     * Interceptor doAfter/renderCompletion and the {@link Action} context are applied on that thread.
+     * Only one of completion, timeout or error finishes the request, and releases the concurrency permit.
+     */
+    protected void processAsync(CompletionStage<?> stage,
+                                Execution execution,
+                                HandlerInterceptor[] interceptors,
+                                HttpServletRequest request,
+                                HttpServletResponse response,
+                                String requestURI,
+                                long begin,
+                                long permit) {
+        final AsyncContext asyncContext = request.startAsync(request, response);
+        if (execution.getAsyncTimeout() > -1L)
+            asyncContext.setTimeout(execution.getAsyncTimeout());
+
+        final AtomicBoolean finished = new AtomicBoolean(false);
+        asyncContext.addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) throws IOException {
+                if (!finished.compareAndSet(false, true))
+                    return;
+
+                log.warn("[{}] - Asynchronous action timed out after {}ms", requestURI, asyncContext.getTimeout());
+                try {
+                    renderError(
+                            HttpServletResponse.SC_SERVICE_UNAVAILABLE,
+                            "The asynchronous request (503) timed out",
+                            Render.SERVICE_UNAVAILABLE_HTML,
+                            request,
+                            response);
+                } catch (ServletException e) {
+                    log.error(e.getMessage(), e);
+                } finally {
+                    completeAsync(execution, request, response, requestURI, begin, permit, 0);
+                    asyncContext.complete();
+                }
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+                if (!finished.compareAndSet(false, true))
+                    return;
+
+                log.warn("[{}] - Asynchronous request error: {}", requestURI, event.getThrowable().getMessage());
+                completeAsync(execution, request, response, requestURI, begin, permit, HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                asyncContext.complete();
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+
+        stage.whenComplete((value, throwable) -> {
+            // timed out or broken
+            if (!finished.compareAndSet(false, true))
+                return;
+
+            Throwable failure = null;
+            try {
+                Action.setActionContext(request, response);
+                if (Objects.nonNull(throwable))
+                    ThrowProvider.doThrow(throwable);
+
+                // the asynchronous result is not captured
+                ConditionalResponse conditional = execution.getConditionalResponse();
+                if (Objects.nonNull(conditional) && response.getStatus() == HttpServletResponse.SC_OK)
+                    conditional.applyHeaders(response);
+
+                // Interceptor doAfter
+                for (HandlerInterceptor interceptor : interceptors)
+                    interceptor.doAfter(request, response);
+
+                // resolver result
+                this.handleResult(value, request, response);
+
+                // Interceptor renderCompletion
+                for (HandlerInterceptor interceptor : interceptors)
+                    interceptor.renderCompletion(request, response);
+
+            } catch (Throwable e) {
+                failure = e;
+            } finally {
+                Action.removeActionContext();
+                this.completeAsync(execution, request, response, requestURI, begin, permit,
+                        Objects.isNull(failure) ? 0 : HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                if (Objects.nonNull(failure))
+                    this.asyncException(failure, request, response);
+
+                // the event stream completes the response by itself
+                if (Objects.nonNull(failure) || !(value instanceof SseRender))
+                    asyncContext.complete();
+            }
+        });
+    }
+
+    /**
+     * Wait for the asynchronous result on the current thread, when the request does not support async.
+     * The container thread is held, the wait is bounded by <code>server.asyncTimeout</code> if the action has no timeout.
+     *
+     * @throws TimeoutException the result is not completed in time.
+     */
+    protected Object awaitResult(CompletionStage<?> stage, Execution execution) throws Throwable {
+        long timeout = execution.getAsyncTimeout() > 0L ? execution.getAsyncTimeout() : WebServerConfig.INSTANCE.getAsyncTimeout();
+        CompletableFuture<?> future = stage.toCompletableFuture();
+        try {
+            return timeout > 0L ? future.get(timeout, TimeUnit.MILLISECONDS) : future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (TimeoutException e) {
+            throw new TimeoutException(String.format("not completed after %dms", timeout));
+        }
+    }
+
+    /*
+     * The exception can not be thrown to the container after the async started,
+     * send the error and let the container render the error page when the async completes.
+     */
+    private void asyncException(Throwable e, HttpServletRequest request, HttpServletResponse response) {
+        Throwable c = e;
+        while ((c instanceof CompletionException || c instanceof ExecutionException) && Objects.nonNull(c.getCause()))
+            c = c.getCause();
+
+        log.error("[{}] - Asynchronous action failed: {}", HttpUtils.getURI(request), c.getMessage(), c);
+        if (response.isCommitted())
+            return;
+
+        request.setAttribute(BaseException.SYS_EXCEPTION, c);
+        HandlerResult.setRequestAttribute(request);
+        try {
+            response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        } catch (IOException | IllegalStateException ignored) {
+        }
+    }
+
+    /*
+     * DispatcherServlet does not clean up the multipart request after the async started.
+     */
+    private void completeAsync(Execution execution,
+                               HttpServletRequest request,
+                               HttpServletResponse response,
+                               String requestURI,
+                               long begin,
+                               long permit,
+                               int failedStatus) {
+        if (Objects.nonNull(execution.getConcurrencyLimiter()))
+            execution.getConcurrencyLimiter().release(permit);
+
+        this.completeRequest(execution, request, response, requestURI, begin, failedStatus, -1L);
+        this.clear(request);
+    }
+
+    private void completeRequest(Execution execution,
+                                 HttpServletRequest request,
+                                 HttpServletResponse response,
+                                 String requestURI,
+                                 long begin,
+                                 int failedStatus,
+                                 long responseBytes) {
+        // access log is written by the background writer
+        if (execution.isRequestLog()) {
+            int status = failedStatus > 0 ? failedStatus : response.getStatus();
+            accessLog.offer(
+                    execution,
+                    requestURI,
+                    request.getMethod(),
+                    HttpUtils.getRequestIP(request),
+                    status,
+                    begin,
+                    DateUtils.CachedTime.currentMillis(),
+                    request.getContentLengthLong(),
+                    status == HttpServletResponse.SC_NOT_MODIFIED ? 0L : responseBytes);
+        }
+
+        HandlerRequest.super.clear(request);
+    }
+
+    /**
+     * Priority of the route, {@link Mapping.Priority#NORMAL} if not mapped.
+     */
+    protected Mapping.Priority priorityOf(String requestURI) {
+        final RouteTable table = this.routeTable;
+        Execution execution = table.exact(requestURI);
+        if (Objects.isNull(execution)) {
+            RouteTrie.Matched matched = table.lookup(requestURI);
+            if (Objects.isNull(matched))
+                return Mapping.Priority.NORMAL;
+            execution = matched.execution();
+        }
+        return execution.getPriority();
+    }
+
+    /**
+     * The interceptors of exact routes are resolved in {@link #init(ContainerAware)}, parameterized routes
+     * are memoized by the request URI (least recently used is evicted), other URIs (static resource, 404) are matched each time.
+     */
+    protected HandlerInterceptor[] resolveInterceptors(String requestURI, Execution execution, RouteTrie.Matched matched) {
+        if (Objects.nonNull(execution) && Objects.isNull(matched) && Objects.nonNull(execution.getInterceptors()))
+            return execution.getInterceptors();
+
+        if (Objects.isNull(matched))
+            return this.matchInterceptors(requestURI);
+
+        HandlerInterceptor[] interceptors;
+        synchronized (interceptorsMemo) {
+            interceptors = interceptorsMemo.get(requestURI);
+        }
+
+        if (Objects.isNull(interceptors)) {
+            interceptors = this.matchInterceptors(requestURI);
+            synchronized (interceptorsMemo) {
+                interceptorsMemo.put(requestURI, interceptors);
             }
         }
+        return interceptors;
     }
 
-    private void targetLog(Execution execution, ParameterizedMessage message) {
-        Class<?> target = execution.getActionInstance().getClass();
-        ExtendedLogger targetLoger = TARGET_LOG_CACHEMAP.computeIfAbsent(
-                target.getName(),
-                className -> (ExtendedLogger) LogManager.getLogger(className)
-        );
+    private HandlerInterceptor[] matchInterceptors(String uri) {
+        if (Objects.isNull(interceptorsCatcher) || interceptorsCatcher.isEmpty())
+            return EMPTY_INTERCEPTORS;
 
-        StackTraceElement location = new StackTraceElement(
-                target.getName(),                   // the fully declaring class name of class
-                execution.getMethod().getName(),    // method name
-                target.getSimpleName() + ".java",   // the file name of class
-                0                                   // line number(No got it)
-        );
+        List<HandlerInterceptor> list = new ArrayList<>(interceptorsCatcher.size());
+        for (Catcher catcher : interceptorsCatcher) {
+            if (catcher.matchOne(uri, MatcherUtils.DEFAULT_EQ))// matched
+                list.add(catcher.getHandler());
+        }
 
-        targetLoger.logMessage(
-                Level.INFO,
-                null,
-                target.getName(),
-                location,
-                message,
-                null
-        );
+        return list.isEmpty() ? EMPTY_INTERCEPTORS : list.toArray(new HandlerInterceptor[0]);
     }
 
     /**
@@ -393,13 +991,60 @@ public class DispatcherHandlerRequest implements HandlerRequest, HandlerResult {
         }
     }
 
+    private void preflight(HandlerInterceptor[] interceptors, HttpServletRequest request, HttpServletResponse response) {
+        for (HandlerInterceptor interceptor : interceptors) {
+            if (interceptor instanceof CorsInterceptor cors) {
+                cors.preflight(request, response);
+                return;
+            }
+        }
+
+        // not cross origin, the browser rejects it
+        response.setHeader(HttpHeaders.ALLOW, "GET, POST, PUT, DELETE, HEAD, OPTIONS");
+    }
+
+    /*
+     * Answer the compressed body which is over the limits, malformed or not supported.
+     */
+    private int decodingFailure(ContentDecodingRequest.DecodingException e, HttpServletRequest request, HttpServletResponse response) throws IOException, ServletException {
+        log.warn("[{}] - ({}) {}", HttpUtils.getURI(request), e.getStatus(), e.getMessage());
+        this.renderError(
+                e.getStatus(),
+                e.getMessage(),
+                switch (e.getStatus()) {
+                    case HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE -> Render.PAYLOAD_TOO_LARGE_HTML;
+                    case HttpServletResponse.SC_UNSUPPORTED_MEDIA_TYPE -> Render.UNSUPPORTED_MEDIA_TYPE_HTML;
+                    default -> Render.BAD_REQUEST_HTML;
+                },
+                request,
+                response);
+        return e.getStatus();
+    }
+
+    /*
+     * Answer the failure of the streaming multipart by the upload error interceptor, 400 if it is not answered.
+     */
+    private int multipartFailure(MultipartException e, HttpServletRequest request, HttpServletResponse response) throws IOException, ServletException {
+        log.warn("[{}] - Streaming multipart failed: {}", HttpUtils.getURI(request), e.getMessage());
+        this.multipartException.handleFailure(request, response, e);
+        if (!response.isCommitted() && response.getStatus() == HttpServletResponse.SC_OK) {
+            this.renderError(
+                    HttpServletResponse.SC_BAD_REQUEST,
+                    "Malformed multipart request",
+                    Render.BAD_REQUEST_HTML,
+                    request,
+                    response);
+        }
+        return response.getStatus();
+    }
+
     @Override
     public void handleResult(Object result, HttpServletRequest request, HttpServletResponse response) throws IOException, ServletException {
         if (Objects.isNull(result))
             return;
 
         ConverterFactory converterFactory = ConverterFactory.getInstance();
-        if (converterFactory.isConvert(result.getClass())) {
+        if (converterFactory.isText(result.getClass())) {
             Render.stringRender(result.toString()).render(request, response);
             return;
         }
@@ -409,7 +1054,15 @@ public class DispatcherHandlerRequest implements HandlerRequest, HandlerResult {
             return;
         }
 
-        new TextRender(JsonUtils.toJson(result)).render(request, response);
+        // rendered element by element, the stream is closed when completed
+        JsonStreamRender streamed = JsonStreamRender.from(result);
+        if (Objects.nonNull(streamed)) {
+            streamed.render(request, response);
+            return;
+        }
+
+        // serialized straight to the response
+        new JsonRender(result).render(request, response);
     }
 
     /**
@@ -428,30 +1081,28 @@ public class DispatcherHandlerRequest implements HandlerRequest, HandlerResult {
         response.setDateHeader(HttpHeaders.EXPIRES, 0L);
     }
 
-    protected Object[] checkRequestArguments(Execution execution, Matcher matcher, String requestURI) {
-        Object[] args = null;
+    /**
+     * Convert the captured URI regions by the converters resolved in the {@link Execution}, without copy.
+     */
+    protected Object[] checkRequestArguments(Execution execution, RouteTrie.Matched matched, String requestURI) {
         int number = execution.getArgsNumber();
-        if (number > 0) {
-            args = new Object[number];
+        if (number < 1)
+            return null;
 
-            // Fetch request parameters in the URI
-            Class<?> type;
-            for (int i = 0; i < number; ++i) {
-                try {
-                    type = execution.getParameterTypes()[i];
-                } catch (ArrayIndexOutOfBoundsException e) {
-                    throw new IllegalArgumentException("[" + requestURI + "] - Method is missing URL parameter. " + e.getMessage());
-                }
+        Object[] args = new Object[number];
+        Converter<?>[] converters = execution.getConverters();
+        for (int i = 0; i < number; ++i) {
+            if (i >= converters.length || i >= matched.count())
+                throw new IllegalArgumentException("[" + requestURI + "] - Method is missing URL parameter.");
 
-                if (String.class.getName().equals(type.getName()))
-                    args[i] = matcher.group(i + 1);// segmentation fetch
-                else {
-                    try {
-                        args[i] = ConverterFactory.getInstance().convert(type, matcher.group(i + 1));
-                    } catch (NumberFormatException | NullPointerException e) {
-                        throw new IllegalArgumentException("[" + requestURI + "] - URL parameters type was incorrect. " + e.getMessage());
-                    }
-                }
+            Converter<?> converter = converters[i];
+            if (Objects.isNull(converter))
+                throw new IllegalArgumentException("[" + requestURI + "] - URL parameters type was not supported: " + execution.getParameterTypes()[i].getName());
+
+            try {
+                args[i] = converter.convert(matched.uri(), matched.start(i), matched.end(i));
+            } catch (IllegalArgumentException | DateTimeException | NullPointerException e) {
+                throw new IllegalArgumentException("[" + requestURI + "] - URL parameters type was incorrect. " + e.getMessage());
             }
         }
         return args;
@@ -4,6 +4,10 @@ import lombok.Getter;
 import lombok.Setter;
 import org.mind.framework.annotation.Mapping;
 import org.mind.framework.util.ReflectionUtils;
+import org.mind.framework.web.dispatcher.support.Converter;
+import org.mind.framework.web.dispatcher.support.ConverterFactory;
+import org.mind.framework.web.dispatcher.limit.RateLimiting;
+import org.mind.framework.web.interceptor.HandlerInterceptor;
 import org.springframework.web.bind.annotation.RequestMethod;
 
 import java.lang.reflect.Method;
@@ -26,12 +30,18 @@ public class Execution {
     // Method instance
     private final Method method;
 
+    // Generated invoker of the method, bound to the action instance
+    private final ActionInvoker invoker;
+
     // Http request method
     private final RequestMethod[] requestMethods;
 
     // Method's arguments types
     private final Class<?>[] parameterTypes;
 
+    // Converter of each argument, resolved when the route is registered, null if not convertible
+    private final Converter<?>[] converters;
+
     // Method's need arguments
     private final Object[] arguments;
 
@@ -45,26 +55,88 @@ public class Execution {
     // Simple one line logging
     private final boolean simpleLogging;
 
+    // Timeout(ms) of the asynchronous action, -1 is the container default
+    private final long asyncTimeout;
+
+    // Response cache of the GET action, null if not declared
+    private final ResponseCaching responseCaching;
+
+    // Weak ETag and Cache-Control of the GET action, null if not declared
+    private final ConditionalResponse conditionalResponse;
+
+    // Coalescing of the identical concurrent GET requests, null if not declared
+    private final RequestCoalescing requestCoalescing;
+
+    // Adaptive concurrency limiter, null if disabled
+    private final ConcurrencyLimiter concurrencyLimiter;
+
+    // Request rate limit, null if not declared
+    private final RateLimiting rateLimiting;
+
+    // Binding of the POJO parameters from the query/form parameters, null if not declared
+    private final RequestParamBinding requestParams;
+
+    // Binding of the @RequestBody parameter, null if not declared
+    private final RequestBodyBinding requestBody;
+
+    // Streaming multipart of the MultipartParts parameter, null if not declared
+    private final MultipartStreaming multipartStreaming;
+
+    // Priority under overload, the low priority request is shed first
+    private final Mapping.Priority priority;
+
+    // Pre-resolved interceptors of the exact route, immutable after init
+    @Setter
+    private HandlerInterceptor[] interceptors;
+
     public Execution(Object actionInstance, Method method, Mapping mapping) {
-        this(actionInstance, method, null, mapping);
+        this(actionInstance, method, (Object[]) null, mapping);
+    }
+
+    public Execution(Object actionInstance, Method method, ActionInvoker invoker, Mapping mapping) {
+        this(actionInstance, method, invoker, null, mapping);
     }
 
     public Execution(Object actionInstance, Method method, Object[] arguments, Mapping mapping) {
+        this(actionInstance, method, ActionInvokers.create(actionInstance, method), arguments, mapping);
+    }
+
+    public Execution(Object actionInstance, Method method, ActionInvoker invoker, Object[] arguments, Mapping mapping) {
         this.actionInstance = actionInstance;
         this.method = method;
+        this.invoker = invoker;
         this.parameterTypes = method.getParameterTypes();
+        this.converters = new Converter<?>[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; ++i)
+            this.converters[i] = ConverterFactory.getInstance().getConverter(parameterTypes[i]);
         this.arguments = arguments;
         this.requestMethods = mapping.method();
         this.requestLog = mapping.requestLog();
         this.simpleLogging = mapping.simpleLogging();
+        this.asyncTimeout = mapping.asyncTimeout();
+        this.responseCaching = ResponseCaching.of(method);
+        this.conditionalResponse = ConditionalResponse.of(method);
+        this.requestCoalescing = RequestCoalescing.of(method);
+        this.concurrencyLimiter = ConcurrencyLimiter.of(method, mapping);
+        this.rateLimiting = RateLimiting.of(method);
+        this.requestParams = RequestParamBinding.of(method);
+        this.requestBody = RequestBodyBinding.of(method);
+        this.multipartStreaming = MultipartStreaming.of(method);
+        this.priority = mapping.priority();
     }
 
     public Object execute() {
-        return ReflectionUtils.invokeMethod(method, actionInstance, arguments);
+        return this.execute(arguments);
     }
 
     public Object execute(Object[] arguments) {
-        return ReflectionUtils.invokeMethod(method, actionInstance, arguments);
+        try {
+            return invoker.invoke(arguments);
+        } catch (Throwable e) {
+            // as same as the reflection: unchecked rethrow, checked wrapped with IllegalStateException
+            ReflectionUtils.rethrowRuntimeException(e);
+        }
+        throw new IllegalStateException("Should never get here");
     }
 
     public boolean isSupportMethod(String method) {
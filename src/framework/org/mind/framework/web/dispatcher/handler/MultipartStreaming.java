@@ -0,0 +1,83 @@
+package org.mind.framework.web.dispatcher.handler;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.Getter;
+import org.mind.framework.annotation.StreamingMultipart;
+import org.mind.framework.web.dispatcher.multipart.MultipartParts;
+import org.mind.framework.web.server.WebServerConfig;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Streaming multipart of the action which declares a {@link MultipartParts} parameter, the request skips
+ * the <code>MultipartResolver</code> and the parts are parsed while the action reads them.
+ * The limits are declared by {@link StreamingMultipart}, or the <code>server.upload.*</code> settings.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@Getter
+public class MultipartStreaming {
+
+    // index of the parameter, the last one
+    private final int index;
+
+    // bytes
+    private final long maxPartSize;
+
+    // bytes
+    private final long maxTotalSize;
+
+    private final int maxParts;
+
+    private MultipartStreaming(int index, StreamingMultipart annotation) {
+        WebServerConfig config = WebServerConfig.INSTANCE;
+        this.index = index;
+        if (Objects.isNull(annotation)) {
+            this.maxPartSize = config.getUploadMaxPartSize();
+            this.maxTotalSize = config.getUploadMaxTotalSize();
+            this.maxParts = 100;
+        } else {
+            this.maxPartSize = annotation.maxPartSize() > 0L ? annotation.maxPartSize() : config.getUploadMaxPartSize();
+            this.maxTotalSize = annotation.maxTotalSize() > 0L ? annotation.maxTotalSize() : config.getUploadMaxTotalSize();
+            this.maxParts = annotation.maxParts();
+        }
+    }
+
+    /**
+     * @return null if the method has no {@link MultipartParts} parameter.
+     * @throws IllegalArgumentException when the parameter is not the last one.
+     */
+    public static MultipartStreaming of(Method method) {
+        Class<?>[] types = method.getParameterTypes();
+        for (int i = 0; i < types.length; ++i) {
+            if (types[i] != MultipartParts.class)
+                continue;
+
+            if (i != types.length - 1)
+                throw new IllegalArgumentException(
+                        String.format("MultipartParts must be the last parameter of '%s'", method.toGenericString()));
+            return new MultipartStreaming(i, method.getAnnotation(StreamingMultipart.class));
+        }
+        return null;
+    }
+
+    /**
+     * Bind the parts to the arguments of the URI parameters.
+     *
+     * @throws org.springframework.web.multipart.MultipartException when it is not a multipart request.
+     * @throws org.springframework.web.multipart.MaxUploadSizeExceededException when the Content-Length is over the max size.
+     */
+    public Object[] bind(HttpServletRequest request, Object[] args) throws IOException {
+        MultipartParts parts = MultipartParts.of(request, maxPartSize, maxTotalSize, maxParts);
+        Object[] bound = Objects.isNull(args) ?
+                new Object[index + 1] :
+                args.length > index ? args : Arrays.copyOf(args, index + 1);
+        bound[index] = parts;
+        return bound;
+    }
+}
@@ -0,0 +1,240 @@
+package org.mind.framework.web.dispatcher.handler;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+import org.mind.framework.annotation.RequestBody;
+import org.mind.framework.util.JsonUtils;
+import org.mind.framework.web.server.WebServerConfig;
+
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.nio.channels.Channels;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Binding of the parameter declared by {@link RequestBody}, the JSON body is read from the request input stream
+ * by the Gson {@link TypeAdapter} resolved when the route is registered.
+ * <p>
+ * The max size is checked by the <code>Content-Length</code> first, and enforced while reading,
+ * so a chunked body is never read over it.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@Getter
+public class RequestBodyBinding {
+    // bytes, max of the decoding buffer
+    private static final int BUFFER_SIZE = 8192;
+
+    // index of the parameter, the last one
+    private final int index;
+
+    private final Type type;
+
+    private final TypeAdapter<?> adapter;
+
+    // bytes
+    private final long maxSize;
+
+    private final boolean required;
+
+    public RequestBodyBinding(Type type, long maxSize, boolean required, boolean exposed) {
+        this(0, type, maxSize, required, exposed);
+    }
+
+    private RequestBodyBinding(int index, Type type, long maxSize, boolean required, boolean exposed) {
+        this.index = index;
+        this.type = type;
+        this.adapter = (exposed ? JsonUtils.getExposedSingleton() : JsonUtils.getSingleton()).getAdapter(TypeToken.get(type));
+        this.maxSize = maxSize;
+        this.required = required;
+    }
+
+    /**
+     * @return null if no parameter of the method is annotated by {@link RequestBody}.
+     * @throws IllegalArgumentException when the annotated parameter is not the last one.
+     */
+    public static RequestBodyBinding of(Method method) {
+        Annotation[][] annotations = method.getParameterAnnotations();
+        for (int i = 0; i < annotations.length; ++i) {
+            for (Annotation annotation : annotations[i]) {
+                if (annotation instanceof RequestBody body) {
+                    if (i != annotations.length - 1)
+                        throw new IllegalArgumentException(
+                                String.format("@RequestBody must be the last parameter of '%s'", method.toGenericString()));
+
+                    long maxSize = body.maxSize() > 0L ? body.maxSize() : WebServerConfig.INSTANCE.getMaxBodySize();
+                    return new RequestBodyBinding(i, method.getGenericParameterTypes()[i], maxSize, body.required(), body.exposed());
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Bind the body to the arguments of the URI parameters.
+     *
+     * @return the arguments of the action.
+     * @throws BindingException when the body is malformed, empty but required, or over the max size.
+     * @throws IOException      when the input stream fails, e.g. the client aborted.
+     */
+    public Object[] bind(HttpServletRequest request, Object[] args) throws IOException {
+        long contentLength = request.getContentLengthLong();
+        if (contentLength > maxSize)
+            throw new BindingException(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE,
+                    String.format("Request body is too large, %d bytes over the limit %d", contentLength, maxSize));
+
+        Object value = contentLength == 0L ?
+                null :
+                this.read(request.getInputStream(), charsetOf(request), contentLength);
+
+        if (Objects.isNull(value) && required)
+            throw new BindingException(HttpServletResponse.SC_BAD_REQUEST, "Request body is required");
+
+        Object[] bound = Objects.isNull(args) ?
+                new Object[index + 1] :
+                args.length > index ? args : Arrays.copyOf(args, index + 1);
+        bound[index] = value;
+        return bound;
+    }
+
+    /**
+     * Read one JSON value of the type from the stream.
+     *
+     * @return null if the stream is empty or the value is <code>null</code>.
+     * @throws BindingException when the body is malformed or over the max size.
+     */
+    public Object read(InputStream input, Charset charset) throws IOException {
+        return this.read(input, charset, -1L);
+    }
+
+    /**
+     * @param contentLength the decoding buffer is not larger than the known body, -1 if unknown.
+     */
+    public Object read(InputStream input, Charset charset, long contentLength) throws IOException {
+        LimitedInputStream limited = new LimitedInputStream(input, maxSize);
+        int bufferSize = contentLength > 0L ? (int) Math.min(contentLength, BUFFER_SIZE) : BUFFER_SIZE;
+        // replaces the malformed bytes as InputStreamReader does
+        Reader decoder = Channels.newReader(
+                Channels.newChannel(limited),
+                charset.newDecoder()
+                        .onMalformedInput(CodingErrorAction.REPLACE)
+                        .onUnmappableCharacter(CodingErrorAction.REPLACE),
+                bufferSize);
+        JsonReader reader = new JsonReader(decoder);
+        // as same as Gson#fromJson
+        reader.setLenient(true);
+        try {
+            try {
+                reader.peek();
+            } catch (EOFException e) {
+                // empty or blank body
+                return null;
+            }
+
+            Object value = adapter.read(reader);
+            if (reader.peek() != JsonToken.END_DOCUMENT)
+                throw new BindingException(HttpServletResponse.SC_BAD_REQUEST, "Request body has more than one JSON value");
+            return value;
+        } catch (BindingException e) {
+            throw e;
+        } catch (ContentDecodingRequest.DecodingException e) {
+            // the compressed body is over the limits or malformed
+            throw new BindingException(e.getStatus(), e.getMessage());
+        } catch (IOException | JsonParseException | IllegalStateException | NumberFormatException e) {
+            if (limited.exceeded)
+                throw new BindingException(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE,
+                        String.format("Request body is too large, over the limit %d", maxSize));
+
+            // malformed JSON, the input stream failure is not wrapped
+            if (e instanceof IOException && !(e instanceof EOFException) && !(e instanceof MalformedJsonException))
+                throw (IOException) e;
+
+            throw new BindingException(HttpServletResponse.SC_BAD_REQUEST, "Request body is malformed JSON: " + e.getMessage());
+        }
+    }
+
+    private static Charset charsetOf(HttpServletRequest request) {
+        String encoding = request.getCharacterEncoding();
+        if (StringUtils.isEmpty(encoding))
+            return StandardCharsets.UTF_8;
+
+        try {
+            return Charset.forName(encoding);
+        } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+            throw new BindingException(HttpServletResponse.SC_BAD_REQUEST, "Request charset is not supported: " + encoding);
+        }
+    }
+
+    /**
+     * The request body can not be bound, answered with the status.
+     */
+    @Getter
+    public static class BindingException extends RuntimeException {
+        private final int status;
+
+        public BindingException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    /*
+     * Counts the bytes and stops at the max size.
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+        private final long maxSize;
+        private long count;
+        private boolean exceeded;
+
+        LimitedInputStream(InputStream input, long maxSize) {
+            super(input);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0)
+                this.count(1);
+            return b;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            int n = super.read(bytes, offset, (int) Math.min(length, maxSize - count + 1L));
+            if (n > 0)
+                this.count(n);
+            return n;
+        }
+
+        private void count(int n) throws IOException {
+            count += n;
+            if (count > maxSize) {
+                exceeded = true;
+                throw new IOException("Request body is over the limit " + maxSize);
+            }
+        }
+    }
+}
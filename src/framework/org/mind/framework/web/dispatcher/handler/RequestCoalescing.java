@@ -0,0 +1,143 @@
+package org.mind.framework.web.dispatcher.handler;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.mind.framework.annotation.SingleFlight;
+import org.mind.framework.metric.CoalescingTraffic;
+import org.springframework.http.HttpMethod;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Single-flight of an action declared by {@link SingleFlight}, the identical concurrent GET requests
+ * wait for the first one and share its rendered response.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@Slf4j
+@Getter
+public class RequestCoalescing {
+    private static final String KEY_PREFIX = "flight_";
+
+    // the routes of the action share it
+    private static final Map<Method, RequestCoalescing> COALESCINGS = new ConcurrentHashMap<>();
+
+    // ms
+    private final long timeout;
+
+    private final String[] params;
+
+    private final String[] headers;
+
+    private final CoalescingTraffic traffic;
+
+    // in-flight requests by key, removed when the first one completes
+    private final Map<String, CompletableFuture<CachedResponse>> flights = new ConcurrentHashMap<>();
+
+    /**
+     * @param leader the first request of the key, which executes the action.
+     */
+    public record Flight(String key, CompletableFuture<CachedResponse> future, boolean leader) {
+    }
+
+    private RequestCoalescing(String name, SingleFlight annotation) {
+        this.timeout = annotation.unit().toMillis(annotation.timeout());
+        this.params = annotation.params();
+        this.headers = annotation.headers();
+        this.traffic = CoalescingTraffic.register(name);
+    }
+
+    /**
+     * @return null if the method is not annotated by {@link SingleFlight}, the routes of the method share the instance.
+     */
+    public static RequestCoalescing of(Method method) {
+        SingleFlight annotation = method.getAnnotation(SingleFlight.class);
+        if (Objects.isNull(annotation))
+            return null;
+
+        if (annotation.timeout() <= 0L) {
+            log.warn("Invalid @SingleFlight of '{}', the timeout must be greater than 0.", method.toGenericString());
+            return null;
+        }
+        return COALESCINGS.computeIfAbsent(method, m -> new RequestCoalescing(nameOf(m), annotation));
+    }
+
+    /*
+     * Unique name of the overloads and the classes of the same simple name, e.g. com.example.UserAction.find(long,String)
+     */
+    private static String nameOf(Method method) {
+        StringJoiner joiner = new StringJoiner(",", method.getDeclaringClass().getName() + "." + method.getName() + "(", ")");
+        for (Class<?> type : method.getParameterTypes())
+            joiner.add(type.getSimpleName());
+        return joiner.toString();
+    }
+
+    public boolean isCoalescing(HttpServletRequest request) {
+        return HttpMethod.GET.matches(request.getMethod());
+    }
+
+    public String key(HttpServletRequest request, String requestURI) {
+        return RequestKeys.of(KEY_PREFIX, request, requestURI, params, headers);
+    }
+
+    /**
+     * Join the in-flight request of the key, or lead a new one.
+     */
+    public Flight join(String key) {
+        CompletableFuture<CachedResponse> future = new CompletableFuture<>();
+        CompletableFuture<CachedResponse> inFlight = flights.putIfAbsent(key, future);
+        return Objects.isNull(inFlight) ?
+                new Flight(key, future, true) :
+                new Flight(key, inFlight, false);
+    }
+
+    /**
+     * Wait for the response of the first request.
+     *
+     * @return null if timed out or the response can not be shared, the request should execute independently.
+     */
+    public CachedResponse await(Flight flight) {
+        CachedResponse response = null;
+        try {
+            response = flight.future().get(timeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.debug("Coalesced request fallback: {}, {}", flight.key(), e.getClass().getSimpleName());
+        }
+
+        if (Objects.isNull(response)) {
+            traffic.recordFallback();
+            return null;
+        }
+
+        traffic.recordShared();
+        return response;
+    }
+
+    /**
+     * Complete the flight led by the request, the waiting requests are released.
+     * Only the first call takes effect.
+     *
+     * @param response null if the response can not be shared.
+     */
+    public void complete(Flight flight, CachedResponse response, long requestTime) {
+        if (!flight.leader())
+            return;
+
+        flights.remove(flight.key(), flight.future());
+        if (flight.future().complete(response))
+            traffic.recordExecuted(requestTime);
+    }
+}
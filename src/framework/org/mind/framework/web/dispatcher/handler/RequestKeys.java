@@ -0,0 +1,56 @@
+package org.mind.framework.web.dispatcher.handler;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.Objects;
+
+/**
+ * Key of the request built from the URI and the given params/headers, every name and value is
+ * prefixed by its length, so the separators in the values never collide,
+ * e.g. <code>7:/user/1?4:lang=1*2:en|6:Accept=4:json</code>
+ * <p>
+ * The count of the param values precedes them, the absent header is <code>-</code>.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+final class RequestKeys {
+
+    private static final char ABSENT = '-';
+
+    private RequestKeys() {
+    }
+
+    static String of(String prefix, HttpServletRequest request, String requestURI, String[] params, String[] headers) {
+        StringBuilder builder = new StringBuilder(prefix.length() + requestURI.length() + 32).append(prefix);
+        append(builder, requestURI);
+
+        char separator = '?';
+        for (String param : params) {
+            append(builder.append(separator), param).append('=');
+            String[] values = request.getParameterValues(param);
+            builder.append(Objects.isNull(values) ? 0 : values.length).append('*');
+            if (Objects.nonNull(values)) {
+                for (String value : values)
+                    append(builder, value);
+            }
+            separator = '&';
+        }
+
+        for (String header : headers) {
+            append(builder.append('|'), header).append('=');
+            String value = request.getHeader(header);
+            if (Objects.isNull(value))
+                builder.append(ABSENT);
+            else
+                append(builder, value);
+        }
+
+        return builder.toString();
+    }
+
+    private static StringBuilder append(StringBuilder builder, String value) {
+        return builder.append(value.length()).append(':').append(value);
+    }
+}
@@ -0,0 +1,85 @@
+package org.mind.framework.web.dispatcher.handler;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.Getter;
+import org.mind.framework.annotation.RequestBody;
+import org.mind.framework.web.dispatcher.support.BeanBinder;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Binding of the POJO parameters from the query/form parameters, by the {@link BeanBinder}
+ * generated when the route is registered. The POJO parameters follow the URI parameters.
+ * <pre>
+ * &#64;Mapping("/products/${category}")
+ * public List&lt;Product&gt; search(String category, ProductQuery query) {...}
+ * </pre>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@Getter
+public class RequestParamBinding {
+
+    // index of each POJO parameter
+    private final int[] indexes;
+
+    private final BeanBinder<?>[] binders;
+
+    private RequestParamBinding(int[] indexes, BeanBinder<?>[] binders) {
+        this.indexes = indexes;
+        this.binders = binders;
+    }
+
+    /**
+     * @return null if the method has no POJO parameter.
+     * @throws IllegalArgumentException when the binder of the POJO can not be generated.
+     */
+    public static RequestParamBinding of(Method method) {
+        Parameter[] parameters = method.getParameters();
+        List<Integer> indexes = new ArrayList<>(1);
+        List<BeanBinder<?>> binders = new ArrayList<>(1);
+        for (int i = 0; i < parameters.length; ++i) {
+            if (parameters[i].isAnnotationPresent(RequestBody.class) || !BeanBinder.isBindable(parameters[i].getType()))
+                continue;
+
+            indexes.add(i);
+            binders.add(BeanBinder.of(parameters[i].getType()));
+        }
+
+        if (indexes.isEmpty())
+            return null;
+        return new RequestParamBinding(indexes.stream().mapToInt(Integer::intValue).toArray(), binders.toArray(new BeanBinder<?>[0]));
+    }
+
+    /**
+     * Bind the parameters to the arguments of the URI parameters.
+     *
+     * @return the arguments of the action.
+     * @throws RequestBodyBinding.BindingException (400) when a parameter can not be converted.
+     */
+    public Object[] bind(HttpServletRequest request, Object[] args) {
+        int last = indexes[indexes.length - 1];
+        Object[] bound = Objects.isNull(args) ?
+                new Object[last + 1] :
+                args.length > last ? args : Arrays.copyOf(args, last + 1);
+
+        Map<String, String[]> parameters = request.getParameterMap();
+        for (int i = 0; i < indexes.length; ++i) {
+            try {
+                bound[indexes[i]] = binders[i].bind(parameters);
+            } catch (IllegalArgumentException e) {
+                throw new RequestBodyBinding.BindingException(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            }
+        }
+        return bound;
+    }
+}
@@ -11,9 +11,10 @@ import org.mind.framework.util.DateUtils;
 import org.mind.framework.util.HttpUtils;
 import org.mind.framework.util.IOUtils;
 import org.mind.framework.util.MatcherUtils;
-import org.mind.framework.util.ResponseUtils;
 import org.mind.framework.util.ViewResolver;
+import org.mind.framework.web.renderer.ByteRanges;
 import org.mind.framework.web.renderer.Render;
+import org.mind.framework.web.server.WebServerConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpHeaders;
@@ -26,6 +27,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
 
 /**
  * @author dp
@@ -52,9 +54,28 @@ public class ResourceHandlerRequest implements ResourceRequest {
      */
     private String maxAge = StringUtils.EMPTY;
 
+    /**
+     * hot files in memory, null if disabled.
+     */
+    private final StaticResourceCache cache;
+
     public ResourceHandlerRequest(ServletConfig config) {
         this.servletContext = config.getServletContext();
 
+        WebServerConfig serverConfig = WebServerConfig.INSTANCE;
+        if (serverConfig.getResourceCacheMaxSize() > 0L) {
+            this.cache = new StaticResourceCache(
+                    serverConfig.getResourceCacheMaxSize(),
+                    serverConfig.getResourceCacheMaxFileSize(),
+                    "on".equalsIgnoreCase(serverConfig.getCompression()) ? serverConfig.getCompressionMinSize() : -1,
+                    serverConfig.getCompressibleMimeType(),
+                    serverConfig.getResourceCacheRevalidate(),
+                    servletContext::getMimeType);
+            log.info("Static resource cache is enabled, max size: {} bytes.", serverConfig.getResourceCacheMaxSize());
+        } else {
+            this.cache = null;
+        }
+
         // load web application static resource strs.
         this.resStr = config.getInitParameter("resource");
         log.debug("resource suffix: {}", resStr);
@@ -116,6 +137,15 @@ public class ResourceHandlerRequest implements ResourceRequest {
         }
 
         Path path = Paths.get(this.servletContext.getRealPath(uri));
+        // the ranges are read from the disk
+        if (Objects.nonNull(cache) && StringUtils.isEmpty(request.getHeader(HttpHeaders.RANGE))) {
+            StaticResourceCache.Entry entry = cache.get(uri, path);
+            if (Objects.nonNull(entry)) {
+                this.write(entry, request, response);
+                return;
+            }
+        }
+
         if (!Files.exists(path)) {
             log.warn("[{}]{} - Access resource is not found.", HttpServletResponse.SC_NOT_FOUND, uri);
             this.renderError(HttpServletResponse.SC_NOT_FOUND, Render.NOT_FOUND_HTML, request, response);
@@ -137,26 +167,15 @@ public class ResourceHandlerRequest implements ResourceRequest {
         // Process last-modified header, if supported by the handler.
         String method = request.getMethod();
         boolean isGet = HttpMethod.GET.matches(method);
+        long lastModified = readAttributes.lastModifiedTime().toMillis();
+        String eTag = this.generateETag(contentSize, lastModified / 1_000L * 1_000L);
         if (isGet || HttpMethod.HEAD.matches(method)) {
-            long lastModified = readAttributes.lastModifiedTime().toMillis();
-            String eTag = this.generateETag(contentSize, lastModified / 1_000L * 1_000L);
             if (new ServletWebRequest(request, response).checkNotModified(eTag, lastModified) && isGet)
                 return;
         }
 
-        if (contentSize > Integer.MAX_VALUE)
-            response.setContentLengthLong(contentSize);
-        else
-            response.setContentLength((int) contentSize);
-
         // set cache:
-        if (this.expires < 0) {// -1
-            response.setHeader(HttpHeaders.CACHE_CONTROL, NO_CACHE);
-        } else if (this.expires > 0) {
-            response.setHeader(HttpHeaders.CACHE_CONTROL, maxAge);
-            // Reset HTTP 1.0 Expires header if present
-            response.setDateHeader(HttpHeaders.EXPIRES, DateUtils.CachedTime.currentMillis() + this.expires);
-        }
+        this.setCacheHeaders(response);
 
         // should download?
 //      String name = request.getParameter("_download");
@@ -166,10 +185,103 @@ public class ResourceHandlerRequest implements ResourceRequest {
 //      }
 
         String mime = servletContext.getMimeType(path.getFileName().toString());
-        response.setContentType(StringUtils.isEmpty(mime) ? MediaType.APPLICATION_OCTET_STREAM_VALUE : mime);
 
-        // write stream
-        ResponseUtils.write(response.getOutputStream(), path);
+        // write stream, or the requested ranges
+        ByteRanges.write(request, response, path, contentSize,
+                StringUtils.isEmpty(mime) ? MediaType.APPLICATION_OCTET_STREAM_VALUE : mime,
+                eTag, lastModified);
+    }
+
+    public StaticResourceCache getCache() {
+        return cache;
+    }
+
+    /*
+     * Write the cached file, the compressed variant is chosen by Accept-Encoding.
+     */
+    protected void write(StaticResourceCache.Entry entry,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        String method = request.getMethod();
+        boolean isGet = HttpMethod.GET.matches(method);
+        boolean isHead = HttpMethod.HEAD.matches(method);
+        if (entry.hasVariants())
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if ((isGet || isHead) &&
+                new ServletWebRequest(request, response).checkNotModified(entry.getETag(), entry.getLastModified()) && isGet)
+            return;
+
+        byte[] body = entry.getBytes();
+        if (entry.hasVariants()) {
+            String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+            String encoding = null;
+            if (Objects.nonNull(entry.getBrotli()) && accepts(acceptEncoding, StaticResourceCache.BROTLI))
+                encoding = StaticResourceCache.BROTLI;
+            else if (Objects.nonNull(entry.getGzip()) && accepts(acceptEncoding, StaticResourceCache.GZIP))
+                encoding = StaticResourceCache.GZIP;
+
+            if (Objects.nonNull(encoding)) {
+                body = entry.variant(encoding);
+                // the connector does not compress it again
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+            }
+        }
+
+        response.setContentLength(body.length);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        this.setCacheHeaders(response);
+        response.setContentType(StringUtils.isEmpty(entry.getMimeType()) ? MediaType.APPLICATION_OCTET_STREAM_VALUE : entry.getMimeType());
+
+        if (!isHead)
+            response.getOutputStream().write(body);
+    }
+
+    protected void setCacheHeaders(HttpServletResponse response) {
+        if (this.expires < 0) {// -1
+            response.setHeader(HttpHeaders.CACHE_CONTROL, NO_CACHE);
+        } else if (this.expires > 0) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, maxAge);
+            // Reset HTTP 1.0 Expires header if present
+            response.setDateHeader(HttpHeaders.EXPIRES, DateUtils.CachedTime.currentMillis() + this.expires);
+        }
+    }
+
+    /*
+     * The coding is listed in Accept-Encoding (or by *) and its q is not 0.
+     */
+    static boolean accepts(String acceptEncoding, String coding) {
+        if (StringUtils.isEmpty(acceptEncoding))
+            return false;
+
+        boolean wildcard = false;
+        for (String item : StringUtils.split(acceptEncoding, ',')) {
+            int index = item.indexOf(';');
+            String name = (index < 0 ? item : item.substring(0, index)).trim();
+            boolean matched = name.equalsIgnoreCase(coding);
+            if (!matched && !"*".equals(name))
+                continue;
+
+            boolean rejected = index >= 0 && isZeroQuality(item.substring(index + 1));
+            if (matched)
+                return !rejected;
+            wildcard = !rejected;
+        }
+        return wildcard;
+    }
+
+    private static boolean isZeroQuality(String params) {
+        for (String param : StringUtils.split(params, ';')) {
+            String p = param.trim();
+            if (p.length() > 2 && (p.charAt(0) == 'q' || p.charAt(0) == 'Q') && p.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(p.substring(2).trim()) <= 0D;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
     }
 
     protected String generateETag(long contentLength, long lastModified) {
@@ -0,0 +1,109 @@
+package org.mind.framework.web.dispatcher.handler;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.mind.framework.ContextSupport;
+import org.mind.framework.annotation.ResponseCache;
+import org.mind.framework.cache.AbstractCache;
+import org.mind.framework.cache.CacheElement;
+import org.mind.framework.cache.Cacheable;
+import org.mind.framework.cache.LruCache;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.RequestMethod;
+
+import java.lang.reflect.Method;
+import java.util.Objects;
+
+/**
+ * Response cache of an action declared by {@link ResponseCache}, the entries are stored in a {@link Cacheable}.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@Slf4j
+@Getter
+public class ResponseCaching {
+    private static final String KEY_PREFIX = "response" + AbstractCache.CACHE_DELIMITER;
+
+    // ms
+    private final long ttl;
+
+    private final String[] params;
+
+    private final String[] headers;
+
+    private final String cacheableName;
+
+    // resolved on first use, the spring container may not be ready when the route is registered
+    private volatile Cacheable cacheable;
+
+    private ResponseCaching(ResponseCache annotation) {
+        this.ttl = annotation.unit().toMillis(annotation.ttl());
+        this.params = annotation.params();
+        this.headers = annotation.headers();
+        this.cacheableName = annotation.cacheable();
+    }
+
+    /**
+     * @return null if the method is not annotated by {@link ResponseCache}.
+     */
+    public static ResponseCaching of(Method method) {
+        ResponseCache annotation = method.getAnnotation(ResponseCache.class);
+        if (Objects.isNull(annotation))
+            return null;
+
+        if (annotation.ttl() <= 0L) {
+            log.warn("Invalid @ResponseCache of '{}', the ttl must be greater than 0.", method.toGenericString());
+            return null;
+        }
+        return new ResponseCaching(annotation);
+    }
+
+    /**
+     * Only GET and HEAD read the cache, HEAD does not store it.
+     */
+    public boolean isCacheable(HttpServletRequest request) {
+        String method = request.getMethod();
+        return RequestMethod.GET.name().equals(method) || RequestMethod.HEAD.name().equals(method);
+    }
+
+    /**
+     * The key is URI + the given params + the given headers, see {@link RequestKeys}.
+     */
+    public String key(HttpServletRequest request, String requestURI) {
+        return RequestKeys.of(KEY_PREFIX, request, requestURI, params, headers);
+    }
+
+    public CachedResponse get(String key) {
+        CacheElement element = this.getCacheable().getCache(key, ttl);
+        return Objects.isNull(element) ? null : (CachedResponse) element.getValue();
+    }
+
+    public void put(String key, CachedResponse cachedResponse) {
+        this.getCacheable().addCache(key, cachedResponse, true);
+        log.debug("Cached response: {}, {} bytes", key, cachedResponse.length());
+    }
+
+    /**
+     * The headers of the key vary the response.
+     */
+    public void addVary(HttpServletResponse response) {
+        for (String header : headers)
+            response.addHeader(HttpHeaders.VARY, header);
+    }
+
+    private Cacheable getCacheable() {
+        Cacheable current = this.cacheable;
+        if (Objects.isNull(current)) {
+            current = StringUtils.isEmpty(cacheableName) ?
+                    LruCache.initCache() :
+                    ContextSupport.getBean(cacheableName, Cacheable.class);
+            this.cacheable = current;
+        }
+        return current;
+    }
+}
@@ -0,0 +1,37 @@
+package org.mind.framework.web.dispatcher.handler;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.mind.framework.annotation.Mapping;
+import org.mind.framework.util.HttpUtils;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Priority of the route of a request, resolved before the request reaches the dispatcher, e.g. by the load shedding valve.
+ * The unmapped request, e.g. static resource, is {@link Mapping.Priority#NORMAL}.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+public final class RoutePriorities {
+    private static final Function<String, Mapping.Priority> DEFAULT_RESOLVER = uri -> Mapping.Priority.NORMAL;
+
+    private static volatile Function<String, Mapping.Priority> resolver = DEFAULT_RESOLVER;
+
+    private RoutePriorities() {
+    }
+
+    /**
+     * Register the resolver of the request URI (without context path), null to reset.
+     */
+    public static void register(Function<String, Mapping.Priority> uriResolver) {
+        resolver = Objects.isNull(uriResolver) ? DEFAULT_RESOLVER : uriResolver;
+    }
+
+    public static Mapping.Priority of(HttpServletRequest request) {
+        Mapping.Priority priority = resolver.apply(HttpUtils.getURI(request, false));
+        return Objects.isNull(priority) ? Mapping.Priority.NORMAL : priority;
+    }
+}
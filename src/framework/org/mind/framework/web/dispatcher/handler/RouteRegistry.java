@@ -0,0 +1,54 @@
+package org.mind.framework.web.dispatcher.handler;
+
+import jakarta.servlet.ServletContext;
+
+import java.util.Set;
+
+/**
+ * Add or remove the URI mappings at runtime, e.g. feature toggles, plugins.
+ * The registry of the dispatcher is kept in the {@link ServletContext} attribute {@link #ATTRIBUTE}.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+public interface RouteRegistry {
+
+    String ATTRIBUTE = RouteRegistry.class.getName();
+
+    /**
+     * Register the route of the execution.
+     *
+     * @throws IllegalArgumentException when the route already exists.
+     */
+    void register(String route, Execution execution);
+
+    /**
+     * Register the routes of the {@link org.mind.framework.annotation.Mapping} methods of the bean.
+     *
+     * @return the registered routes.
+     * @throws IllegalArgumentException when a route already exists, none of the routes is registered.
+     */
+    Set<String> register(Object bean);
+
+    /**
+     * @return false if the route does not exist.
+     */
+    boolean unregister(String route);
+
+    /**
+     * Unregister the routes of the bean.
+     *
+     * @return the unregistered routes.
+     */
+    Set<String> unregister(Object bean);
+
+    /**
+     * The current routes, unmodifiable.
+     */
+    Set<String> routes();
+
+    static RouteRegistry of(ServletContext context) {
+        return (RouteRegistry) context.getAttribute(ATTRIBUTE);
+    }
+}
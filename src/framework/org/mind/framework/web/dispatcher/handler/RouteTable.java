@@ -0,0 +1,119 @@
+package org.mind.framework.web.dispatcher.handler;
+
+import org.mind.framework.util.MatcherUtils;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable snapshot of the URI mappings: the exact routes in a hash map, the parameterized routes in a {@link RouteTrie}.
+ * <p>
+ * A change builds a new snapshot (copy-on-write) and the dispatcher swaps it through a volatile reference,
+ * so the readers never lock and always see a complete table. Changes are rare (startup, feature toggles, plugins),
+ * rebuilding the table is cheap compared to locking every lookup.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+public final class RouteTable {
+    public static final RouteTable EMPTY = new RouteTable(Collections.emptyMap());
+
+    // all routes in registration order
+    private final Map<String, Execution> routes;
+
+    // URI exact mapping
+    private final Map<String, Execution> exact;
+
+    // URI parameterized mapping, not modified after built
+    private final RouteTrie trie;
+
+    private RouteTable(Map<String, Execution> routes) {
+        Map<String, Execution> exactRoutes = new HashMap<>(Math.max(16, routes.size() << 1));
+        RouteTrie routeTrie = new RouteTrie();
+
+        routes.forEach((route, execution) -> {
+            // find args number
+            int argNumbers = MatcherUtils.checkCount(route, MatcherUtils.URI_PARAM_PATTERN);
+            execution.setArgsNumber(argNumbers);
+
+            if (argNumbers > 0)
+                routeTrie.add(route, execution);
+            else
+                exactRoutes.put(route, execution);
+        });
+
+        this.routes = Collections.unmodifiableMap(routes);
+        this.exact = exactRoutes;
+        this.trie = routeTrie;
+    }
+
+    /**
+     * @throws IllegalArgumentException when a parameterized route is repeated, e.g. <code>/user/${id}</code> and <code>/user/${uid}</code>.
+     */
+    public static RouteTable of(Map<String, Execution> routes) {
+        return routes.isEmpty() ? EMPTY : new RouteTable(new LinkedHashMap<>(routes));
+    }
+
+    public Execution exact(String uri) {
+        return exact.get(uri);
+    }
+
+    /**
+     * @see RouteTrie#lookup(String)
+     */
+    public RouteTrie.Matched lookup(String uri) {
+        return trie.isEmpty() ? null : trie.lookup(uri);
+    }
+
+    /**
+     * A new table with the added routes.
+     *
+     * @throws IllegalArgumentException when a route already exists.
+     */
+    public RouteTable with(Map<String, Execution> added) {
+        Map<String, Execution> merged = new LinkedHashMap<>(routes);
+        added.forEach((route, execution) -> put(merged, route, execution));
+        return new RouteTable(merged);
+    }
+
+    /**
+     * A new table without the routes, the same table if none of them exists.
+     */
+    public RouteTable without(Collection<String> removed) {
+        Map<String, Execution> remaining = new LinkedHashMap<>(routes);
+        if (!remaining.keySet().removeAll(removed))
+            return this;
+        return of(remaining);
+    }
+
+    /**
+     * Add the route to the building routes.
+     *
+     * @throws IllegalArgumentException when the route already exists.
+     */
+    public static void put(Map<String, Execution> routes, String route, Execution execution) {
+        Objects.requireNonNull(execution);
+        if (Objects.nonNull(routes.putIfAbsent(route, execution)))
+            throw new IllegalArgumentException(String.format("URI mapping is a globally unique, and can not be repeated: [%s]", route));
+    }
+
+    /**
+     * All routes in registration order, unmodifiable.
+     */
+    public Map<String, Execution> routes() {
+        return routes;
+    }
+
+    public int size() {
+        return routes.size();
+    }
+
+    public boolean isEmpty() {
+        return routes.isEmpty();
+    }
+}
@@ -0,0 +1,354 @@
+package org.mind.framework.web.dispatcher.handler;
+
+import org.mind.framework.util.MatcherUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Segment trie of the parameterized URI mappings, built once when the dispatcher starts.
+ * <p>
+ * A route such as <code>/user/${id}/orders/*</code> is split on '/', each segment becomes
+ * a static node, a <code>${param}</code> capture node or a <code>*</code> wildcard node.
+ * A lookup walks the request URI once, static segments are preferred over captures,
+ * captures over wildcards. Segments mixing literal text with a parameter
+ * (<code>/item-${id}.html</code>) can not be represented by the trie, they are kept as
+ * precompiled patterns and tried after the trie.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+public final class RouteTrie {
+    private static final char SEPARATOR = '/';
+    private static final String WILDCARD = "*";
+    private static final String PARAM_PREFIX = "${";
+    private static final String PARAM_SUFFIX = "}";
+
+    private final Node root = new Node();
+
+    // routes which can't be split by segment
+    private final List<PatternRoute> patternRoutes = new ArrayList<>();
+
+    // maximum number of captures of all routes
+    private int maxCaptures;
+
+    private int size;
+
+    /**
+     * Add a parameterized route, the route must start with '/'.
+     *
+     * @throws IllegalArgumentException when the route already exists.
+     */
+    public void add(String route, Execution execution) {
+        Objects.requireNonNull(execution);
+        String[] segments = splitRoute(route);
+
+        if (!isSegmentable(segments)) {
+            Pattern pattern = Pattern.compile(MatcherUtils.convertURI(route), MatcherUtils.DEFAULT_EQ);
+            for (PatternRoute patternRoute : patternRoutes)
+                if (patternRoute.pattern.pattern().equals(pattern.pattern()))
+                    throw duplicate(route);
+
+            patternRoutes.add(new PatternRoute(route, pattern, execution));
+            ++size;
+            return;
+        }
+
+        Node node = root;
+        int captures = 0;
+        for (String segment : segments) {
+            if (WILDCARD.equals(segment)) {
+                if (Objects.isNull(node.wildcard))
+                    node.wildcard = new Node();
+                node = node.wildcard;
+            } else if (isParam(segment)) {
+                if (Objects.isNull(node.param))
+                    node.param = new Node();
+                node = node.param;
+                ++captures;
+            } else
+                node = node.addStatic(segment);
+        }
+
+        if (Objects.nonNull(node.execution))
+            throw duplicate(route);
+
+        node.execution = execution;
+        node.route = route;
+        node.captures = captures;
+        maxCaptures = Math.max(maxCaptures, captures);
+        ++size;
+    }
+
+    /**
+     * Find the route of the request URI.
+     *
+     * @param uri request URI, starts with '/'.
+     * @return matched route and the captured regions in declaration order, or null if not found.
+     */
+    public Matched lookup(String uri) {
+        if (Objects.isNull(uri) || uri.isEmpty() || uri.charAt(0) != SEPARATOR)
+            return null;
+
+        if (size > patternRoutes.size()) {
+            int[] bounds = new int[maxCaptures << 1];
+            Node node = this.find(root, uri, 1, bounds, 0);
+            if (Objects.nonNull(node))
+                return new Matched(node.route, node.execution, uri, bounds, node.captures);
+        }
+
+        for (PatternRoute patternRoute : patternRoutes) {
+            Matcher matcher = patternRoute.pattern.matcher(uri);
+            if (!matcher.matches())
+                continue;
+
+            int count = matcher.groupCount();
+            int[] bounds = new int[count << 1];
+            for (int i = 0; i < count; ++i) {
+                bounds[i << 1] = matcher.start(i + 1);
+                bounds[(i << 1) + 1] = matcher.end(i + 1);
+            }
+            return new Matched(patternRoute.route, patternRoute.execution, uri, bounds, count);
+        }
+        return null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        root.clear();
+        patternRoutes.clear();
+        maxCaptures = 0;
+        size = 0;
+    }
+
+    /*
+     * start: index of the first char of the current segment.
+     * depth: number of values captured so far.
+     */
+    private Node find(Node node, String uri, int start, int[] bounds, int depth) {
+        final int length = uri.length();
+        if (start > length)
+            return Objects.isNull(node.execution) ? null : node;
+
+        int end = uri.indexOf(SEPARATOR, start);
+        if (end < 0)
+            end = length;
+
+        // 1. static segment
+        Node child = node.findStatic(uri, start, end);
+        if (Objects.nonNull(child)) {
+            Node found = find(child, uri, end + 1, bounds, depth);
+            if (Objects.nonNull(found))
+                return found;
+        }
+
+        // 2. ${param}, not empty
+        if (Objects.nonNull(node.param) && end > start) {
+            bounds[depth << 1] = start;
+            bounds[(depth << 1) + 1] = end;
+            Node found = find(node.param, uri, end + 1, bounds, depth + 1);
+            if (Objects.nonNull(found))
+                return found;
+        }
+
+        // 3. wildcard, as regex '\S*' it may span several segments
+        if (Objects.nonNull(node.wildcard)) {
+            Node wildcard = node.wildcard;
+            int next = start;
+            while (true) {
+                if (containsWhitespace(uri, next, end))
+                    return null;
+
+                Node found = find(wildcard, uri, end + 1, bounds, depth);
+                if (Objects.nonNull(found))
+                    return found;
+
+                if (end >= length)
+                    return null;
+
+                next = end + 1;
+                end = uri.indexOf(SEPARATOR, next);
+                if (end < 0)
+                    end = length;
+            }
+        }
+
+        return null;
+    }
+
+    private static boolean containsWhitespace(String uri, int start, int end) {
+        for (int i = start; i < end; ++i)
+            if (Character.isWhitespace(uri.charAt(i)))
+                return true;
+        return false;
+    }
+
+    private static String[] splitRoute(String route) {
+        if (Objects.isNull(route) || route.isEmpty() || route.charAt(0) != SEPARATOR)
+            throw new IllegalArgumentException(String.format("URI mapping must start with '/': [%s]", route));
+
+        return route.substring(1).split(String.valueOf(SEPARATOR), -1);
+    }
+
+    private static boolean isParam(String segment) {
+        return segment.startsWith(PARAM_PREFIX)
+                && segment.endsWith(PARAM_SUFFIX)
+                && segment.indexOf(PARAM_SUFFIX) == segment.length() - 1;
+    }
+
+    private static boolean isSegmentable(String[] segments) {
+        for (String segment : segments) {
+            if (WILDCARD.equals(segment) || isParam(segment))
+                continue;
+
+            if (segment.contains(PARAM_PREFIX) || segment.contains(WILDCARD))
+                return false;
+        }
+        return true;
+    }
+
+    private static IllegalArgumentException duplicate(String route) {
+        return new IllegalArgumentException(String.format("URI mapping is a globally unique, and can not be repeated: [%s]", route));
+    }
+
+    /**
+     * Matched route, the captured values are kept as regions [start, end) of the URI,
+     * so they can be converted in place.
+     */
+    public record Matched(String route, Execution execution, String uri, int[] bounds, int count) {
+
+        public int start(int index) {
+            return bounds[index << 1];
+        }
+
+        public int end(int index) {
+            return bounds[(index << 1) + 1];
+        }
+
+        public String value(int index) {
+            return uri.substring(start(index), end(index));
+        }
+
+        /**
+         * The captured values in declaration order.
+         */
+        public String[] values() {
+            String[] values = new String[count];
+            for (int i = 0; i < count; ++i)
+                values[i] = value(i);
+            return values;
+        }
+    }
+
+    private record PatternRoute(String route, Pattern pattern, Execution execution) {
+    }
+
+    /**
+     * Trie node, the static children is an open addressing table,
+     * the slot hash is same as {@link String#hashCode()} of the segment,
+     * so lookups compare the URI region in place without substring.
+     */
+    private static final class Node {
+        private String[] keys;
+        private Node[] children;
+        private int count;
+
+        private Node param;
+        private Node wildcard;
+
+        private Execution execution;
+        private String route;
+        private int captures;
+
+        Node addStatic(String segment) {
+            if (Objects.nonNull(keys)) {
+                int index = indexOf(segment, 0, segment.length(), segment.hashCode());
+                if (index > -1)
+                    return children[index];
+            }
+
+            if (Objects.isNull(keys) || (count + 1) << 1 > keys.length)
+                this.resize(Objects.isNull(keys) ? 4 : keys.length << 1);
+
+            Node child = new Node();
+            this.insert(segment, child);
+            ++count;
+            return child;
+        }
+
+        Node findStatic(String uri, int start, int end) {
+            if (count == 0)
+                return null;
+
+            int hash = 0;
+            for (int i = start; i < end; ++i)
+                hash = 31 * hash + uri.charAt(i);
+
+            int index = indexOf(uri, start, end, hash);
+            return index > -1 ? children[index] : null;
+        }
+
+        private int indexOf(String text, int start, int end, int hash) {
+            final int mask = keys.length - 1;
+            final int length = end - start;
+            int slot = spread(hash) & mask;
+
+            String key;
+            while (Objects.nonNull(key = keys[slot])) {
+                if (key.length() == length && key.regionMatches(0, text, start, length))
+                    return slot;
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        private void insert(String segment, Node child) {
+            final int mask = keys.length - 1;
+            int slot = spread(segment.hashCode()) & mask;
+            while (Objects.nonNull(keys[slot]))
+                slot = (slot + 1) & mask;
+
+            keys[slot] = segment;
+            children[slot] = child;
+        }
+
+        private void resize(int capacity) {
+            String[] oldKeys = keys;
+            Node[] oldChildren = children;
+
+            keys = new String[capacity];
+            children = new Node[capacity];
+            if (Objects.isNull(oldKeys))
+                return;
+
+            for (int i = 0; i < oldKeys.length; ++i)
+                if (Objects.nonNull(oldKeys[i]))
+                    this.insert(oldKeys[i], oldChildren[i]);
+        }
+
+        private static int spread(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+
+        void clear() {
+            keys = null;
+            children = null;
+            count = 0;
+            param = null;
+            wildcard = null;
+            execution = null;
+            route = null;
+        }
+    }
+}
@@ -0,0 +1,389 @@
+package org.mind.framework.web.dispatcher.handler;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.mind.framework.service.threads.ExecutorFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * In-memory cache of the hot static files, bounded by the bytes of all cached variants and evicted by LRU.
+ * <p>
+ * An entry holds the raw bytes and the compressed variants: the <code>.gz</code> / <code>.br</code> sibling
+ * on disk if it is not older than the file, otherwise the gzip bytes compressed once when the file is loaded
+ * (only for the compressible mime types, and kept only if smaller).
+ * <p>
+ * The entries are revalidated against the size and mtime of the file on a background interval,
+ * a changed or deleted file is removed and loaded again by the next request.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@Slf4j
+public class StaticResourceCache {
+    public static final String GZIP = "gzip";
+    public static final String BROTLI = "br";
+
+    // bytes of all entries
+    @Getter
+    private final long maxSize;
+
+    // bytes, larger files are not cached
+    @Getter
+    private final long maxFileSize;
+
+    // bytes, smaller files are not compressed
+    private final int compressionMinSize;
+
+    private final Set<String> compressibleMimeTypes;
+
+    // file name -> mime type
+    private final Function<String, String> mimeResolver;
+
+    // uri -> entry, access order, guarded by itself
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75F, true);
+
+    // guarded by entries
+    private long weight;
+
+    private final ScheduledFuture<?> revalidation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param compressionMinSize    -1 does not compress the files, the siblings on disk are still served
+     * @param compressibleMimeTypes comma-separated, as <code>server.compression.mimeType</code>
+     * @param revalidateSeconds     interval of the revalidation, 0 disables it
+     */
+    public StaticResourceCache(long maxSize,
+                               long maxFileSize,
+                               int compressionMinSize,
+                               String compressibleMimeTypes,
+                               long revalidateSeconds,
+                               Function<String, String> mimeResolver) {
+        this.maxSize = maxSize;
+        this.maxFileSize = Math.min(maxFileSize, maxSize);
+        this.compressionMinSize = compressionMinSize;
+        this.compressibleMimeTypes = Arrays.stream(StringUtils.split(StringUtils.defaultString(compressibleMimeTypes), ','))
+                .map(String::trim)
+                .filter(StringUtils::isNotEmpty)
+                .collect(Collectors.toSet());
+        this.mimeResolver = mimeResolver;
+        this.revalidation = revalidateSeconds > 0L ?
+                Revalidation.EXECUTOR.scheduleWithFixedDelay(this::revalidate, revalidateSeconds, revalidateSeconds, TimeUnit.SECONDS) :
+                null;
+    }
+
+    /**
+     * The cached entry of the uri, the file is loaded if not cached.
+     *
+     * @return null if the file is not found, not a regular file or too large to cache.
+     */
+    public Entry get(String uri, Path path) throws IOException {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(uri);
+        }
+
+        if (Objects.nonNull(entry)) {
+            hits.increment();
+            return entry;
+        }
+
+        misses.increment();
+        // loaded outside the lock, the concurrent loads of the same file are rare and harmless
+        entry = this.load(path);
+        if (Objects.nonNull(entry))
+            this.put(uri, entry);
+        return entry;
+    }
+
+    /**
+     * Remove the entries of which the file or the sibling is changed.
+     */
+    public void revalidate() {
+        List<Map.Entry<String, Entry>> snapshot;
+        synchronized (entries) {
+            snapshot = new ArrayList<>(entries.entrySet());
+        }
+
+        for (Map.Entry<String, Entry> e : snapshot) {
+            Entry entry = e.getValue();
+            try {
+                if (entry.isModified())
+                    this.remove(e.getKey(), entry);
+            } catch (IOException | RuntimeException ex) {
+                log.warn("Revalidate static resource failed, {}: {}", e.getKey(), ex.getMessage());
+                this.remove(e.getKey(), entry);
+            }
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            weight = 0L;
+        }
+    }
+
+    /**
+     * Stop the revalidation and clear the entries.
+     */
+    public void destroy() {
+        if (Objects.nonNull(revalidation))
+            revalidation.cancel(false);
+        this.clear();
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getWeight() {
+        synchronized (entries) {
+            return weight;
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public String getStatisticsSummary() {
+        long hit = getHits();
+        long total = hit + getMisses();
+        return String.format("Static resource cache - files: %d, bytes: %d/%d, hits: %d, misses: %d, hit rate: %.2f%%, evictions: %d",
+                size(), getWeight(), maxSize, hit, getMisses(), total == 0L ? 0D : hit * 100D / total, getEvictions());
+    }
+
+    private void put(String uri, Entry entry) {
+        synchronized (entries) {
+            Entry previous = entries.put(uri, entry);
+            if (Objects.nonNull(previous))
+                weight -= previous.weight();
+            weight += entry.weight();
+
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (weight > maxSize && iterator.hasNext()) {
+                Entry eldest = iterator.next();
+                iterator.remove();
+                weight -= eldest.weight();
+                evictions.increment();
+            }
+        }
+    }
+
+    private void remove(String uri, Entry entry) {
+        synchronized (entries) {
+            // not replaced by a newer load
+            if (entries.remove(uri, entry))
+                weight -= entry.weight();
+        }
+    }
+
+    private Entry load(Path path) throws IOException {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+
+        if (!attributes.isRegularFile() || attributes.size() > maxFileSize)
+            return null;
+
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        byte[] bytes = Files.readAllBytes(path);
+        // changed while reading, served from the disk this time
+        if (bytes.length != attributes.size())
+            return null;
+
+        String mime = mimeResolver.apply(path.getFileName().toString());
+
+        // the observed mtime of the siblings, a stale sibling is ignored but still revalidated
+        long gzipModified = Sibling.lastModified(path, GZIP);
+        long brotliModified = Sibling.lastModified(path, BROTLI);
+
+        byte[] gzip = Sibling.read(path, GZIP, gzipModified, lastModified, maxFileSize);
+        if (Objects.isNull(gzip) && this.isCompressible(mime, bytes.length))
+            gzip = gzip(bytes);
+
+        byte[] brotli = Sibling.read(path, BROTLI, brotliModified, lastModified, maxFileSize);
+        return new Entry(path, bytes, gzip, brotli, mime, lastModified, gzipModified, brotliModified);
+    }
+
+    private boolean isCompressible(String mime, int length) {
+        if (compressionMinSize < 0 || length < compressionMinSize || StringUtils.isEmpty(mime))
+            return false;
+
+        int index = mime.indexOf(';');
+        return compressibleMimeTypes.contains((index < 0 ? mime : mime.substring(0, index)).trim());
+    }
+
+    /*
+     * The gzip bytes, null if not smaller than the raw bytes.
+     */
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out, 8192)) {
+            gzip.write(bytes);
+        }
+        return out.size() < bytes.length ? out.toByteArray() : null;
+    }
+
+    /**
+     * Cached static file.
+     */
+    @Getter
+    public static final class Entry {
+        private final Path path;
+
+        private final byte[] bytes;
+
+        // null if not compressed
+        private final byte[] gzip;
+
+        // null if there is no .br sibling
+        private final byte[] brotli;
+
+        private final String mimeType;
+
+        private final long lastModified;
+
+        // as same as the handler of the uncached file
+        private final String eTag;
+
+        // mtime of the siblings when loaded, -1 if missing
+        private final long gzipModified;
+        private final long brotliModified;
+
+        Entry(Path path, byte[] bytes, byte[] gzip, byte[] brotli, String mimeType, long lastModified,
+              long gzipModified, long brotliModified) {
+            this.path = path;
+            this.bytes = bytes;
+            this.gzip = gzip;
+            this.brotli = brotli;
+            this.mimeType = mimeType;
+            this.lastModified = lastModified;
+            this.eTag = "W/\"" + bytes.length + "-" + lastModified / 1_000L * 1_000L + "\"";
+            this.gzipModified = gzipModified;
+            this.brotliModified = brotliModified;
+        }
+
+        /**
+         * The bytes of the encoding, null if the variant is not cached.
+         */
+        public byte[] variant(String encoding) {
+            if (GZIP.equals(encoding))
+                return gzip;
+            if (BROTLI.equals(encoding))
+                return brotli;
+            return bytes;
+        }
+
+        public boolean hasVariants() {
+            return Objects.nonNull(gzip) || Objects.nonNull(brotli);
+        }
+
+        long weight() {
+            return bytes.length
+                    + (Objects.isNull(gzip) ? 0 : gzip.length)
+                    + (Objects.isNull(brotli) ? 0 : brotli.length);
+        }
+
+        boolean isModified() throws IOException {
+            BasicFileAttributes attributes;
+            try {
+                attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            } catch (NoSuchFileException e) {
+                return true;
+            }
+
+            if (attributes.size() != bytes.length || attributes.lastModifiedTime().toMillis() != lastModified)
+                return true;
+
+            return Sibling.lastModified(path, GZIP) != gzipModified
+                    || Sibling.lastModified(path, BROTLI) != brotliModified;
+        }
+    }
+
+    /*
+     * Precompressed file beside the static file, e.g. app.js.gz
+     */
+    static final class Sibling {
+        private Sibling() {
+        }
+
+        /*
+         * null if missing, older than the file (stale) or too large
+         */
+        static byte[] read(Path path, String encoding, long siblingModified, long fileModified, long maxFileSize) throws IOException {
+            if (siblingModified < fileModified)
+                return null;
+
+            Path sibling = resolve(path, encoding);
+            try {
+                if (Files.size(sibling) > maxFileSize)
+                    return null;
+                return Files.readAllBytes(sibling);
+            } catch (NoSuchFileException e) {
+                return null;
+            }
+        }
+
+        /*
+         * -1 if missing
+         */
+        static long lastModified(Path path, String encoding) throws IOException {
+            try {
+                return Files.getLastModifiedTime(resolve(path, encoding)).toMillis();
+            } catch (NoSuchFileException e) {
+                return -1L;
+            }
+        }
+
+        private static Path resolve(Path path, String encoding) {
+            return path.resolveSibling(path.getFileName() + (GZIP.equals(encoding) ? ".gz" : ".br"));
+        }
+    }
+
+    private static final class Revalidation {
+        private static final ScheduledExecutorService EXECUTOR =
+                Executors.newSingleThreadScheduledExecutor(ExecutorFactory.newThreadFactory("resource-revalidate-", true));
+    }
+}
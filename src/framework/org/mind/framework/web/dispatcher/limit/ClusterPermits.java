@@ -0,0 +1,22 @@
+package org.mind.framework.web.dispatcher.limit;
+
+/**
+ * Cluster-wide permits of the rate limit, shared by all nodes.
+ * <p>
+ * Default is {@link RedissonClusterPermits}, define a bean of this type in the spring container to replace it,
+ * e.g. {@link InMemoryClusterPermits} for the tests.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+public interface ClusterPermits {
+
+    /**
+     * Try to acquire the permits of the key, all or nothing, without waiting.
+     *
+     * @param rate           permits of each interval
+     * @param intervalMillis interval of the rate
+     */
+    boolean tryAcquire(String key, long permits, long rate, long intervalMillis);
+}
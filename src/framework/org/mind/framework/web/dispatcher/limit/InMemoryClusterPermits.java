@@ -0,0 +1,32 @@
+package org.mind.framework.web.dispatcher.limit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory stand-in of the cluster, the nodes (rate limiters) sharing the instance share the permits.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+public class InMemoryClusterPermits implements ClusterPermits {
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    // round trips to the cluster
+    private final LongAdder calls = new LongAdder();
+
+    @Override
+    public boolean tryAcquire(String key, long permits, long rate, long intervalMillis) {
+        calls.increment();
+        TokenBucket bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(rate, intervalMillis, TimeUnit.MILLISECONDS));
+        return bucket.tryAcquire(permits) == 0L;
+    }
+
+    public long getCalls() {
+        return calls.sum();
+    }
+}
@@ -0,0 +1,261 @@
+package org.mind.framework.web.dispatcher.limit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.mind.framework.ContextSupport;
+import org.mind.framework.annotation.RateLimit;
+import org.mind.framework.metric.RateLimitTraffic;
+import org.mind.framework.util.HttpUtils;
+import org.springframework.beans.BeansException;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Rate limit of an action declared by {@link RateLimit}, the routes of the action share it.
+ * <p>
+ * Local: a token bucket for each key.
+ * <br/>Cluster: each key holds a local pool of permits, which is refilled from the {@link ClusterPermits}
+ * in batches and expires after the interval. When the cluster is not available, falls back to the local token bucket,
+ * the cluster is retried after a backoff of 1s, doubled by each failure up to 30s.
+ * <p>
+ * The keys are bounded, the least recently used key is evicted when it is full.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@Slf4j
+public class RateLimiting {
+    // bounded keys, evict the least recently used when it is full
+    private static final int MAX_KEYS = 10_000;
+
+    private static final long CLUSTER_RETRY_NANOS = TimeUnit.SECONDS.toNanos(1L);
+
+    private static final long CLUSTER_MAX_RETRY_NANOS = TimeUnit.SECONDS.toNanos(30L);
+
+    private static final Map<Method, RateLimiting> LIMITS = new ConcurrentHashMap<>();
+
+    @Getter
+    private final String name;
+
+    private final long permits;
+
+    private final long intervalNanos;
+
+    private final RateLimit.KeyType keyType;
+
+    private final String header;
+
+    private final int batch;
+
+    @Getter
+    private final RateLimitTraffic traffic;
+
+    // TokenBucket of local, ClusterPool of cluster, access-ordered and guarded by itself
+    private final Map<String, Object> buckets = new LinkedHashMap<>(256, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Object> eldest) {
+            return this.size() > MAX_KEYS;
+        }
+    };
+
+    private final boolean cluster;
+
+    // resolved on first use, the spring container may not be ready when the route is registered
+    private volatile ClusterPermits clusterPermits;
+
+    // consecutive failures of the cluster, the local buckets are used until clusterRetryAt
+    private final AtomicInteger clusterFailures = new AtomicInteger();
+
+    private volatile long clusterRetryAt;
+
+    public RateLimiting(String name,
+                        long permits,
+                        long interval,
+                        TimeUnit unit,
+                        RateLimit.KeyType keyType,
+                        String header,
+                        boolean cluster,
+                        int batch,
+                        ClusterPermits clusterPermits) {
+        if (permits < 1L || interval < 1L)
+            throw new IllegalArgumentException(String.format("Invalid rate limit of '%s', the permits and interval must be greater than 0.", name));
+
+        if (keyType == RateLimit.KeyType.HEADER && StringUtils.isEmpty(header))
+            throw new IllegalArgumentException(String.format("Invalid rate limit of '%s', the header is required.", name));
+
+        this.name = name;
+        this.permits = permits;
+        this.intervalNanos = unit.toNanos(interval);
+        this.keyType = keyType;
+        this.header = header;
+        this.cluster = cluster;
+        this.batch = (int) Math.max(1L, Math.min(batch, permits));
+        this.clusterPermits = clusterPermits;
+        this.traffic = RateLimitTraffic.register(name);
+    }
+
+    /**
+     * @return null if the method is not annotated by {@link RateLimit}.
+     */
+    public static RateLimiting of(Method method) {
+        RateLimit annotation = method.getAnnotation(RateLimit.class);
+        if (Objects.isNull(annotation))
+            return null;
+
+        return LIMITS.computeIfAbsent(method, m -> new RateLimiting(
+                m.getDeclaringClass().getSimpleName() + "." + m.getName(),
+                annotation.permits(),
+                annotation.interval(),
+                annotation.unit(),
+                annotation.key(),
+                annotation.header(),
+                annotation.cluster(),
+                annotation.batch(),
+                null));
+    }
+
+    public String key(HttpServletRequest request) {
+        return switch (keyType) {
+            case ROUTE -> name;
+            case IP -> name + ":" + HttpUtils.getRequestIP(request);
+            case HEADER -> name + ":" + StringUtils.defaultString(request.getHeader(header));
+        };
+    }
+
+    /**
+     * @return 0 if acquired, otherwise the seconds to retry.
+     */
+    public long tryAcquire(String key) {
+        Object bucket;
+        synchronized (buckets) {
+            bucket = buckets.computeIfAbsent(key, k -> cluster ? new ClusterPool(k) : newBucket());
+        }
+
+        long waitNanos = cluster ?
+                ((ClusterPool) bucket).tryAcquire() :
+                ((TokenBucket) bucket).tryAcquire();
+
+        if (waitNanos == 0L) {
+            traffic.recordAccepted();
+            return 0L;
+        }
+
+        traffic.recordRejected();
+        return Math.max(1L, (long) Math.ceil(waitNanos / 1_000_000_000D));
+    }
+
+    private TokenBucket newBucket() {
+        return new TokenBucket(permits, intervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /*
+     * The cluster failed recently, use the local buckets without the round trip.
+     */
+    private boolean isClusterBroken(long now) {
+        return clusterFailures.get() > 0 && now - clusterRetryAt < 0L;
+    }
+
+    private void clusterFailed(String key, long now, Throwable e) {
+        int failures = clusterFailures.incrementAndGet();
+        long backoff = Math.min(CLUSTER_MAX_RETRY_NANOS, CLUSTER_RETRY_NANOS << Math.min(failures - 1, 5));
+        clusterRetryAt = now + backoff;
+
+        if (failures == 1)
+            log.warn("[{}] - Cluster rate limit is not available, use the local: {}", key, e.getMessage());
+        else
+            log.debug("[{}] - Cluster rate limit is still not available, retry after {}ms", key, TimeUnit.NANOSECONDS.toMillis(backoff));
+    }
+
+    private void clusterRecovered() {
+        if (clusterFailures.get() > 0 && clusterFailures.getAndSet(0) > 0)
+            log.info("[{}] - Cluster rate limit is available again.", name);
+    }
+
+    private ClusterPermits getClusterPermits() {
+        ClusterPermits current = this.clusterPermits;
+        if (Objects.isNull(current)) {
+            try {
+                current = ContextSupport.getBean(ClusterPermits.class);
+            } catch (BeansException | NullPointerException e) {
+                current = new RedissonClusterPermits();
+            }
+            this.clusterPermits = current;
+        }
+        return current;
+    }
+
+    private final class ClusterPool {
+        private final String key;
+
+        // permits synced from the cluster
+        private long available;
+
+        private long expiresAt;
+
+        // the cluster is exhausted, rejected locally until then
+        private long blockedUntil;
+
+        // when the cluster is not available
+        private TokenBucket fallback;
+
+        ClusterPool(String key) {
+            this.key = key;
+        }
+
+        synchronized long tryAcquire() {
+            long now = System.nanoTime();
+            if (available > 0L && now - expiresAt < 0L) {
+                --available;
+                return 0L;
+            }
+
+            available = 0L;
+            if (now - blockedUntil < 0L)
+                return blockedUntil - now;
+
+            if (isClusterBroken(now))
+                return this.fallback();
+
+            try {
+                if (this.sync(batch)) {
+                    clusterRecovered();
+                    available = batch - 1L;
+                    expiresAt = now + intervalNanos;
+                    return 0L;
+                }
+
+                clusterRecovered();
+                // the last few permits of the cluster
+                if (batch > 1 && this.sync(1L))
+                    return 0L;
+
+                // the time of a permit refilled by the cluster
+                blockedUntil = now + intervalNanos / permits;
+                return intervalNanos / permits;
+            } catch (RuntimeException | NoClassDefFoundError e) {
+                clusterFailed(key, now, e);
+                return this.fallback();
+            }
+        }
+
+        private long fallback() {
+            if (Objects.isNull(fallback))
+                fallback = newBucket();
+            return fallback.tryAcquire();
+        }
+
+        private boolean sync(long count) {
+            traffic.recordClusterSync();
+            return getClusterPermits().tryAcquire(key, count, permits, TimeUnit.NANOSECONDS.toMillis(intervalNanos));
+        }
+    }
+}
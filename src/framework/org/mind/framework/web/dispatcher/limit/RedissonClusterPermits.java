@@ -0,0 +1,77 @@
+package org.mind.framework.web.dispatcher.limit;
+
+import org.apache.commons.lang3.Strings;
+import org.mind.framework.helper.RedissonHelper;
+import org.redisson.api.RRateLimiter;
+import org.redisson.client.RedisException;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Cluster permits by Redisson {@link RRateLimiter}, one round trip for each batch.
+ * The rate interval is kept in milliseconds, e.g. 1500ms is not truncated to 1s.
+ * <p>
+ * The limiters of the keys (e.g. the client IPs) are bounded, the least recently used is evicted,
+ * and deleted from redis after they are not used for {@link #KEEP_ALIVE_INTERVALS} intervals.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+public class RedissonClusterPermits implements ClusterPermits {
+    private static final int MAX_KEYS = 10_000;
+
+    private static final int KEEP_ALIVE_INTERVALS = 2;
+
+    // thrown by the script when the limiter is expired in redis
+    private static final String NOT_INITIALIZED = "not initialized";
+
+    // access-ordered, guarded by itself
+    private final Map<String, RRateLimiter> limiters = new LinkedHashMap<>(256, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, RRateLimiter> eldest) {
+            return this.size() > MAX_KEYS;
+        }
+    };
+
+    @Override
+    public boolean tryAcquire(String key, long permits, long rate, long intervalMillis) {
+        RRateLimiter limiter;
+        synchronized (limiters) {
+            limiter = limiters.get(key);
+        }
+
+        // the rate is set before the first acquire, outside the lock
+        if (Objects.isNull(limiter)) {
+            limiter = this.newLimiter(key, rate, intervalMillis);
+            synchronized (limiters) {
+                limiters.put(key, limiter);
+            }
+        }
+
+        try {
+            return limiter.tryAcquire(permits);
+        } catch (RedisException e) {
+            if (!Strings.CS.contains(e.getMessage(), NOT_INITIALIZED))
+                throw e;
+
+            // expired after the keep alive, set the rate again
+            limiter = this.newLimiter(key, rate, intervalMillis);
+            synchronized (limiters) {
+                limiters.put(key, limiter);
+            }
+            return limiter.tryAcquire(permits);
+        }
+    }
+
+    /**
+     * Set the rate of the key synchronously, the previous rate in redis is kept.
+     */
+    protected RRateLimiter newLimiter(String key, long rate, long intervalMillis) {
+        Duration interval = Duration.ofMillis(intervalMillis);
+        return RedissonHelper.getInstance().getRateLimiter(key, rate, interval, interval.multipliedBy(KEEP_ALIVE_INTERVALS));
+    }
+}
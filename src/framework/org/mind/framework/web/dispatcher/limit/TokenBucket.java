@@ -0,0 +1,65 @@
+package org.mind.framework.web.dispatcher.limit;
+
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket, it is full initially and refills continuously at permits/interval.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+public final class TokenBucket {
+
+    @Getter
+    private final long capacity;
+
+    private final double tokensPerNano;
+
+    private double tokens;
+
+    private long lastRefill;
+
+    public TokenBucket(long permits, long interval, TimeUnit unit) {
+        if (permits < 1L || interval < 1L)
+            throw new IllegalArgumentException("The permits and interval must be greater than 0.");
+
+        this.capacity = permits;
+        this.tokensPerNano = (double) permits / unit.toNanos(interval);
+        this.tokens = permits;
+        this.lastRefill = System.nanoTime();
+    }
+
+    /**
+     * @return 0 if acquired, otherwise the nanoseconds to wait for the permits.
+     */
+    public synchronized long tryAcquire(long permits) {
+        this.refill();
+        if (tokens >= permits) {
+            tokens -= permits;
+            return 0L;
+        }
+        return Math.max(1L, (long) Math.ceil((permits - tokens) / tokensPerNano));
+    }
+
+    public long tryAcquire() {
+        return this.tryAcquire(1L);
+    }
+
+    public synchronized long available() {
+        this.refill();
+        return (long) tokens;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        long elapsed = now - lastRefill;
+        if (elapsed <= 0L)
+            return;
+
+        tokens = Math.min(capacity, tokens + elapsed * tokensPerNano);
+        lastRefill = now;
+    }
+}
@@ -0,0 +1,303 @@
+package org.mind.framework.web.dispatcher.log;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.logging.log4j.spi.ExtendedLogger;
+import org.mind.framework.service.threads.ExecutorFactory;
+import org.mind.framework.web.dispatcher.handler.Execution;
+import org.mind.framework.web.server.WebServerConfig;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous access log of the actions declared by <code>@Mapping(requestLog = true)</code>.
+ * <p>
+ * The request thread only copies the fields into a preallocated record of a bounded ring (no allocation, no lock),
+ * when the ring is full the record is dropped and counted, the request never waits for the log.
+ * One daemon writer drains the ring in batches, formats the records and writes them to the logger of the action,
+ * with the location of the action method.
+ * <p>
+ * The ring is a bounded multi-producer single-consumer queue, each slot has a sequence which tells
+ * whether it is free for the producer or published for the writer.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@Slf4j
+public class AccessLog {
+    // records written by the writer once at most
+    private static final int BATCH = 256;
+
+    // ns, the writer parks when the ring is empty
+    private static final long IDLE_PARK = TimeUnit.MILLISECONDS.toNanos(10L);
+
+    private static volatile AccessLog instance;
+
+    private final Record[] records;
+
+    // slot sequence: == position, free for the producer; == position + 1, published for the writer
+    private final AtomicLongArray sequences;
+
+    private final int mask;
+
+    // next position of the producers
+    private final AtomicLong tail = new AtomicLong();
+
+    // next position of the writer, only the writer updates it
+    private volatile long head;
+
+    private final LongAdder dropped = new LongAdder();
+
+    private final LongAdder written = new LongAdder();
+
+    // loggers and locations of the actions, only used by the writer
+    private final Map<Method, Target> targets = new HashMap<>();
+
+    private volatile Thread writer;
+
+    private volatile boolean running;
+
+    @Getter
+    private final int capacity;
+
+    public AccessLog(int capacity) {
+        // power of two
+        this.capacity = Integer.highestOneBit(Math.max(2, capacity - 1) << 1);
+        this.mask = this.capacity - 1;
+        this.records = new Record[this.capacity];
+        this.sequences = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; ++i) {
+            this.records[i] = new Record();
+            this.sequences.set(i, i);
+        }
+    }
+
+    public static AccessLog getInstance() {
+        AccessLog current = instance;
+        if (Objects.isNull(current)) {
+            synchronized (AccessLog.class) {
+                current = instance;
+                if (Objects.isNull(current))
+                    instance = current = new AccessLog(WebServerConfig.INSTANCE.getAccessLogCapacity());
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Fill a record on the request thread, it is dropped when the ring is full.
+     *
+     * @param execution     action
+     * @param uri           request URI
+     * @param method        http method
+     * @param ip            client IP
+     * @param status        response status
+     * @param begin         ms, begin of the request
+     * @param end           ms, end of the request
+     * @param requestBytes  request body size, -1 if unknown
+     * @param responseBytes response body size, -1 if unknown
+     * @return false if dropped.
+     */
+    public boolean offer(Execution execution,
+                         String uri,
+                         String method,
+                         String ip,
+                         int status,
+                         long begin,
+                         long end,
+                         long requestBytes,
+                         long responseBytes) {
+        long position;
+        int index;
+        while (true) {
+            position = tail.get();
+            index = (int) position & mask;
+            long sequence = sequences.get(index);
+            if (sequence == position) {
+                if (tail.compareAndSet(position, position + 1L))
+                    break;
+            } else if (sequence < position) {
+                // full, the writer has not drained the slot of the last round
+                dropped.increment();
+                return false;
+            }
+            // else: claimed by another producer, retry
+        }
+
+        Record record = records[index];
+        record.execution = execution;
+        record.uri = uri;
+        record.method = method;
+        record.ip = ip;
+        record.status = status;
+        record.begin = begin;
+        record.end = end;
+        record.requestBytes = requestBytes;
+        record.responseBytes = responseBytes;
+
+        // publish
+        sequences.set(index, position + 1L);
+        return true;
+    }
+
+    public synchronized void start() {
+        if (running)
+            return;
+
+        running = true;
+        writer = ExecutorFactory.newDaemonThread("access-log", this::drainLoop);
+        writer.start();
+    }
+
+    /**
+     * Stop the writer, the remaining records are written.
+     */
+    public synchronized void stop() {
+        if (!running)
+            return;
+
+        running = false;
+        Thread current = writer;
+        writer = null;
+        LockSupport.unpark(current);
+        try {
+            current.join(TimeUnit.SECONDS.toMillis(5L));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public long getWritten() {
+        return written.sum();
+    }
+
+    /**
+     * Records waiting for the writer.
+     */
+    public int size() {
+        return (int) Math.max(0L, tail.get() - head);
+    }
+
+    public String getStatisticsSummary() {
+        return String.format("written: %d, dropped: %d, pending: %d/%d", getWritten(), getDropped(), size(), capacity);
+    }
+
+    /**
+     * Write a batch of the published records, by the writer, or by the caller when the writer is not started.
+     *
+     * @return the number of records written.
+     */
+    public int drain() {
+        int count = 0;
+        long position = head;
+        while (count < BATCH) {
+            int index = (int) position & mask;
+            if (sequences.get(index) != position + 1L)
+                break;
+
+            Record record = records[index];
+            try {
+                this.write(record);
+            } catch (RuntimeException e) {
+                log.error("Access log write failed: {}", e.getMessage());
+            }
+
+            // release the references, free the slot for the next round
+            record.execution = null;
+            record.uri = record.method = record.ip = null;
+            sequences.set(index, position + records.length);
+            head = ++position;
+            ++count;
+        }
+
+        if (count > 0)
+            written.add(count);
+        return count;
+    }
+
+    private void drainLoop() {
+        while (running) {
+            if (this.drain() == 0)
+                LockSupport.parkNanos(this, IDLE_PARK);
+        }
+
+        // flush the remaining records
+        int count;
+        do {
+            count = this.drain();
+        } while (count > 0);
+    }
+
+    private void write(Record record) {
+        Execution execution = record.execution;
+        Target target = targets.computeIfAbsent(execution.getMethod(), m -> new Target(execution.getActionInstance().getClass(), m));
+        if (!target.logger.isEnabled(Level.INFO))
+            return;
+
+        long spendor = record.end - record.begin;
+
+        ParameterizedMessage message = execution.isSimpleLogging() ?
+                new ParameterizedMessage("[{}] - [{}ms]", record.uri, spendor) :
+                new ParameterizedMessage("[{}] - {} {}, Used time(ms): {}, IP: {}, Bytes: {}/{}",
+                        record.uri, record.method, record.status, spendor, record.ip,
+                        sizeOf(record.requestBytes), sizeOf(record.responseBytes));
+
+        target.logger.logMessage(Level.INFO, null, target.className, target.location, message, null);
+    }
+
+    private static Object sizeOf(long bytes) {
+        return bytes < 0L ? "-" : bytes;
+    }
+
+    /*
+     * Preallocated record, the fields are written by the producer before the slot is published.
+     */
+    private static final class Record {
+        private Execution execution;
+        private String uri;
+        private String method;
+        private String ip;
+        private int status;
+        private long begin;
+        private long end;
+        private long requestBytes;
+        private long responseBytes;
+    }
+
+    private static final class Target {
+        private final String className;
+        private final ExtendedLogger logger;
+        private final StackTraceElement location;
+
+        Target(Class<?> target, Method method) {
+            this.className = target.getName();
+            this.logger = (ExtendedLogger) LogManager.getLogger(className);
+            this.location = new StackTraceElement(
+                    className,                          // the fully declaring class name of class
+                    method.getName(),                   // method name
+                    target.getSimpleName() + ".java",   // the file name of class
+                    0                                   // line number(No got it)
+            );
+        }
+    }
+}
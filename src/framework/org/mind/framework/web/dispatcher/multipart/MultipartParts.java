@@ -0,0 +1,595 @@
+package org.mind.framework.web.dispatcher.multipart;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Streaming <code>multipart/form-data</code> parser, the parts are read in order from the request input stream
+ * as they arrive, nothing is buffered to the memory or temporary files.
+ * <pre>
+ * while (parts.hasNext()) {
+ *     MultipartParts.Part part = parts.next();
+ *     if (part.isFile())
+ *         part.transferTo(Path.of("/data", UUID.randomUUID().toString()));
+ *     else
+ *         fields.put(part.getName(), part.getString());
+ * }
+ * </pre>
+ * The filename is sent by the client, it may contain <code>../</code>: store the part by a name generated
+ * by the server, never join the filename to a path.
+ * The content of a part is consumed lazily, the unread content is skipped by the next {@link #hasNext()}.
+ * The part is written to a channel or a {@link MessageDigest} straight from the parsing buffer.
+ * <p>
+ * The limits are enforced while reading: {@link MaxUploadSizeExceededException} is thrown when a part or
+ * the request is over the max size, {@link MultipartException} when the request is malformed.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+public class MultipartParts implements Iterator<MultipartParts.Part>, Closeable {
+    private static final int BUFFER_SIZE = 8192;
+
+    // bytes of the headers of a part
+    private static final int MAX_HEADER_SIZE = 8192;
+
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+    private static final byte DASH = '-';
+
+    private final InputStream input;
+
+    // CRLF--boundary
+    private final byte[] delimiter;
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+
+    private int head;
+
+    private int tail;
+
+    private final long maxPartSize;
+
+    private final long maxTotalSize;
+
+    private final int maxParts;
+
+    // bytes read from the input
+    @Getter
+    private long received;
+
+    @Getter
+    private int count;
+
+    // part being read, the preamble before the first part
+    private Part current;
+
+    // parsed by hasNext, not returned yet
+    private Part next;
+
+    // bytes at the head of the buffer known as the content of the current part
+    private int ready;
+
+    // the delimiter of the current part is consumed
+    private boolean partEnded;
+
+    // the close delimiter is read
+    private boolean finished;
+
+    public MultipartParts(InputStream input, String boundary, long maxPartSize, long maxTotalSize, int maxParts) {
+        if (StringUtils.isEmpty(boundary) || boundary.length() > 70)
+            throw new MultipartException("Invalid multipart boundary: " + boundary);
+
+        this.input = input;
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+        this.maxPartSize = maxPartSize;
+        this.maxTotalSize = maxTotalSize;
+        this.maxParts = maxParts;
+
+        // the first boundary may not follow a line break
+        this.buffer[0] = CR;
+        this.buffer[1] = LF;
+        this.tail = 2;
+    }
+
+    /**
+     * @throws MultipartException when the request is not a multipart request or has no boundary.
+     */
+    public static MultipartParts of(HttpServletRequest request, long maxPartSize, long maxTotalSize, int maxParts) throws IOException {
+        String boundary = boundaryOf(request.getContentType());
+        if (Objects.isNull(boundary))
+            throw new MultipartException("Current request is not a multipart request: " + request.getContentType());
+
+        long length = request.getContentLengthLong();
+        if (length > maxTotalSize)
+            throw new MaxUploadSizeExceededException(maxTotalSize);
+
+        return new MultipartParts(request.getInputStream(), boundary, maxPartSize, maxTotalSize, maxParts);
+    }
+
+    /**
+     * @return the boundary of <code>multipart/*</code>, null if not multipart.
+     */
+    public static String boundaryOf(String contentType) {
+        if (!org.apache.commons.lang3.Strings.CI.startsWith(contentType, "multipart/"))
+            return null;
+
+        String boundary = parameters(contentType).get("boundary");
+        return StringUtils.isEmpty(boundary) ? null : boundary;
+    }
+
+    /**
+     * Read the headers of the next part, the unread content of the previous part is skipped.
+     *
+     * @throws MultipartException when the request is malformed, or the input stream fails.
+     */
+    @Override
+    public boolean hasNext() {
+        if (Objects.nonNull(next))
+            return true;
+        if (finished)
+            return false;
+
+        try {
+            // skip the rest of the current part, or the preamble
+            int n;
+            while ((n = this.available()) > 0)
+                this.consume(n);
+            current = null;
+
+            if (this.readBoundaryEnd())
+                return false;
+
+            if (++count > maxParts)
+                throw new MultipartException(String.format("The parts of the multipart request are over the limit %d", maxParts));
+
+            next = new Part(this.readHeaders());
+            partEnded = false;
+            return true;
+        } catch (IOException e) {
+            finished = true;
+            throw new MultipartException("Could not read the multipart request: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Part next() {
+        if (!this.hasNext())
+            throw new NoSuchElementException();
+
+        current = next;
+        next = null;
+        return current;
+    }
+
+    /**
+     * Stop reading, the rest of the request is discarded by the container.
+     */
+    @Override
+    public void close() {
+        finished = true;
+        next = null;
+        current = null;
+        partEnded = true;
+    }
+
+    /*
+     * Bytes of the current part at the head of the buffer, -1 when the part ends.
+     */
+    private int available() throws IOException {
+        if (partEnded)
+            return -1;
+        if (ready > 0)
+            return ready;
+
+        while (true) {
+            int index = indexOf(delimiter, buffer, head, tail);
+            if (index == head) {
+                head += delimiter.length;
+                partEnded = true;
+                return -1;
+            }
+
+            // the bytes before the delimiter, or which can not be the beginning of it
+            int size = index > head ? index - head : tail - head - delimiter.length + 1;
+            if (size > 0) {
+                if (Objects.nonNull(current) && current.size + size > maxPartSize)
+                    throw new MaxUploadSizeExceededException(maxPartSize);
+                ready = size;
+                return size;
+            }
+
+            if (!this.fill())
+                throw new MultipartException("The multipart request ended unexpectedly");
+        }
+    }
+
+    private void consume(int size) {
+        head += size;
+        ready -= size;
+        if (Objects.nonNull(current))
+            current.size += size;
+    }
+
+    /*
+     * After the delimiter: "--" closes the multipart, otherwise the transport padding and CRLF.
+     */
+    private boolean readBoundaryEnd() throws IOException {
+        this.require(2);
+        if (buffer[head] == DASH && buffer[head + 1] == DASH) {
+            head += 2;
+            finished = true;
+            return true;
+        }
+
+        while (true) {
+            this.require(2);
+            byte b = buffer[head];
+            if (b == ' ' || b == '\t') {
+                ++head;
+                continue;
+            }
+
+            if (b != CR || buffer[head + 1] != LF)
+                throw new MultipartException("Malformed multipart boundary");
+            head += 2;
+            return false;
+        }
+    }
+
+    private Map<String, String> readHeaders() throws IOException {
+        Map<String, String> headers = new LinkedHashMap<>(4);
+        int size = 0;
+        while (true) {
+            int index = indexOf(CR, LF, buffer, head, tail);
+            if (index < 0) {
+                if (tail - head >= MAX_HEADER_SIZE || !this.fill())
+                    throw new MultipartException("Malformed multipart headers");
+                continue;
+            }
+
+            size += index - head + 2;
+            if (size > MAX_HEADER_SIZE)
+                throw new MultipartException(String.format("The headers of the part are over the limit %d", MAX_HEADER_SIZE));
+
+            String line = new String(buffer, head, index - head, StandardCharsets.UTF_8);
+            head = index + 2;
+            if (line.isEmpty())
+                return headers;
+
+            int colon = line.indexOf(':');
+            if (colon > 0)
+                headers.put(line.substring(0, colon).trim().toLowerCase(Locale.ROOT), line.substring(colon + 1).trim());
+        }
+    }
+
+    private void require(int size) throws IOException {
+        while (tail - head < size) {
+            if (!this.fill())
+                throw new MultipartException("The multipart request ended unexpectedly");
+        }
+    }
+
+    /*
+     * Move the unread bytes to the beginning and read more, false at the end of the input.
+     */
+    private boolean fill() throws IOException {
+        if (head > 0) {
+            System.arraycopy(buffer, head, buffer, 0, tail - head);
+            tail -= head;
+            head = 0;
+        }
+
+        int n = input.read(buffer, tail, buffer.length - tail);
+        if (n < 0)
+            return false;
+
+        received += n;
+        if (received > maxTotalSize)
+            throw new MaxUploadSizeExceededException(maxTotalSize);
+
+        tail += n;
+        return true;
+    }
+
+    private static int indexOf(byte[] target, byte[] source, int from, int to) {
+        byte first = target[0];
+        int last = to - target.length;
+        for (int i = from; i <= last; ++i) {
+            if (source[i] != first)
+                continue;
+
+            int j = 1;
+            while (j < target.length && source[i + j] == target[j])
+                ++j;
+            if (j == target.length)
+                return i;
+        }
+        return -1;
+    }
+
+    private static int indexOf(byte b1, byte b2, byte[] source, int from, int to) {
+        for (int i = from; i < to - 1; ++i) {
+            if (source[i] == b1 && source[i + 1] == b2)
+                return i;
+        }
+        return -1;
+    }
+
+    /*
+     * Parameters of a header value, e.g. form-data; name="file"; filename="a.txt"
+     */
+    private static Map<String, String> parameters(String value) {
+        Map<String, String> parameters = new LinkedHashMap<>(4);
+        int length = value.length();
+        int i = value.indexOf(';');
+        while (i >= 0 && i < length) {
+            ++i;
+            int equal = value.indexOf('=', i);
+            if (equal < 0)
+                break;
+
+            String name = value.substring(i, equal).trim().toLowerCase(Locale.ROOT);
+            int start = equal + 1;
+            while (start < length && value.charAt(start) == ' ')
+                ++start;
+
+            String parameter;
+            if (start < length && value.charAt(start) == '"') {
+                StringBuilder builder = new StringBuilder();
+                int j = start + 1;
+                for (; j < length && value.charAt(j) != '"'; ++j) {
+                    char c = value.charAt(j);
+                    if (c == '\\' && j + 1 < length)
+                        c = value.charAt(++j);
+                    builder.append(c);
+                }
+                parameter = builder.toString();
+                i = value.indexOf(';', j);
+            } else {
+                int end = value.indexOf(';', start);
+                parameter = value.substring(start, end < 0 ? length : end).trim();
+                i = end;
+            }
+            parameters.put(name, parameter);
+        }
+        return parameters;
+    }
+
+    /**
+     * A part of the multipart request, the content is read once, in order.
+     */
+    public final class Part {
+        @Getter
+        private final Map<String, String> headers;
+
+        @Getter
+        private final String name;
+
+        // null if it is a form field
+        @Getter
+        private final String filename;
+
+        @Getter
+        private final String contentType;
+
+        // bytes of the content read
+        private long size;
+
+        private InputStream stream;
+
+        private Part(Map<String, String> headers) {
+            this.headers = Collections.unmodifiableMap(headers);
+            Map<String, String> disposition = parameters(StringUtils.defaultString(headers.get("content-disposition")));
+            this.name = disposition.get("name");
+            this.filename = filenameOf(disposition);
+            this.contentType = headers.get(HttpHeaders.CONTENT_TYPE.toLowerCase(Locale.ROOT));
+        }
+
+        public boolean isFile() {
+            return Objects.nonNull(filename);
+        }
+
+        public String getHeader(String name) {
+            return headers.get(name.toLowerCase(Locale.ROOT));
+        }
+
+        /**
+         * Bytes of the content read so far.
+         */
+        public long getSize() {
+            return size;
+        }
+
+        /**
+         * The content, it ends at the boundary of the part, it is empty after the next part is read.
+         */
+        public InputStream getInputStream() {
+            if (Objects.isNull(stream))
+                stream = new PartInputStream(this);
+            return stream;
+        }
+
+        /**
+         * Write the content to the channel straight from the parsing buffer, e.g. a {@link FileChannel}.
+         *
+         * @return the bytes written.
+         */
+        public long transferTo(WritableByteChannel channel) throws IOException {
+            long written = 0L;
+            int n;
+            while ((n = this.available()) > 0) {
+                ByteBuffer bytes = ByteBuffer.wrap(buffer, head, n);
+                while (bytes.hasRemaining())
+                    channel.write(bytes);
+                consume(n);
+                written += n;
+            }
+            return written;
+        }
+
+        /**
+         * Write the content to the file, it is created or truncated.
+         *
+         * @return the bytes written.
+         */
+        public long transferTo(Path path) throws IOException {
+            try (FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                return this.transferTo(channel);
+            }
+        }
+
+        public long transferTo(OutputStream output) throws IOException {
+            long written = 0L;
+            int n;
+            while ((n = this.available()) > 0) {
+                output.write(buffer, head, n);
+                consume(n);
+                written += n;
+            }
+            return written;
+        }
+
+        /**
+         * Update the digest by the content straight from the parsing buffer.
+         *
+         * @return the bytes digested.
+         */
+        public long update(MessageDigest digest) throws IOException {
+            long updated = 0L;
+            int n;
+            while ((n = this.available()) > 0) {
+                digest.update(buffer, head, n);
+                consume(n);
+                updated += n;
+            }
+            return updated;
+        }
+
+        /**
+         * The content as a string, by the charset of the part or UTF-8, e.g. the value of a form field.
+         */
+        public String getString() throws IOException {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            this.transferTo(output);
+            return output.toString(this.charset());
+        }
+
+        /**
+         * Skip the unread content.
+         *
+         * @return the bytes skipped.
+         */
+        public long discard() throws IOException {
+            long skipped = 0L;
+            int n;
+            while ((n = this.available()) > 0) {
+                consume(n);
+                skipped += n;
+            }
+            return skipped;
+        }
+
+        /*
+         * -1 when the part ends, or it is not the current part.
+         */
+        private int available() throws IOException {
+            return current == this ? MultipartParts.this.available() : -1;
+        }
+
+        private Charset charset() {
+            String charset = Objects.isNull(contentType) ? null : parameters(contentType).get("charset");
+            try {
+                return StringUtils.isEmpty(charset) ? StandardCharsets.UTF_8 : Charset.forName(charset);
+            } catch (IllegalArgumentException e) {
+                return StandardCharsets.UTF_8;
+            }
+        }
+
+        private static String filenameOf(Map<String, String> disposition) {
+            // RFC 5987, e.g. filename*=UTF-8''%E4%B8%AD.txt
+            String encoded = disposition.get("filename*");
+            if (StringUtils.isNotEmpty(encoded)) {
+                int quote = encoded.indexOf("''");
+                if (quote > 0) {
+                    try {
+                        return URLDecoder.decode(encoded.substring(quote + 2), Charset.forName(encoded.substring(0, quote)));
+                    } catch (IllegalArgumentException ignored) {
+                    }
+                }
+            }
+            return disposition.get("filename");
+        }
+    }
+
+    private final class PartInputStream extends InputStream {
+        private final Part part;
+
+        PartInputStream(Part part) {
+            this.part = part;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (part.available() <= 0)
+                return -1;
+
+            int b = buffer[head] & 0xFF;
+            consume(1);
+            return b;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            Objects.checkFromIndexSize(offset, length, bytes.length);
+            if (length == 0)
+                return 0;
+
+            int n = part.available();
+            if (n <= 0)
+                return -1;
+
+            n = Math.min(n, length);
+            System.arraycopy(buffer, head, bytes, offset, n);
+            consume(n);
+            return n;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return current == part && !partEnded ? ready : 0;
+        }
+
+        @Override
+        public long transferTo(OutputStream output) throws IOException {
+            return part.transferTo(output);
+        }
+    }
+}
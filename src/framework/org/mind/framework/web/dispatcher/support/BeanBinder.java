@@ -0,0 +1,438 @@
+package org.mind.framework.web.dispatcher.support;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Strings;
+import org.mind.framework.util.ReflectionUtils;
+
+import java.beans.Introspector;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+/**
+ * Binder of a plain POJO (JavaBean or record) from the query/form parameters, generated once per class.
+ * <pre>
+ * name=mind&amp;age=3                    scalar properties, converted by {@link ConverterFactory}
+ * address.city=Paris                   nested object
+ * tags=a&amp;tags=b, tags[]=a, tags[0]=a   list, set or array of scalars
+ * items[0].sku=A1&amp;items[1].sku=B2      list or set of objects
+ * </pre>
+ * The properties are written by the public setter, or the public non-final field if there is no setter,
+ * a record is created by its canonical constructor. The private fields are never written, the parameters
+ * can not overwrite the internal state. All of them are resolved to {@link MethodHandle}s when the binder
+ * is generated, the binding does not use the reflection.
+ * <p>
+ * An absent or empty parameter leaves the property as initialized, a nested object without any
+ * parameter is not created, and its properties are not visited. The nesting is limited to {@value MAX_DEPTH} levels.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@Slf4j
+public final class BeanBinder<T> {
+    private static final int MAX_DEPTH = 8;
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<BeanBinder<?>> BINDERS = new ClassValue<>() {
+        @Override
+        protected BeanBinder<?> computeValue(Class<?> type) {
+            return new BeanBinder<>(type);
+        }
+    };
+
+    private enum Kind {SCALAR, BEAN, COLLECTION, ARRAY}
+
+    private final Class<T> type;
+
+    // ()Object of the bean, (Object[])Object of the record
+    private final MethodHandle constructor;
+
+    private final boolean record;
+
+    // initial arguments of the record constructor, zero of the primitive components
+    private final Object[] defaults;
+
+    private final Property[] properties;
+
+    // has the nested object or the list of objects, bound by the prefix of the parameters
+    private final boolean nested;
+
+    private BeanBinder(Class<T> type) {
+        this.type = type;
+        this.record = type.isRecord();
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            List<Property> list = new ArrayList<>();
+            if (record) {
+                RecordComponent[] components = type.getRecordComponents();
+                Class<?>[] types = new Class<?>[components.length];
+                this.defaults = new Object[components.length];
+                for (int i = 0; i < components.length; ++i) {
+                    types[i] = components[i].getType();
+                    if (types[i].isPrimitive())
+                        this.defaults[i] = MethodHandles.zero(types[i]).invoke();
+
+                    Property property = property(components[i].getName(), components[i].getGenericType(), null, i);
+                    if (Objects.nonNull(property))
+                        list.add(property);
+                }
+
+                this.constructor = lookup.findConstructor(type, MethodType.methodType(void.class, types))
+                        .asSpreader(Object[].class, components.length)
+                        .asType(MethodType.methodType(Object.class, Object[].class));
+            } else {
+                this.defaults = null;
+                this.constructor = lookup.findConstructor(type, MethodType.methodType(void.class))
+                        .asType(MethodType.methodType(Object.class));
+                this.properties(lookup).forEach((name, property) -> list.add(property));
+            }
+            this.properties = list.toArray(new Property[0]);
+            this.nested = list.stream().anyMatch(property -> Objects.isNull(property.converter));
+        } catch (Throwable e) {
+            throw new IllegalArgumentException(String.format("Unable to generate the binder of '%s': %s", type.getName(), e.getMessage()), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> BeanBinder<T> of(Class<T> type) {
+        return (BeanBinder<T>) BINDERS.get(type);
+    }
+
+    /**
+     * A concrete class with a no-arg constructor or a record, which is not a type of JDK/Spring
+     * and not converted by the {@link ConverterFactory}.
+     */
+    public static boolean isBindable(Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || type.isInterface() || type.isEnum() || type.isAnnotation()
+                || Modifier.isAbstract(type.getModifiers())
+                || (type.isMemberClass() && !Modifier.isStatic(type.getModifiers())))
+            return false;
+
+        String name = type.getName();
+        if (Strings.CS.startsWithAny(name, "java.", "javax.", "jakarta.", "org.springframework."))
+            return false;
+
+        if (ConverterFactory.getInstance().isConvert(type))
+            return false;
+
+        if (type.isRecord())
+            return true;
+
+        try {
+            type.getDeclaredConstructor();
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Bind the parameters to a new object, it is created even if there is no parameter.
+     *
+     * @throws IllegalArgumentException when a parameter can not be converted.
+     */
+    @SuppressWarnings("unchecked")
+    public T bind(Map<String, String[]> parameters) {
+        // sorted names once per request, to find the parameters of the nested objects
+        NavigableSet<String> names = nested ? new TreeSet<>(parameters.keySet()) : null;
+        return (T) this.bind(new Parameters(parameters, names), StringUtils.EMPTY, 0, true);
+    }
+
+    private Object bind(Parameters parameters, String prefix, int depth, boolean always) {
+        Object[] arguments = record ? defaults.clone() : null;
+        Object bean = null;
+        boolean bound = false;
+        try {
+            for (Property property : properties) {
+                Object value = property.read(parameters, prefix.isEmpty() ? property.name : prefix + property.name, depth);
+                if (Objects.isNull(value))
+                    continue;
+
+                bound = true;
+                if (record) {
+                    arguments[property.component] = value;
+                } else {
+                    if (Objects.isNull(bean))
+                        bean = constructor.invokeExact();
+                    property.setter.invokeExact(bean, value);
+                }
+            }
+
+            if (!bound && !always)
+                return null;
+
+            if (record)
+                return constructor.invokeExact(arguments);
+            return Objects.isNull(bean) ? constructor.invokeExact() : bean;
+        } catch (Throwable e) {
+            ReflectionUtils.rethrowRuntimeException(e);
+        }
+        throw new IllegalStateException("Should never get here");
+    }
+
+    /*
+     * Public setters first, then the public fields without the setter, of the class and its super classes.
+     */
+    private Map<String, Property> properties(MethodHandles.Lookup lookup) throws IllegalAccessException {
+        Map<String, Property> map = new LinkedHashMap<>();
+        for (Method method : type.getMethods()) {
+            String name = method.getName();
+            if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 1
+                    || name.length() < 4 || !name.startsWith("set"))
+                continue;
+
+            String propertyName = Introspector.decapitalize(name.substring(3));
+            if (map.containsKey(propertyName))
+                continue;
+
+            Property property = property(propertyName, method.getGenericParameterTypes()[0],
+                    lookup.unreflect(method).asType(SETTER_TYPE), -1);
+            if (Objects.nonNull(property))
+                map.put(propertyName, property);
+        }
+
+        for (Field field : type.getFields()) {
+            int modifiers = field.getModifiers();
+            if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers) || Modifier.isTransient(modifiers)
+                    || field.isSynthetic() || map.containsKey(field.getName()))
+                continue;
+
+            MethodHandles.Lookup fieldLookup = field.getDeclaringClass() == type ?
+                    lookup : MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+            Property property = property(field.getName(), field.getGenericType(), fieldLookup.unreflectSetter(field).asType(SETTER_TYPE), -1);
+            if (Objects.nonNull(property))
+                map.put(field.getName(), property);
+        }
+        return map;
+    }
+
+    /**
+     * @return null if the type is not supported, the property is not bound.
+     */
+    private static Property property(String name, Type genericType, MethodHandle setter, int component) {
+        ConverterFactory factory = ConverterFactory.getInstance();
+        Class<?> raw = rawType(genericType);
+        if (Objects.isNull(raw))
+            return null;
+
+        Converter<?> converter = factory.getConverter(raw);
+        if (Objects.nonNull(converter))
+            return new Property(name, Kind.SCALAR, setter, component, converter, isText(raw), raw, null, null, null);
+
+        if (raw.isArray()) {
+            Converter<?> element = factory.getConverter(raw.getComponentType());
+            if (Objects.isNull(element))
+                return null;
+
+            MethodHandle creator = MethodHandles.arrayConstructor(raw).asType(MethodType.methodType(Object.class, int.class));
+            MethodHandle elementSetter = MethodHandles.arrayElementSetter(raw)
+                    .asType(MethodType.methodType(void.class, Object.class, int.class, Object.class));
+            return new Property(name, Kind.ARRAY, setter, component, element, isText(raw.getComponentType()), raw, null, creator, elementSetter);
+        }
+
+        if (Collection.class.isAssignableFrom(raw)) {
+            Supplier<Collection<Object>> collection;
+            if (raw.isAssignableFrom(ArrayList.class))
+                collection = ArrayList::new;
+            else if (raw.isAssignableFrom(LinkedHashSet.class))
+                collection = LinkedHashSet::new;
+            else
+                return null;
+
+            Class<?> elementType = genericType instanceof ParameterizedType parameterized ?
+                    rawType(parameterized.getActualTypeArguments()[0]) : null;
+            if (Objects.isNull(elementType))
+                return null;
+
+            Converter<?> element = factory.getConverter(elementType);
+            if (Objects.nonNull(element))
+                return new Property(name, Kind.COLLECTION, setter, component, element, isText(elementType), elementType, collection, null, null);
+            if (isBindable(elementType))
+                return new Property(name, Kind.COLLECTION, setter, component, null, false, elementType, collection, null, null);
+            return null;
+        }
+
+        if (isBindable(raw))
+            return new Property(name, Kind.BEAN, setter, component, null, false, raw, null, null, null);
+
+        log.debug("Property '{}' of type '{}' is not bound", name, genericType.getTypeName());
+        return null;
+    }
+
+    private static boolean isText(Class<?> type) {
+        return type == String.class || type == CharSequence.class;
+    }
+
+    private record Parameters(Map<String, String[]> values, NavigableSet<String> names) {
+
+        String[] get(String name) {
+            return values.get(name);
+        }
+
+        int size() {
+            return values.size();
+        }
+
+        /*
+         * Any parameter starts with the prefix, e.g. address. or items[
+         */
+        boolean hasPrefix(String prefix) {
+            String name = names.ceiling(prefix);
+            return Objects.nonNull(name) && name.startsWith(prefix);
+        }
+    }
+
+    private static Class<?> rawType(Type type) {
+        if (type instanceof Class<?> clazz)
+            return clazz;
+        if (type instanceof ParameterizedType parameterized && parameterized.getRawType() instanceof Class<?> clazz)
+            return clazz;
+        return null;
+    }
+
+    private record Property(String name,
+                            Kind kind,
+                            // (Object,Object)void, null of the record component
+                            MethodHandle setter,
+                            int component,
+                            // of the scalar, or the scalar element
+                            Converter<?> converter,
+                            // the converted value is a string, the empty value is bound
+                            boolean text,
+                            // of the scalar, the nested object, the element or the array
+                            Class<?> type,
+                            Supplier<Collection<Object>> collection,
+                            // (int)Object and (Object,int,Object)void of the array
+                            MethodHandle arrayCreator,
+                            MethodHandle arraySetter) {
+
+        /**
+         * @return null if there is no parameter of the property.
+         */
+        Object read(Parameters parameters, String key, int depth) throws Throwable {
+            switch (kind) {
+                case SCALAR -> {
+                    String[] values = parameters.get(key);
+                    return Objects.isNull(values) || values.length == 0 ? null : convert(key, values[0]);
+                }
+                case BEAN -> {
+                    if (depth >= MAX_DEPTH || !parameters.hasPrefix(key + "."))
+                        return null;
+                    return BeanBinder.of(type).bind(parameters, key + ".", depth + 1, false);
+                }
+                case ARRAY -> {
+                    List<Object> values = this.scalars(parameters, key);
+                    if (Objects.isNull(values))
+                        return null;
+
+                    Object array = arrayCreator.invokeExact(values.size());
+                    for (int i = 0; i < values.size(); ++i)
+                        arraySetter.invokeExact(array, i, values.get(i));
+                    return array;
+                }
+                default -> {
+                    if (Objects.nonNull(converter)) {
+                        List<Object> values = this.scalars(parameters, key);
+                        if (Objects.isNull(values))
+                            return null;
+
+                        Collection<Object> result = collection.get();
+                        result.addAll(values);
+                        return result;
+                    }
+
+                    if (depth >= MAX_DEPTH || !parameters.hasPrefix(key + "["))
+                        return null;
+
+                    // items[0].sku, items[1].sku ... until the first absent index
+                    BeanBinder<?> binder = BeanBinder.of(type);
+                    Collection<Object> result = null;
+                    for (int i = 0; i < parameters.size(); ++i) {
+                        Object element = binder.bind(parameters, key + "[" + i + "].", depth + 1, false);
+                        if (Objects.isNull(element))
+                            break;
+
+                        if (Objects.isNull(result))
+                            result = collection.get();
+                        result.add(element);
+                    }
+                    return result;
+                }
+            }
+        }
+
+        /*
+         * tags=a&tags=b, tags[]=a&tags[]=b, tags[0]=a&tags[1]=b
+         */
+        private List<Object> scalars(Parameters parameters, String key) {
+            List<Object> result = null;
+            for (String name : new String[]{key, key + "[]"}) {
+                String[] values = parameters.get(name);
+                if (Objects.isNull(values))
+                    continue;
+
+                for (String value : values) {
+                    Object converted = convert(name, value);
+                    if (Objects.isNull(converted))
+                        continue;
+
+                    if (Objects.isNull(result))
+                        result = new ArrayList<>(values.length);
+                    result.add(converted);
+                }
+            }
+
+            for (int i = 0; i < parameters.size(); ++i) {
+                String name = key + "[" + i + "]";
+                String[] values = parameters.get(name);
+                if (Objects.isNull(values))
+                    break;
+
+                Object converted = values.length == 0 ? null : convert(name, values[0]);
+                if (Objects.isNull(converted))
+                    continue;
+
+                if (Objects.isNull(result))
+                    result = new ArrayList<>();
+                result.add(converted);
+            }
+            return result;
+        }
+
+        private Object convert(String key, String value) {
+            // empty value of the non-string is absent
+            if (Objects.isNull(value) || (value.isEmpty() && !text))
+                return null;
+
+            try {
+                return converter.convert(value);
+            } catch (IllegalArgumentException | DateTimeException e) {
+                throw new IllegalArgumentException(String.format("Request parameter '%s' is incorrect: %s", key, e.getMessage()));
+            }
+        }
+    }
+}
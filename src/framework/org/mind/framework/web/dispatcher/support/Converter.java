@@ -13,4 +13,12 @@ public interface Converter<T> {
      */
     T convert(String value);
 
+    /**
+     * Convert the region [start, end) of the source, e.g. a captured URI segment.
+     * The default copies the region, converters of the basic types parse it in place.
+     */
+    default T convert(String source, int start, int end) {
+        return convert(source.substring(start, end));
+    }
+
 }
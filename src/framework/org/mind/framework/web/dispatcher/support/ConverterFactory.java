@@ -6,25 +6,64 @@ import org.mind.framework.exception.NotSupportedException;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.HashMap;
+import java.nio.CharBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Factory for all converters.
+ * <p>
+ * Converters are registered by class, the lookups are cached by {@link ClassValue},
+ * so a lookup does not hash the class name. Enums are converted by constant name.
  *
  * @author dp
  */
 public class ConverterFactory {
 
-    private final Map<String, Converter<?>> converterMap;
+    // not convertible, ClassValue does not cache null
+    private static final Converter<?> NONE = value -> {
+        throw new NotSupportedException("The parameter conversion type failed, Only supports basic data types.");
+    };
+
+    private static final Converter<String> STRING_CONVERT = new RegionConverter<>(value -> value, String::substring);
+
+    // rendered as text, enum, UUID and java.time are converted but rendered as JSON
+    private static final Set<Class<?>> TEXT_TYPES = Set.of(
+            String.class,
+            boolean.class, Boolean.class, int.class, Integer.class, long.class, Long.class,
+            short.class, Short.class, byte.class, Byte.class, float.class, Float.class,
+            double.class, Double.class, char.class, Character.class,
+            BigInteger.class, BigDecimal.class);
+
+    private final Map<Class<?>, Converter<?>> converterMap;
+
+    private final ClassValue<Converter<?>> converters = new ClassValue<>() {
+        @Override
+        protected Converter<?> computeValue(Class<?> type) {
+            Converter<?> converter = converterMap.get(type);
+            if (Objects.nonNull(converter))
+                return converter;
+
+            // enum constant with class body is a subclass of the enum
+            if (Enum.class.isAssignableFrom(type) && type != Enum.class)
+                return newEnumConverter(type.isEnum() ? type : type.getSuperclass());
+
+            return NONE;
+        }
+    };
 
     private ConverterFactory() {
-        Converter<Boolean> booleanConvert = BooleanUtils::toBoolean;
+        Converter<Boolean> booleanConvert = new RegionConverter<>(BooleanUtils::toBoolean, ConverterFactory::parseBoolean);
 
-        Converter<Long> longConvert = Long::parseLong;
+        Converter<Long> longConvert = new RegionConverter<>(Long::parseLong, (s, start, end) -> Long.parseLong(s, start, end, 10));
 
-        Converter<Integer> intConvert = Integer::parseInt;
+        Converter<Integer> intConvert = new RegionConverter<>(Integer::parseInt, (s, start, end) -> Integer.parseInt(s, start, end, 10));
 
         Converter<BigInteger> bigIntConvert = BigInteger::new;
 
@@ -34,39 +73,56 @@ public class ConverterFactory {
 
         Converter<Double> doubleConvert = Double::parseDouble;
 
-        Converter<Short> shortConvert = Short::parseShort;
+        Converter<Short> shortConvert = new RegionConverter<>(Short::parseShort, ConverterFactory::parseShort);
 
-        Converter<Byte> byteConvert = Byte::parseByte;
+        Converter<Byte> byteConvert = new RegionConverter<>(Byte::parseByte, ConverterFactory::parseByte);
 
-        Converter<Character> charConvert = CharUtils::toChar;
+        Converter<Character> charConvert = new RegionConverter<>(CharUtils::toChar, ConverterFactory::parseChar);
 
-        this.converterMap = new HashMap<>(18);
-        this.converterMap.put(boolean.class.getName(), booleanConvert);
-        this.converterMap.put(Boolean.class.getName(), booleanConvert);
+        Converter<UUID> uuidConvert = new RegionConverter<>(UUID::fromString, ConverterFactory::parseUUID);
 
-        this.converterMap.put(int.class.getName(), intConvert);
-        this.converterMap.put(Integer.class.getName(), intConvert);
+        // java.time parses CharSequence, the region is wrapped without copy
+        Converter<LocalDate> localDateConvert = new RegionConverter<>(LocalDate::parse, (s, start, end) -> LocalDate.parse(CharBuffer.wrap(s, start, end)));
 
-        this.converterMap.put(long.class.getName(), longConvert);
-        this.converterMap.put(Long.class.getName(), longConvert);
+        Converter<LocalDateTime> localDateTimeConvert = new RegionConverter<>(LocalDateTime::parse, (s, start, end) -> LocalDateTime.parse(CharBuffer.wrap(s, start, end)));
 
-        this.converterMap.put(short.class.getName(), shortConvert);
-        this.converterMap.put(Short.class.getName(), shortConvert);
+        Converter<Instant> instantConvert = new RegionConverter<>(Instant::parse, (s, start, end) -> Instant.parse(CharBuffer.wrap(s, start, end)));
 
-        this.converterMap.put(byte.class.getName(), byteConvert);
-        this.converterMap.put(Byte.class.getName(), byteConvert);
+        this.converterMap = new ConcurrentHashMap<>(32);
+        this.converterMap.put(String.class, STRING_CONVERT);
+        this.converterMap.put(CharSequence.class, STRING_CONVERT);
 
-        this.converterMap.put(float.class.getName(), floatConvert);
-        this.converterMap.put(Float.class.getName(), floatConvert);
+        this.converterMap.put(boolean.class, booleanConvert);
+        this.converterMap.put(Boolean.class, booleanConvert);
 
-        this.converterMap.put(double.class.getName(), doubleConvert);
-        this.converterMap.put(Double.class.getName(), doubleConvert);
+        this.converterMap.put(int.class, intConvert);
+        this.converterMap.put(Integer.class, intConvert);
 
-        this.converterMap.put(char.class.getName(), charConvert);
-        this.converterMap.put(Character.class.getName(), charConvert);
+        this.converterMap.put(long.class, longConvert);
+        this.converterMap.put(Long.class, longConvert);
 
-        this.converterMap.put(BigInteger.class.getName(), bigIntConvert);
-        this.converterMap.put(BigDecimal.class.getName(), bigDecimalConvert);
+        this.converterMap.put(short.class, shortConvert);
+        this.converterMap.put(Short.class, shortConvert);
+
+        this.converterMap.put(byte.class, byteConvert);
+        this.converterMap.put(Byte.class, byteConvert);
+
+        this.converterMap.put(float.class, floatConvert);
+        this.converterMap.put(Float.class, floatConvert);
+
+        this.converterMap.put(double.class, doubleConvert);
+        this.converterMap.put(Double.class, doubleConvert);
+
+        this.converterMap.put(char.class, charConvert);
+        this.converterMap.put(Character.class, charConvert);
+
+        this.converterMap.put(BigInteger.class, bigIntConvert);
+        this.converterMap.put(BigDecimal.class, bigDecimalConvert);
+
+        this.converterMap.put(UUID.class, uuidConvert);
+        this.converterMap.put(LocalDate.class, localDateConvert);
+        this.converterMap.put(LocalDateTime.class, localDateTimeConvert);
+        this.converterMap.put(Instant.class, instantConvert);
     }
 
     private static class ConverterHolder {
@@ -77,18 +133,173 @@ public class ConverterFactory {
         return ConverterHolder.CONVERTER_FACTORY;
     }
 
+    /**
+     * Register or replace the converter of the given type.
+     */
+    public <T> void register(Class<T> clazz, Converter<? extends T> converter) {
+        Objects.requireNonNull(clazz);
+        Objects.requireNonNull(converter);
+        this.converterMap.put(clazz, converter);
+        this.converters.remove(clazz);
+    }
+
+    /**
+     * The argument of the given type is converted from the request text.
+     */
     public boolean isConvert(Class<?> clazz) {
-        return
-                String.class.getName().equals(clazz.getName())
-                        || this.converterMap.containsKey(clazz.getName());
+        return this.converters.get(clazz) != NONE;
+    }
+
+    /**
+     * The value of the given type is rendered or keyed as its text: string, primitive, wrapper and big number.
+     */
+    public boolean isText(Class<?> clazz) {
+        return TEXT_TYPES.contains(clazz);
     }
 
+    /**
+     * Get the converter of the given type.
+     *
+     * @return null if the type is not convertible.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Converter<T> getConverter(Class<T> clazz) {
+        Converter<?> converter = this.converters.get(clazz);
+        return converter == NONE ? null : (Converter<T>) converter;
+    }
+
+    @SuppressWarnings("unchecked")
     public <T> T convert(Class<T> clazz, String value) {
-        if (this.converterMap.containsKey(clazz.getName())) {
-            Converter<?> convert = this.converterMap.get(clazz.getName());
-            if (Objects.nonNull(convert))
-                return (T)convert.convert(value);
+        return (T) this.converters.get(clazz).convert(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Enum<E>> Converter<E> newEnumConverter(Class<?> type) {
+        return new EnumConverter<>((Class<E>) type);
+    }
+
+    private static boolean parseBoolean(String s, int start, int end) {
+        // same as BooleanUtils.toBoolean: 1, y, t, on, yes, true
+        switch (end - start) {
+            case 1 -> {
+                char c = s.charAt(start);
+                return c == '1' || c == 'y' || c == 'Y' || c == 't' || c == 'T';
+            }
+            case 2 -> {
+                return s.regionMatches(true, start, "on", 0, 2);
+            }
+            case 3 -> {
+                return s.regionMatches(true, start, "yes", 0, 3);
+            }
+            case 4 -> {
+                return s.regionMatches(true, start, "true", 0, 4);
+            }
+            default -> {
+                return false;
+            }
+        }
+    }
+
+    private static short parseShort(String s, int start, int end) {
+        int value = Integer.parseInt(s, start, end, 10);
+        if (value < Short.MIN_VALUE || value > Short.MAX_VALUE)
+            throw new NumberFormatException(String.format("Value out of range. Value:\"%s\" Radix:10", s.substring(start, end)));
+        return (short) value;
+    }
+
+    private static byte parseByte(String s, int start, int end) {
+        int value = Integer.parseInt(s, start, end, 10);
+        if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE)
+            throw new NumberFormatException(String.format("Value out of range. Value:\"%s\" Radix:10", s.substring(start, end)));
+        return (byte) value;
+    }
+
+    private static char parseChar(String s, int start, int end) {
+        if (end <= start)
+            throw new IllegalArgumentException("The String must not be empty");
+        return s.charAt(start);
+    }
+
+    /*
+     * Canonical form only: 8-4-4-4-12 hex digits, others are parsed by UUID.fromString.
+     */
+    private static UUID parseUUID(String s, int start, int end) {
+        if (end - start != 36)
+            return UUID.fromString(s.substring(start, end));
+
+        if (s.charAt(start + 8) != '-' || s.charAt(start + 13) != '-' || s.charAt(start + 18) != '-' || s.charAt(start + 23) != '-')
+            throw new IllegalArgumentException("Invalid UUID string: " + s.substring(start, end));
+
+        long most = 0L, least = 0L;
+        for (int i = start; i < start + 18; ++i) {
+            if (i == start + 8 || i == start + 13)
+                continue;
+            most = (most << 4) | hex(s, i, start, end);
+        }
+
+        for (int i = start + 19; i < end; ++i) {
+            if (i == start + 23)
+                continue;
+            least = (least << 4) | hex(s, i, start, end);
+        }
+        return new UUID(most, least);
+    }
+
+    private static long hex(String s, int index, int start, int end) {
+        int digit = Character.digit(s.charAt(index), 16);
+        if (digit < 0)
+            throw new IllegalArgumentException("Invalid UUID string: " + s.substring(start, end));
+        return digit;
+    }
+
+    @FunctionalInterface
+    private interface RegionParser<T> {
+        T parse(String source, int start, int end);
+    }
+
+    private static final class RegionConverter<T> implements Converter<T> {
+        private final Converter<T> whole;
+        private final RegionParser<T> region;
+
+        RegionConverter(Converter<T> whole, RegionParser<T> region) {
+            this.whole = whole;
+            this.region = region;
+        }
+
+        @Override
+        public T convert(String value) {
+            return whole.convert(value);
+        }
+
+        @Override
+        public T convert(String source, int start, int end) {
+            return region.parse(source, start, end);
+        }
+    }
+
+    private static final class EnumConverter<E extends Enum<E>> implements Converter<E> {
+        private final Class<E> enumType;
+        private final E[] constants;
+
+        EnumConverter(Class<E> enumType) {
+            this.enumType = enumType;
+            this.constants = enumType.getEnumConstants();
+        }
+
+        @Override
+        public E convert(String value) {
+            return Enum.valueOf(enumType, value);
+        }
+
+        @Override
+        public E convert(String source, int start, int end) {
+            final int length = end - start;
+            for (E constant : constants) {
+                String name = constant.name();
+                if (name.length() == length && source.regionMatches(start, name, 0, length))
+                    return constant;
+            }
+            throw new IllegalArgumentException(String.format("No enum constant %s.%s", enumType.getCanonicalName(), source.substring(start, end)));
         }
-        throw new NotSupportedException("The parameter conversion type failed, Only supports basic data types.");
     }
 }
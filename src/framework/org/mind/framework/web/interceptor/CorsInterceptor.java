@@ -4,18 +4,25 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 import org.mind.framework.ContextSupport;
 import org.mind.framework.util.HttpUtils;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsProcessor;
 import org.springframework.web.cors.CorsUtils;
 import org.springframework.web.cors.DefaultCorsProcessor;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * @version 1.0
@@ -24,22 +31,65 @@ import java.util.Objects;
  */
 @Slf4j
 public class CorsInterceptor extends AbstractHandlerInterceptor {
+    private static final String VARY_PREFLIGHT = String.join(", ",
+            HttpHeaders.ORIGIN, HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS);
 
     private final CorsConfiguration config;
 
+    private final CorsOriginMatcher matcher;
+
     private CorsProcessor processor;
 
+    // the preflight is answered by the values below, otherwise by the processor of the Spring bean
+    private final boolean precompiled;
+
+    // null if all are allowed, the requested one is answered
+    private final Set<String> methods;
+    private final String allowMethods;
+
+    private final Set<String> headers;
+    private final String allowHeaders;
+
+    private final boolean credentials;
+
+    private final String maxAge;
+
     public CorsInterceptor(CorsConfiguration config) {
         this.config = config;
+        this.matcher = CorsOriginMatcher.of(config.getAllowedOrigins());
         try {
             processor = ContextSupport.getBean(DefaultCorsProcessor.class);
         } catch (NoSuchBeanDefinitionException e) {
-            processor = new CorsRegexProcessor();
+            processor = new CorsRegexProcessor(matcher);
         }
+        this.precompiled = processor instanceof CorsRegexProcessor;
+
+        List<String> allowedMethods = config.getAllowedMethods();
+        this.methods = Objects.isNull(allowedMethods) || allowedMethods.contains(CorsConfiguration.ALL) ?
+                null : Set.copyOf(allowedMethods);
+        this.allowMethods = Objects.isNull(methods) ? null : String.join(",", allowedMethods);
+
+        List<String> allowedHeaders = config.getAllowedHeaders();
+        this.headers = Objects.isNull(allowedHeaders) || allowedHeaders.contains(CorsConfiguration.ALL) ?
+                null : allowedHeaders.stream().map(header -> header.toLowerCase(Locale.ROOT)).collect(Collectors.toUnmodifiableSet());
+        this.allowHeaders = Objects.isNull(headers) ? null : String.join(", ", allowedHeaders);
+
+        this.credentials = BooleanUtils.isTrue(config.getAllowCredentials());
+        this.maxAge = Objects.isNull(config.getMaxAge()) || config.getMaxAge() < 0L ? null : String.valueOf(config.getMaxAge());
     }
 
     @Override
     public boolean doBefore(HttpServletRequest request, HttpServletResponse response) {
+        /*
+         * 浏览器将CORS请求分成两类：简单请求和非简单请求。
+         * 浏览器对这两种请求的处理是不一样的，
+         * 非简单请求的CORS请求，会在正式通信之前，增加一次HTTP查询请求，称为"预检"请求（preflight）
+         */
+        if (CorsUtils.isPreFlightRequest(request)) {
+            this.preflight(request, response);
+            return false;
+        }
+
         boolean isValid;
         try {
             isValid = this.processor.processRequest(config, request, response);
@@ -48,17 +98,69 @@ public class CorsInterceptor extends AbstractHandlerInterceptor {
             return false;
         }
 
-        /*
-         * 浏览器将CORS请求分成两类：简单请求和非简单请求。
-         * 浏览器对这两种请求的处理是不一样的，
-         * 非简单请求的CORS请求，会在正式通信之前，增加一次HTTP查询请求，称为"预检"请求（preflight）
-         */
-        if (isValid && !CorsUtils.isPreFlightRequest(request))
+        if (isValid)
             return super.doBefore(request, response);
 
         return false;
     }
 
+    /**
+     * Answer the preflight request directly, the interceptors and the action are not run.
+     */
+    public void preflight(HttpServletRequest request, HttpServletResponse response) {
+        try {
+            if (!precompiled) {
+                this.processor.processRequest(config, request, response);
+                return;
+            }
+
+            response.addHeader(HttpHeaders.VARY, VARY_PREFLIGHT);
+            String origin = request.getHeader(HttpHeaders.ORIGIN);
+            String method = request.getHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD);
+            String requestHeaders = request.getHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS);
+
+            if (!matcher.matches(origin)
+                    || (Objects.nonNull(methods) && !methods.contains(method))
+                    || !this.allowsHeaders(requestHeaders)) {
+                log.debug("[{}] - Reject the CORS preflight, origin: {}, method: {}, headers: {}",
+                        HttpUtils.getURI(request), origin, method, requestHeaders);
+                response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+                response.getOutputStream().write("Invalid CORS request".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+
+            response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN,
+                    matcher.isAny() && !credentials ? CorsConfiguration.ALL : origin);
+            response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_METHODS, Objects.isNull(allowMethods) ? method : allowMethods);
+
+            String answerHeaders = Objects.isNull(allowHeaders) ? requestHeaders : allowHeaders;
+            if (StringUtils.isNotEmpty(answerHeaders))
+                response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_HEADERS, answerHeaders);
+
+            if (credentials)
+                response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_CREDENTIALS, Boolean.TRUE.toString());
+
+            if (Objects.nonNull(maxAge))
+                response.setHeader(HttpHeaders.ACCESS_CONTROL_MAX_AGE, maxAge);
+
+            response.setStatus(HttpServletResponse.SC_OK);
+        } catch (IOException e) {
+            log.error("[{}] - Cors processor filter an exception: {}", HttpUtils.getURI(request), e.getMessage());
+        }
+    }
+
+    private boolean allowsHeaders(String requestHeaders) {
+        if (Objects.isNull(headers) || StringUtils.isBlank(requestHeaders))
+            return true;
+
+        for (String header : StringUtils.split(requestHeaders, ',')) {
+            String name = header.trim().toLowerCase(Locale.ROOT);
+            if (!name.isEmpty() && !headers.contains(name))
+                return false;
+        }
+        return true;
+    }
+
     @Override
     public String toString() {
         ToStringBuilder builder = new ToStringBuilder(this, ToStringStyle.NO_CLASS_NAME_STYLE)
@@ -0,0 +1,174 @@
+package org.mind.framework.web.interceptor;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Strings;
+import org.springframework.web.cors.CorsConfiguration;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * The allowed origins of {@link org.springframework.web.bind.annotation.CrossOrigin} compiled once:
+ * <pre>
+ * https://www.abc.com   exact origin
+ * www.abc.com           exact host, http or https
+ * *.abc.com             abc.com and its subdomains, the scheme is optional as above
+ * api.*.abc.com         other wildcard, compiled to one regex
+ * </pre>
+ * The host is compared with the port, so <code>localhost:3000</code> is declared with it.
+ * The decisions are cached by the request origin, the cache is bounded and dropped when it is full.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+public class CorsOriginMatcher {
+    private static final String SCHEMA_SEP = "://";
+    private static final String WILDCARD_PREFIX = "*.";
+    private static final int CACHE_SIZE = 1024;
+
+    // the label chars of the subdomain, as the wildcard of the regex
+    private static final Pattern SUBDOMAIN = Pattern.compile("(?:[a-z0-9_-]+\\.)*");
+
+    private final boolean any;
+
+    // scheme://host[:port]
+    private final Set<String> origins = new HashSet<>();
+
+    // host[:port] of http and https
+    private final Set<String> hosts = new HashSet<>();
+
+    private final List<Suffix> suffixes = new ArrayList<>();
+
+    private final List<Pattern> patterns = new ArrayList<>();
+
+    private final Map<String, Boolean> decisions = new ConcurrentHashMap<>();
+
+    private CorsOriginMatcher(Collection<String> allowedOrigins) {
+        boolean all = false;
+        for (String allowed : allowedOrigins) {
+            if (StringUtils.isBlank(allowed))
+                continue;
+
+            String origin = Strings.CS.removeEnd(allowed.trim().toLowerCase(Locale.ROOT), "/");
+            if (CorsConfiguration.ALL.equals(origin)) {
+                all = true;
+                continue;
+            }
+
+            int index = origin.indexOf(SCHEMA_SEP);
+            String scheme = index > -1 ? origin.substring(0, index) : null;
+            String host = index > -1 ? origin.substring(index + SCHEMA_SEP.length()) : origin;
+
+            if (!host.contains(CorsConfiguration.ALL)) {
+                if (Objects.isNull(scheme))
+                    hosts.add(host);
+                else
+                    origins.add(origin);
+            } else if (host.startsWith(WILDCARD_PREFIX) && host.indexOf('*', 1) < 0) {
+                suffixes.add(new Suffix(scheme, host.substring(WILDCARD_PREFIX.length())));
+            } else {
+                patterns.add(toPattern(scheme, host));
+            }
+        }
+        this.any = all;
+    }
+
+    public static CorsOriginMatcher of(Collection<String> allowedOrigins) {
+        return new CorsOriginMatcher(Objects.isNull(allowedOrigins) ? List.of() : allowedOrigins);
+    }
+
+    /**
+     * @return true if all origins are allowed, <code>*</code>.
+     */
+    public boolean isAny() {
+        return any;
+    }
+
+    public boolean matches(String requestOrigin) {
+        if (StringUtils.isEmpty(requestOrigin))
+            return false;
+
+        if (any)
+            return true;
+
+        Boolean decision = decisions.get(requestOrigin);
+        if (Objects.nonNull(decision))
+            return decision;
+
+        decision = this.match(requestOrigin);
+        // bounded, drop all when it is full
+        if (decisions.size() >= CACHE_SIZE)
+            decisions.clear();
+        decisions.put(requestOrigin, decision);
+        return decision;
+    }
+
+    private boolean match(String requestOrigin) {
+        String origin = Strings.CS.removeEnd(requestOrigin.trim().toLowerCase(Locale.ROOT), "/");
+        int index = origin.indexOf(SCHEMA_SEP);
+        if (index < 0)
+            return false;
+
+        if (origins.contains(origin))
+            return true;
+
+        String scheme = origin.substring(0, index);
+        boolean web = "http".equals(scheme) || "https".equals(scheme);
+        String host = origin.substring(index + SCHEMA_SEP.length());
+        if (web && hosts.contains(host))
+            return true;
+
+        for (Suffix suffix : suffixes)
+            if (suffix.matches(scheme, web, host))
+                return true;
+
+        for (Pattern pattern : patterns)
+            if (pattern.matcher(origin).matches())
+                return true;
+
+        return false;
+    }
+
+    /*
+     * Each '*' is any subdomain labels, the '.' after it is optional: api.*.abc.com matches api.abc.com
+     */
+    private static Pattern toPattern(String scheme, String host) {
+        StringBuilder regex = new StringBuilder(Objects.isNull(scheme) ? "https?" : Pattern.quote(scheme)).append(Pattern.quote(SCHEMA_SEP));
+        String[] parts = StringUtils.splitPreserveAllTokens(host, '*');
+        for (int i = 0; i < parts.length; ++i) {
+            String part = parts[i];
+            if (i > 0) {
+                regex.append(SUBDOMAIN.pattern());
+                part = Strings.CS.removeStart(part, ".");
+            }
+            if (!part.isEmpty())
+                regex.append(Pattern.quote(part));
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    private record Suffix(String scheme, String domain) {
+        boolean matches(String requestScheme, boolean web, String host) {
+            if (Objects.isNull(scheme) ? !web : !scheme.equals(requestScheme))
+                return false;
+
+            if (host.equals(domain))
+                return true;
+
+            int prefix = host.length() - domain.length() - 1;
+            return prefix > 0
+                    && host.endsWith(domain)
+                    && host.charAt(prefix) == '.'
+                    && SUBDOMAIN.matcher(host.substring(0, prefix + 1)).matches();
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package org.mind.framework.web.interceptor;
 
 import org.apache.commons.lang3.StringUtils;
-import org.mind.framework.util.MatcherUtils;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.DefaultCorsProcessor;
 
@@ -14,6 +13,17 @@ import java.util.Objects;
  */
 public class CorsRegexProcessor extends DefaultCorsProcessor {
 
+    // compiled origins of the configuration, null compiles them by each request
+    private final CorsOriginMatcher matcher;
+
+    public CorsRegexProcessor() {
+        this(null);
+    }
+
+    public CorsRegexProcessor(CorsOriginMatcher matcher) {
+        this.matcher = matcher;
+    }
+
     @Override
     protected String checkOrigin(CorsConfiguration config, String requestOrigin) {
         if (StringUtils.isEmpty(requestOrigin)
@@ -22,17 +32,13 @@ public class CorsRegexProcessor extends DefaultCorsProcessor {
             return null;
         }
 
-        for (String allowedOrigin : config.getAllowedOrigins()) {
-            if (CorsConfiguration.ALL.equals(allowedOrigin)) {
-                if (!Boolean.TRUE.equals(config.getAllowCredentials()))
-                    return CorsConfiguration.ALL;
-                return requestOrigin;
-            }
+        // Wildcard match: (CrossOrigin(origins = {"*.abc.com"}) )
+        CorsOriginMatcher origins = Objects.isNull(matcher) ? CorsOriginMatcher.of(config.getAllowedOrigins()) : matcher;
+        if (!origins.matches(requestOrigin))
+            return null;
 
-            // Regex pattern match: (CrossOrigin(origins = {"*.abc.com"}) )
-            if (MatcherUtils.matchURL(allowedOrigin, requestOrigin))
-                return requestOrigin;
-        }
-        return null;
+        if (origins.isAny() && !Boolean.TRUE.equals(config.getAllowCredentials()))
+            return CorsConfiguration.ALL;
+        return requestOrigin;
     }
 }
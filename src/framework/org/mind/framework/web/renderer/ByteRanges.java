@@ -0,0 +1,270 @@
+package org.mind.framework.web.renderer;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.ServletResponseWrapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Strings;
+import org.mind.framework.util.ResponseUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * HTTP Range of the file response (RFC 9110), the resumed download is answered with 206 and the requested bytes:
+ * <ul>
+ *     <li>one range, the body is the bytes with <code>Content-Range</code></li>
+ *     <li>many ranges, the body is <code>multipart/byteranges</code></li>
+ *     <li>no satisfiable range, 416 with <code>Content-Range: bytes *&#47;length</code></li>
+ *     <li><code>If-Range</code> does not match the validator (file changed), the whole file with 200</li>
+ * </ul>
+ * The bytes are sent by Tomcat sendfile when the connector supports it (<code>server.compression=off</code>) and
+ * the response is not wrapped, otherwise by {@link FileChannel#transferTo}, the content length is long.
+ * The partial response carries the strong ETag of the raw bytes, so the connector does not compress it.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+public final class ByteRanges {
+    // more ranges are ignored (the whole file is sent), as many small ranges are expensive
+    public static final int MAX_RANGES = 16;
+
+    private static final String BYTES_UNIT = "bytes";
+    private static final String MULTIPART_BYTERANGES = "multipart/byteranges; boundary=";
+
+    // request attributes of the Tomcat sendfile
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private ByteRanges() {
+    }
+
+    /**
+     * Write the file or the requested ranges of it, the status, Content-Length and Accept-Ranges are set,
+     * the body of HEAD is not written.
+     *
+     * @param eTag         validator of If-Range, null if not generated
+     * @param lastModified validator of If-Range, ms
+     */
+    public static void write(HttpServletRequest request,
+                             HttpServletResponse response,
+                             Path path,
+                             long length,
+                             String contentType,
+                             String eTag,
+                             long lastModified) throws IOException {
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, BYTES_UNIT);
+        response.setContentType(contentType);
+
+        boolean isGet = HttpMethod.GET.matches(request.getMethod());
+        String strongETag = strongETag(eTag, length, lastModified);
+        List<Range> ranges = isGet && matchesIfRange(request, strongETag, lastModified) ?
+                parse(request.getHeader(HttpHeaders.RANGE), length) :
+                null;
+
+        if (Objects.isNull(ranges)) {
+            response.setContentLengthLong(length);
+            if (!HttpMethod.HEAD.matches(request.getMethod()))
+                send(request, response, path, 0L, length);
+            return;
+        }
+
+        if (ranges.isEmpty()) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            response.setContentLength(0);
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        // the positions are of the raw bytes, the connector does not compress the body of the strong ETag
+        response.setHeader(HttpHeaders.ETAG, strongETag);
+        if (ranges.size() == 1) {
+            Range range = ranges.get(0);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, range.contentRange(length));
+            response.setContentLengthLong(range.length());
+            send(request, response, path, range.getFirst(), range.length());
+            return;
+        }
+
+        String boundary = UUID.randomUUID().toString().replace("-", StringUtils.EMPTY);
+        List<byte[]> heads = new ArrayList<>(ranges.size());
+        long contentLength = 0L;
+        for (Range range : ranges) {
+            byte[] head = String.format("\r\n--%s\r\n%s: %s\r\n%s: %s\r\n\r\n",
+                            boundary,
+                            HttpHeaders.CONTENT_TYPE, contentType,
+                            HttpHeaders.CONTENT_RANGE, range.contentRange(length))
+                    .getBytes(StandardCharsets.ISO_8859_1);
+            heads.add(head);
+            contentLength += head.length + range.length();
+        }
+        byte[] tail = String.format("\r\n--%s--\r\n", boundary).getBytes(StandardCharsets.ISO_8859_1);
+        contentLength += tail.length;
+
+        response.setContentType(MULTIPART_BYTERANGES + boundary);
+        response.setContentLengthLong(contentLength);
+
+        ServletOutputStream output = response.getOutputStream();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            for (int i = 0; i < ranges.size(); ++i) {
+                output.write(heads.get(i));
+                ResponseUtils.transfer(channel, ranges.get(i).getFirst(), ranges.get(i).length(), output);
+            }
+        }
+        output.write(tail);
+        output.flush();
+    }
+
+    /**
+     * Parse the Range header.
+     *
+     * @return null if the header is absent, not of bytes, malformed or of too many ranges (the whole file is sent);
+     * empty if no range is satisfiable (416); otherwise the satisfiable ranges in the requested order.
+     */
+    public static List<Range> parse(String header, long length) {
+        if (StringUtils.isEmpty(header))
+            return null;
+
+        int index = header.indexOf('=');
+        if (index < 0 || !BYTES_UNIT.equalsIgnoreCase(header.substring(0, index).trim()))
+            return null;
+
+        String[] specs = StringUtils.split(header.substring(index + 1), ',');
+        if (specs.length == 0 || specs.length > MAX_RANGES)
+            return null;
+
+        List<Range> ranges = new ArrayList<>(specs.length);
+        try {
+            for (String spec : specs) {
+                String value = spec.trim();
+                int dash = value.indexOf('-');
+                if (dash < 0)
+                    return null;
+
+                String start = value.substring(0, dash).trim();
+                String end = value.substring(dash + 1).trim();
+                if (start.isEmpty()) {
+                    // suffix, the last n bytes
+                    long suffix = Long.parseLong(end);
+                    if (suffix < 0L)
+                        return null;
+                    if (suffix > 0L && length > 0L)
+                        ranges.add(new Range(Math.max(0L, length - suffix), length - 1L));
+                    continue;
+                }
+
+                long first = Long.parseLong(start);
+                long last = end.isEmpty() ? Long.MAX_VALUE : Long.parseLong(end);
+                if (first < 0L || last < first)
+                    return null;
+
+                // not satisfiable, skipped
+                if (first < length)
+                    ranges.add(new Range(first, Math.min(last, length - 1L)));
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return ranges.isEmpty() ? Collections.emptyList() : ranges;
+    }
+
+    /*
+     * Strong validator of the raw bytes sent in the partial response: the ETag without the weak
+     * indicator, or the size and the date (seconds) if there is no ETag.
+     */
+    private static String strongETag(String eTag, long length, long lastModified) {
+        if (Objects.isNull(eTag))
+            return String.format("\"%d-%d\"", length, lastModified / 1_000L * 1_000L);
+        return Strings.CS.removeStart(eTag.trim(), "W/");
+    }
+
+    /*
+     * If-Range is absent, or matches the strong ETag of the partial response or the Last-Modified date.
+     */
+    private static boolean matchesIfRange(HttpServletRequest request, String strongETag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (StringUtils.isEmpty(ifRange))
+            return true;
+
+        ifRange = ifRange.trim();
+        if (ifRange.startsWith("W/"))
+            return false;// the weak validator never matches (strong comparison)
+
+        if (ifRange.startsWith("\""))
+            return strongETag.equals(ifRange);
+
+        long date;
+        try {
+            date = request.getDateHeader(HttpHeaders.IF_RANGE);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        // HTTP date is in seconds
+        return lastModified > 0L && date == lastModified / 1_000L * 1_000L;
+    }
+
+    private static void send(HttpServletRequest request, HttpServletResponse response, Path path, long position, long count) throws IOException {
+        if (count == 0L)
+            return;
+
+        // zero copy by the connector, the response is written after the servlet returns,
+        // a wrapped response (e.g. captured by the response cache) would see an empty body
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))
+                && !(response instanceof ServletResponseWrapper)
+                && !response.isCommitted()) {
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, position);
+            request.setAttribute(SENDFILE_END, position + count);
+            return;
+        }
+
+        ServletOutputStream output = response.getOutputStream();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ResponseUtils.transfer(channel, position, count, output);
+        }
+        output.flush();
+    }
+
+    /**
+     * Satisfiable range, the positions are inclusive.
+     */
+    @Getter
+    public static final class Range {
+        private final long first;
+        private final long last;
+
+        public Range(long first, long last) {
+            this.first = first;
+            this.last = last;
+        }
+
+        public long length() {
+            return last - first + 1L;
+        }
+
+        String contentRange(long length) {
+            return String.format("bytes %d-%d/%d", first, last, length);
+        }
+
+        @Override
+        public String toString() {
+            return first + "-" + last;
+        }
+    }
+}
@@ -4,10 +4,11 @@ import jakarta.servlet.ServletContext;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.apache.commons.lang3.StringUtils;
-import org.mind.framework.util.ResponseUtils;
 import org.mind.framework.web.Action;
 import org.mind.framework.web.dispatcher.handler.HandlerResult;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.io.File;
 import java.io.IOException;
@@ -18,6 +19,8 @@ import java.util.Objects;
 /**
  * Render http response as binary stream. This is usually used to render PDF,
  * image, or any binary type.
+ * <p>
+ * The Range request is answered with the partial content, so a large download is resumed.
  *
  * @author dp
  */
@@ -60,10 +63,15 @@ public class FileRenderer extends Render {
             return;
         }
 
-        if (basicFileAttributes.size() > Integer.MAX_VALUE) {
-            HandlerResult.setRequestAttribute(request);
-            throw new IOException(String.format("Resource content too long (beyond Integer.MAX_VALUE): %s", file.getName()));
-        }
+        long size = basicFileAttributes.size();
+        long lastModified = basicFileAttributes.lastModifiedTime().toMillis();
+        // as same as the static resource, the resumed download is validated by If-Range date
+        String eTag = String.format("W/\"%d-%d\"", size, lastModified / 1_000L * 1_000L);
+        String method = request.getMethod();
+        boolean isGet = HttpMethod.GET.matches(method);
+        if ((isGet || HttpMethod.HEAD.matches(method)) &&
+                new ServletWebRequest(request, response).checkNotModified(eTag, lastModified) && isGet)
+            return;
 
         String mime = contentType;
         if (StringUtils.isEmpty(mime)) {
@@ -73,10 +81,7 @@ public class FileRenderer extends Render {
                 mime = MediaType.APPLICATION_OCTET_STREAM_VALUE;
         }
 
-        response.setContentType(mime);
-        response.setContentLength((int) basicFileAttributes.size());
-
-        ResponseUtils.write(response.getOutputStream(), this.file);
+        ByteRanges.write(request, response, file.toPath(), size, mime, eTag, lastModified);
     }
 
 }
@@ -0,0 +1,231 @@
+package org.mind.framework.web.renderer;
+
+import com.google.gson.JsonIOException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.commons.lang3.StringUtils;
+import org.mind.framework.util.JsonUtils;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Render the object as JSON, serialized by Gson straight to the response output stream.
+ * <p>
+ * The chars are encoded as UTF-8 straight into a pooled buffer, a response which fits in the buffer is written once
+ * with <code>Content-Length</code>, a larger one is flushed as it is serialized (chunked transfer),
+ * so the JSON string and its bytes are never held in the heap.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+public class JsonRender extends Render {
+    // bytes, the response fits in it has Content-Length
+    private static final int BUFFER_SIZE = 8192;
+
+    // idle buffers, the buffers over it are left to the GC
+    private static final BlockingQueue<byte[]> BUFFER_POOL = new ArrayBlockingQueue<>(64);
+
+    private final Object target;
+
+    private final Type targetType;
+
+    // serialize only the fields annotated by @Expose
+    private final boolean exposed;
+
+    public JsonRender(Object target) {
+        this(target, null, false);
+    }
+
+    public JsonRender(Object target, Type targetType, boolean exposed) {
+        this.target = target;
+        this.targetType = Objects.isNull(targetType) && Objects.nonNull(target) ? target.getClass() : targetType;
+        this.exposed = exposed;
+    }
+
+    @Override
+    public void render(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(
+                StringUtils.isEmpty(contentType) ?
+                        MediaType.APPLICATION_JSON_VALUE + ";charset=UTF-8" :
+                        contentType + ";charset=UTF-8");
+
+        BufferedWriter writer = new BufferedWriter(response);
+        try {
+            try {
+                JsonUtils.toJson(target, targetType, exposed, writer);
+            } catch (RuntimeException e) {
+                // the output stream fails, e.g. the client aborted
+                if (e instanceof JsonIOException && e.getCause() instanceof IOException cause)
+                    throw cause;
+
+                // nothing is sent yet, answer the empty JSON as the JsonUtils#toJson does
+                if (!writer.reset())
+                    throw e;
+
+                log.error("Serialize JSON failed: {}", e.getMessage(), e);
+                writer.write(JsonUtils.emptyJson(target));
+            }
+            writer.finish();
+        } finally {
+            writer.release();
+        }
+    }
+
+    public Object getTarget() {
+        return target;
+    }
+
+    /*
+     * Encodes the chars as UTF-8 into a pooled buffer, the response is committed with Content-Length
+     * if all bytes fit in it, otherwise the buffer is flushed to the response output stream whenever it is full.
+     * No encoder and no second buffer are created for each render.
+     */
+    private static final class BufferedWriter extends Writer {
+        // the longest UTF-8 sequence of one code point
+        private static final int MAX_BYTES = 4;
+
+        private final HttpServletResponse response;
+        private byte[] buffer;
+        private int count;
+        private OutputStream output;
+
+        // the high surrogate waits for its low surrogate in the next write
+        private char highSurrogate;
+
+        BufferedWriter(HttpServletResponse response) {
+            this.response = response;
+            byte[] pooled = BUFFER_POOL.poll();
+            this.buffer = Objects.isNull(pooled) ? new byte[BUFFER_SIZE] : pooled;
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            if (count + MAX_BYTES > buffer.length)
+                this.spill();
+            this.encode((char) c);
+        }
+
+        @Override
+        public void write(String str, int offset, int length) throws IOException {
+            for (int end = offset + length; offset < end; ) {
+                if (count + MAX_BYTES > buffer.length)
+                    this.spill();
+
+                // ASCII, as most of the JSON
+                int limit = Math.min(end, offset + buffer.length - count - MAX_BYTES);
+                char c;
+                while (offset < limit && (c = str.charAt(offset)) < 0x80 && highSurrogate == 0) {
+                    buffer[count++] = (byte) c;
+                    ++offset;
+                }
+
+                if (offset < end && count + MAX_BYTES <= buffer.length)
+                    this.encode(str.charAt(offset++));
+            }
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) throws IOException {
+            for (int end = offset + length; offset < end; ++offset)
+                this.write(chars[offset]);
+        }
+
+        /*
+         * Do nothing, the response is written by finish.
+         */
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        /**
+         * Discard the buffered bytes, false if some bytes have been sent.
+         */
+        boolean reset() {
+            if (Objects.nonNull(output))
+                return false;
+            count = 0;
+            highSurrogate = 0;
+            return true;
+        }
+
+        void finish() throws IOException {
+            if (highSurrogate != 0) {
+                buffer[count++] = '?';
+                highSurrogate = 0;
+            }
+
+            if (Objects.isNull(output)) {
+                // all bytes are known
+                response.setContentLength(count);
+                output = response.getOutputStream();
+            }
+
+            if (count > 0)
+                output.write(buffer, 0, count);
+            count = 0;
+            output.flush();
+        }
+
+        void release() {
+            if (Objects.nonNull(buffer)) {
+                BUFFER_POOL.offer(buffer);
+                buffer = null;
+            }
+        }
+
+        /*
+         * The buffer has MAX_BYTES left at least.
+         */
+        private void encode(char c) {
+            if (highSurrogate != 0) {
+                char high = highSurrogate;
+                highSurrogate = 0;
+                if (Character.isLowSurrogate(c)) {
+                    int codePoint = Character.toCodePoint(high, c);
+                    buffer[count++] = (byte) (0xF0 | (codePoint >> 18));
+                    buffer[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    buffer[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    buffer[count++] = (byte) (0x80 | (codePoint & 0x3F));
+                    return;
+                }
+                // malformed, replaced as String#getBytes does
+                buffer[count++] = '?';
+            }
+
+            if (c < 0x80) {
+                buffer[count++] = (byte) c;
+            } else if (c < 0x800) {
+                buffer[count++] = (byte) (0xC0 | (c >> 6));
+                buffer[count++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c)) {
+                highSurrogate = c;
+            } else if (Character.isLowSurrogate(c)) {
+                buffer[count++] = '?';
+            } else {
+                buffer[count++] = (byte) (0xE0 | (c >> 12));
+                buffer[count++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[count++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+
+        private void spill() throws IOException {
+            if (Objects.isNull(output))
+                output = response.getOutputStream();
+
+            output.write(buffer, 0, count);
+            count = 0;
+        }
+    }
+}
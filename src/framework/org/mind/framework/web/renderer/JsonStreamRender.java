@@ -0,0 +1,237 @@
+package org.mind.framework.web.renderer;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Strings;
+import org.mind.framework.util.JsonUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Render the large result as a JSON array or NDJSON, element by element, so the result is never
+ * held in the heap. The action returns a {@link Stream} or an {@link Iterator} (rendered as is),
+ * or this render to read the pages or choose the format:
+ * <pre>
+ * &#64;Mapping("/orders/export")
+ * public Render export() {
+ *     return JsonStreamRender.pages(() -> orderDao.nextPage(500)).ndjson();
+ * }
+ * </pre>
+ * The response is flushed every {@link #flushSize(int)} elements (chunked transfer). The stream, or the
+ * iterator which is {@link AutoCloseable}, is closed when the response completes, fails or the client aborts.
+ * <p>
+ * The format is NDJSON if the request accepts <code>application/x-ndjson</code>, otherwise the JSON array.
+ * The response has been committed when the source fails, the client receives the truncated body.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+public class JsonStreamRender extends Render implements AutoCloseable {
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    // chars of the writer buffer
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final int DEFAULT_FLUSH_SIZE = 100;
+
+    private static final String NULL = "null";
+
+    public enum Format {ARRAY, NDJSON}
+
+    private final Iterator<?> source;
+
+    // closed when the response completes, nullable
+    private final AutoCloseable resource;
+
+    // null is negotiated by the Accept header
+    private Format format;
+
+    private int flushSize = DEFAULT_FLUSH_SIZE;
+
+    // serialize only the fields annotated by @Expose
+    private boolean exposed;
+
+    // elements written
+    @Getter
+    private long count;
+
+    private boolean closed;
+
+    public JsonStreamRender(Iterator<?> source, AutoCloseable resource) {
+        this.source = Objects.requireNonNull(source);
+        this.resource = resource;
+    }
+
+    public static JsonStreamRender of(Stream<?> stream) {
+        return new JsonStreamRender(stream.iterator(), stream);
+    }
+
+    public static JsonStreamRender of(Iterator<?> iterator) {
+        return new JsonStreamRender(iterator, iterator instanceof AutoCloseable closeable ? closeable : null);
+    }
+
+    /**
+     * Read the pages until the supplier returns null or an empty page, only one page is held in the heap.
+     */
+    public static JsonStreamRender pages(Supplier<? extends Collection<?>> pages) {
+        return new JsonStreamRender(new PageIterator(pages), null);
+    }
+
+    /**
+     * The result is rendered element by element: {@link Stream}, {@link Iterator} or this render.
+     */
+    public static boolean isStreaming(Object result) {
+        return result instanceof JsonStreamRender || result instanceof Stream<?> || result instanceof Iterator<?>;
+    }
+
+    /**
+     * @return the render of the streamed result, null if the result is not streamed.
+     */
+    public static JsonStreamRender from(Object result) {
+        if (result instanceof JsonStreamRender render)
+            return render;
+        if (result instanceof Stream<?> stream)
+            return of(stream);
+        if (result instanceof Iterator<?> iterator)
+            return of(iterator);
+        return null;
+    }
+
+    public JsonStreamRender array() {
+        this.format = Format.ARRAY;
+        return this;
+    }
+
+    public JsonStreamRender ndjson() {
+        this.format = Format.NDJSON;
+        return this;
+    }
+
+    public JsonStreamRender flushSize(int flushSize) {
+        this.flushSize = Math.max(1, flushSize);
+        return this;
+    }
+
+    public JsonStreamRender exposed(boolean exposed) {
+        this.exposed = exposed;
+        return this;
+    }
+
+    @Override
+    public void render(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        try {
+            Format current = Objects.nonNull(format) ? format :
+                    Strings.CI.contains(request.getHeader(HttpHeaders.ACCEPT), APPLICATION_NDJSON_VALUE) ? Format.NDJSON : Format.ARRAY;
+
+            response.setContentType(
+                    (current == Format.NDJSON ?
+                            APPLICATION_NDJSON_VALUE :
+                            StringUtils.isEmpty(contentType) ? MediaType.APPLICATION_JSON_VALUE : contentType) + ";charset=UTF-8");
+
+            Writer writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8), BUFFER_SIZE);
+            this.write(current, writer);
+        } catch (JsonIOException e) {
+            // the output stream fails, e.g. the client aborted
+            if (e.getCause() instanceof IOException cause)
+                throw cause;
+            throw e;
+        } finally {
+            this.close();
+        }
+    }
+
+    private void write(Format current, Writer writer) throws IOException {
+        final Gson gson = exposed ? JsonUtils.getExposedSingleton() : JsonUtils.getSingleton();
+        if (current == Format.ARRAY)
+            writer.write(JsonUtils.BEGIN_ARRAY);
+
+        while (source.hasNext()) {
+            Object element = source.next();
+            if (current == Format.ARRAY && count > 0L)
+                writer.write(JsonUtils.COMMA_SEPARATOR);
+
+            if (Objects.isNull(element))
+                writer.write(NULL);
+            else
+                gson.toJson(element, element.getClass(), writer);
+
+            if (current == Format.NDJSON)
+                writer.write('\n');
+
+            // sent to the client, the buffer of the container is not grown
+            if (++count % flushSize == 0L)
+                writer.flush();
+        }
+
+        if (current == Format.ARRAY)
+            writer.write(JsonUtils.END_ARRAY);
+        writer.flush();
+    }
+
+    /**
+     * Close the stream once, also when the result is not rendered, e.g. an interceptor fails.
+     */
+    @Override
+    public void close() {
+        if (closed || Objects.isNull(resource))
+            return;
+
+        closed = true;
+
+        try {
+            resource.close();
+        } catch (Exception e) {
+            log.warn("Close the JSON stream failed: {}", e.getMessage());
+        }
+    }
+
+    /*
+     * Elements of the pages, the next page is read when the current one is consumed.
+     */
+    private static final class PageIterator implements Iterator<Object> {
+        private final Supplier<? extends Collection<?>> pages;
+        private Iterator<?> page = Collections.emptyIterator();
+        private boolean end;
+
+        PageIterator(Supplier<? extends Collection<?>> pages) {
+            this.pages = Objects.requireNonNull(pages);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!end && !page.hasNext()) {
+                Collection<?> next = pages.get();
+                if (Objects.isNull(next) || next.isEmpty())
+                    end = true;
+                else
+                    page = next.iterator();
+            }
+            return !end;
+        }
+
+        @Override
+        public Object next() {
+            if (!this.hasNext())
+                throw new NoSuchElementException();
+            return page.next();
+        }
+    }
+}
@@ -29,6 +29,14 @@ public abstract class Render {
 
     public static final String METHOD_NOT_ALLOWED_HTML = "<html><head><title>405 Method Not Allowed</title></head><body bgcolor='white'><center><h1>405 Method Not Allowed</h1></center><hr><center>Webmind Service</center></body></html>";
 
+    public static final String PAYLOAD_TOO_LARGE_HTML = "<html><head><title>413 Payload Too Large</title></head><body bgcolor='white'><center><h1>413 Payload Too Large</h1></center><hr><center>Webmind Service</center></body></html>";
+
+    public static final String UNSUPPORTED_MEDIA_TYPE_HTML = "<html><head><title>415 Unsupported Media Type</title></head><body bgcolor='white'><center><h1>415 Unsupported Media Type</h1></center><hr><center>Webmind Service</center></body></html>";
+
+    public static final String TOO_MANY_REQUESTS_HTML = "<html><head><title>429 Too Many Requests</title></head><body bgcolor='white'><center><h1>429 Too Many Requests</h1></center><hr><center>Webmind Service</center></body></html>";
+
+    public static final String SERVICE_UNAVAILABLE_HTML = "<html><head><title>503 Service Unavailable</title></head><body bgcolor='white'><center><h1>503 Service Unavailable</h1></center><hr><center>Webmind Service</center></body></html>";
+
 
     /**
      * get response content type.
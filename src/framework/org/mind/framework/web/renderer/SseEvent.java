@@ -0,0 +1,115 @@
+package org.mind.framework.web.renderer;
+
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+import org.mind.framework.util.JsonUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Server-Sent Event, encoded once to the UTF-8 bytes of the <code>text/event-stream</code> format,
+ * the same bytes are written to all subscribers.
+ * <pre>
+ * id: 1
+ * event: price
+ * data: {"symbol":"BTC","price":65000}
+ * </pre>
+ * The data of a non-string object is serialized as JSON.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@Getter
+public final class SseEvent {
+    // comment line, keeps the idle connection alive through the proxies
+    public static final SseEvent HEARTBEAT = comment("heartbeat");
+
+    private final String id;
+
+    private final String event;
+
+    // sequence of the hub, 0 if not published by a hub
+    private final long sequence;
+
+    private final byte[] bytes;
+
+    private SseEvent(String id, String event, long sequence, byte[] bytes) {
+        this.id = id;
+        this.event = event;
+        this.sequence = sequence;
+        this.bytes = bytes;
+    }
+
+    public static SseEvent of(Object data) {
+        return of(null, null, data);
+    }
+
+    public static SseEvent of(String event, Object data) {
+        return of(null, event, data);
+    }
+
+    public static SseEvent of(String id, String event, Object data) {
+        return new SseEvent(id, event, 0L, encode(id, event, data, -1L));
+    }
+
+    /**
+     * Event with the reconnection time (ms) of the client.
+     */
+    public static SseEvent of(String id, String event, Object data, long retry) {
+        return new SseEvent(id, event, 0L, encode(id, event, data, retry));
+    }
+
+    /**
+     * Comment, ignored by the client.
+     */
+    public static SseEvent comment(String text) {
+        StringBuilder builder = new StringBuilder(text.length() + 4);
+        for (String line : text.split("\r\n|\r|\n", -1))
+            builder.append(": ").append(line).append('\n');
+        builder.append('\n');
+        return new SseEvent(null, null, 0L, builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /*
+     * Event published by the hub, the id is the sequence if not given.
+     */
+    static SseEvent sequenced(long sequence, String id, String event, Object data) {
+        String eventId = StringUtils.isEmpty(id) ? String.valueOf(sequence) : id;
+        return new SseEvent(eventId, event, sequence, encode(eventId, event, data, -1L));
+    }
+
+    public int length() {
+        return bytes.length;
+    }
+
+    private static byte[] encode(String id, String event, Object data, long retry) {
+        String text = Objects.isNull(data) ?
+                StringUtils.EMPTY :
+                data instanceof CharSequence ? data.toString() : JsonUtils.toJson(data);
+
+        StringBuilder builder = new StringBuilder(text.length() + 64);
+        if (StringUtils.isNotEmpty(id))
+            builder.append("id: ").append(checkLine(id)).append('\n');
+
+        if (StringUtils.isNotEmpty(event))
+            builder.append("event: ").append(checkLine(event)).append('\n');
+
+        if (retry > 0L)
+            builder.append("retry: ").append(retry).append('\n');
+
+        // each line of the data is a data field
+        for (String line : text.split("\r\n|\r|\n", -1))
+            builder.append("data: ").append(line).append('\n');
+
+        builder.append('\n');
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String checkLine(String value) {
+        if (StringUtils.containsAny(value, '\r', '\n'))
+            throw new IllegalArgumentException("The id or event name of SSE can not contain line breaks: " + value);
+        return value;
+    }
+}
@@ -0,0 +1,225 @@
+package org.mind.framework.web.renderer;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.mind.framework.service.threads.ExecutorFactory;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Broadcast of Server-Sent Events, an event is encoded once and the same bytes are buffered to all subscribers.
+ * <pre>
+ * SseHub hub = new SseHub("prices");
+ *
+ * // action
+ * return hub.subscribe();
+ *
+ * // producer
+ * hub.publish("price", priceObject);
+ * </pre>
+ * The last published events are kept in a bounded history, a reconnected client with <code>Last-Event-ID</code>
+ * receives the events after it. The idle connections receive a heartbeat comment, a broken connection is found
+ * by the failed write and removed.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@Slf4j
+public class SseHub {
+    public static final int DEFAULT_BUFFER_SIZE = 256;
+    public static final int DEFAULT_HISTORY_SIZE = 1024;
+    public static final long DEFAULT_HEARTBEAT_SECONDS = 15L;
+
+    @Getter
+    private final String name;
+
+    // events of each connection
+    private final int bufferSize;
+
+    private final int historySize;
+
+    private final Set<SseRender> subscribers = ConcurrentHashMap.newKeySet();
+
+    // guarded by this
+    private final ArrayDeque<SseEvent> history;
+
+    // guarded by this
+    private long sequence;
+
+    private final ScheduledFuture<?> heartbeat;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+
+    public SseHub(String name) {
+        this(name, DEFAULT_BUFFER_SIZE, DEFAULT_HISTORY_SIZE, DEFAULT_HEARTBEAT_SECONDS);
+    }
+
+    /**
+     * @param bufferSize       events buffered for each connection, the client is evicted when it is full
+     * @param historySize      events kept for the resumed clients, 0 does not resume
+     * @param heartbeatSeconds interval of the heartbeat, 0 disables it
+     */
+    public SseHub(String name, int bufferSize, int historySize, long heartbeatSeconds) {
+        if (bufferSize < 1)
+            throw new IllegalArgumentException("The buffer size of SSE must be greater than 0");
+
+        this.name = name;
+        this.bufferSize = bufferSize;
+        this.historySize = Math.max(0, historySize);
+        this.history = new ArrayDeque<>(Math.min(this.historySize, 64));
+        this.heartbeat = heartbeatSeconds > 0L ?
+                Heartbeat.EXECUTOR.scheduleWithFixedDelay(this::heartbeat, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS) :
+                null;
+    }
+
+    /**
+     * A new connection, returned by the action.
+     */
+    public SseRender subscribe() {
+        return new SseRender(this, bufferSize);
+    }
+
+    /**
+     * Publish the event to all subscribers, the id is the sequence of the hub.
+     *
+     * @return the sequence of the event.
+     */
+    public long publish(String event, Object data) {
+        return this.publish(null, event, data);
+    }
+
+    /**
+     * Publish the event to all subscribers.
+     *
+     * @param id the sequence of the hub if empty.
+     * @return the sequence of the event.
+     */
+    public long publish(String id, String event, Object data) {
+        SseEvent sseEvent;
+        synchronized (this) {
+            sseEvent = SseEvent.sequenced(++sequence, id, event, data);
+            if (historySize > 0) {
+                if (history.size() == historySize)
+                    history.pollFirst();
+                history.addLast(sseEvent);
+            }
+
+            // buffered in order, the joining client is not missed or repeated
+            for (SseRender subscriber : subscribers)
+                subscriber.offer(sseEvent);
+        }
+
+        published.increment();
+        // written outside the lock
+        for (SseRender subscriber : subscribers)
+            subscriber.drain();
+        return sseEvent.getSequence();
+    }
+
+    /**
+     * Send the event which is not kept in the history, e.g. a comment.
+     */
+    public void broadcast(SseEvent event) {
+        for (SseRender subscriber : subscribers) {
+            if (subscriber.offer(event))
+                subscriber.drain();
+        }
+    }
+
+    /**
+     * Close all connections and stop the heartbeat.
+     */
+    public void close() {
+        if (Objects.nonNull(heartbeat))
+            heartbeat.cancel(false);
+
+        for (SseRender subscriber : subscribers)
+            subscriber.close();
+    }
+
+    public int size() {
+        return subscribers.size();
+    }
+
+    public long getPublished() {
+        return published.sum();
+    }
+
+    public long getEvicted() {
+        return evicted.sum();
+    }
+
+    public String getStatisticsSummary() {
+        return String.format("SSE [%s] - subscribers: %d, published: %d, evicted: %d", name, size(), getPublished(), getEvicted());
+    }
+
+    /*
+     * Register the rendered connection, replay the history after the last event id.
+     */
+    void join(SseRender subscriber, String lastEventId) {
+        synchronized (this) {
+            if (StringUtils.isNotEmpty(lastEventId) && !history.isEmpty()) {
+                for (SseEvent event : this.replay(lastEventId)) {
+                    if (!subscriber.offer(event))
+                        return;
+                }
+            }
+
+            subscribers.add(subscriber);
+            // closed before it is added
+            if (subscriber.isClosed()) {
+                subscribers.remove(subscriber);
+                return;
+            }
+        }
+        subscriber.drain();
+    }
+
+    void leave(SseRender subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    void evicted() {
+        evicted.increment();
+    }
+
+    /*
+     * The events after the id, all kept events if the id is not in the history (too old).
+     */
+    private Iterable<SseEvent> replay(String lastEventId) {
+        ArrayDeque<SseEvent> events = new ArrayDeque<>();
+        Iterator<SseEvent> iterator = history.descendingIterator();
+        while (iterator.hasNext()) {
+            SseEvent event = iterator.next();
+            if (lastEventId.equals(event.getId()))
+                return events;
+            events.addFirst(event);
+        }
+        return events;
+    }
+
+    private void heartbeat() {
+        try {
+            this.broadcast(SseEvent.HEARTBEAT);
+        } catch (RuntimeException e) {
+            log.error("SSE [{}] heartbeat failed: {}", name, e.getMessage(), e);
+        }
+    }
+
+    private static final class Heartbeat {
+        private static final ScheduledExecutorService EXECUTOR =
+                Executors.newSingleThreadScheduledExecutor(ExecutorFactory.newThreadFactory("sse-heartbeat-", true));
+    }
+}
@@ -0,0 +1,222 @@
+package org.mind.framework.web.renderer;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Queue;
+
+/**
+ * Server-Sent Events, the action returns it to keep the response open and push the events to the client.
+ * <pre>
+ * &#64;Mapping("/prices")
+ * public Render prices() {
+ *     return priceHub.subscribe();
+ * }
+ * </pre>
+ * The response is asynchronous and written by the non-blocking servlet output, no thread waits for the client.
+ * The events wait in a bounded buffer of the connection, a slow client whose buffer is full is evicted
+ * (the response is completed), so it never holds the memory of the server or delays other clients.
+ * The client resumes from <code>Last-Event-ID</code> by the history of the {@link SseHub}.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ * @see SseHub
+ */
+public class SseRender extends Render implements WriteListener, AsyncListener {
+    /**
+     * Request attribute of the streaming response, the long-lived request is not counted as in-flight.
+     */
+    public static final String STREAMING = SseRender.class.getName() + ".STREAMING";
+
+    // query parameter of the resumed id, EventSource polyfills can not set the header
+    private static final String LAST_EVENT_ID_PARAM = "lastEventId";
+
+    private final SseHub hub;
+
+    // events, bounded
+    private final Queue<SseEvent> buffer;
+
+    @Getter
+    private final int capacity;
+
+    // event of which the bytes are partly written, guarded by this
+    private SseEvent pending;
+
+    private ServletOutputStream output;
+
+    private AsyncContext asyncContext;
+
+    @Getter
+    private volatile boolean closed;
+
+    @Getter
+    private volatile long written;
+
+    SseRender(SseHub hub, int capacity) {
+        this.hub = hub;
+        this.capacity = capacity;
+        this.buffer = new ArrayDeque<>(Math.min(capacity, 16));
+    }
+
+    @Override
+    public void render(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache, no-transform");
+        // disable the response buffering of nginx
+        response.setHeader("X-Accel-Buffering", "no");
+
+        request.setAttribute(STREAMING, Boolean.TRUE);
+        this.asyncContext = request.isAsyncStarted() ? request.getAsyncContext() : request.startAsync(request, response);
+        // no timeout, the broken connection is found by the heartbeat
+        this.asyncContext.setTimeout(0L);
+        this.asyncContext.addListener(this);
+
+        String lastEventId = request.getHeader("Last-Event-ID");
+        if (StringUtils.isEmpty(lastEventId))
+            lastEventId = request.getParameter(LAST_EVENT_ID_PARAM);
+
+        synchronized (this) {
+            this.output = response.getOutputStream();
+            // onWritePossible commits the headers
+            this.output.setWriteListener(this);
+        }
+        hub.join(this, lastEventId);
+    }
+
+    /**
+     * Send the event to this client only.
+     *
+     * @return false if the connection is closed or evicted.
+     */
+    public boolean send(SseEvent event) {
+        if (!this.offer(event))
+            return false;
+
+        this.drain();
+        return true;
+    }
+
+    /**
+     * Complete the response, the client reconnects by the EventSource retry.
+     */
+    public void close() {
+        if (this.markClosed() && Objects.nonNull(asyncContext)) {
+            try {
+                asyncContext.complete();
+            } catch (IllegalStateException ignored) {
+                // completed by the container
+            }
+        }
+    }
+
+    /*
+     * Add the event to the buffer, evict the connection when the buffer is full.
+     */
+    boolean offer(SseEvent event) {
+        synchronized (this) {
+            if (closed)
+                return false;
+
+            if (buffer.size() < capacity) {
+                buffer.add(event);
+                return true;
+            }
+        }
+
+        log.warn("Evict the slow SSE client, {} events are not sent", capacity);
+        hub.evicted();
+        this.close();
+        return false;
+    }
+
+    /*
+     * Write the buffered events while the output is ready, otherwise the container calls onWritePossible later.
+     */
+    synchronized void drain() {
+        if (closed || Objects.isNull(output))
+            return;
+
+        try {
+            boolean wrote = false;
+            while (output.isReady()) {
+                if (Objects.isNull(pending)) {
+                    pending = buffer.poll();
+                    if (Objects.isNull(pending)) {
+                        if (wrote)
+                            output.flush();
+                        return;
+                    }
+                }
+
+                output.write(pending.getBytes());
+                written += pending.length();
+                pending = null;
+                wrote = true;
+            }
+        } catch (IOException | IllegalStateException e) {
+            // the client is gone
+            log.debug("SSE write failed: {}", e.getMessage());
+            this.close();
+        }
+    }
+
+    @Override
+    public void onWritePossible() {
+        this.drain();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        log.debug("SSE connection error: {}", throwable.getMessage());
+        this.close();
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+        this.markClosed();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+        this.close();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+        this.close();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+    }
+
+    public synchronized int size() {
+        return buffer.size();
+    }
+
+    private boolean markClosed() {
+        synchronized (this) {
+            if (closed)
+                return false;
+
+            closed = true;
+            buffer.clear();
+            pending = null;
+        }
+        hub.leave(this);
+        return true;
+    }
+}
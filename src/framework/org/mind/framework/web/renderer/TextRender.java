@@ -60,7 +60,10 @@ public class TextRender extends Render {
                 .append(charset);
 
         response.setContentType(sb.toString());
-        ResponseUtils.write(response.getOutputStream(), text.getBytes(charset));
+
+        byte[] bytes = text.getBytes(charset);
+        response.setContentLength(bytes.length);
+        ResponseUtils.write(response.getOutputStream(), bytes);
     }
 
 }
@@ -59,6 +59,9 @@ public class WebServerConfig {
     // ms, Maximum wait time when a client connects to a Tomcat server
     private int connectionTimeout = 20_000;
 
+    // Ms, default timeout of the asynchronous action, also bounds the wait of the request without async support
+    private long asyncTimeout = 30_000L;
+
     private int maxConnections = 1024;
 
     private int minSpareThreads = 5;
@@ -67,6 +70,33 @@ public class WebServerConfig {
 
     private int acceptCount = 100;
 
+    // Run the requests and framework async tasks on virtual threads (JDK 21+)
+    private boolean virtualThreads = false;
+
+    // Initial adaptive concurrency limit of each route, 0 is disabled
+    private int concurrencyLimit = 0;
+
+    // Max adaptive concurrency limit of each route
+    private int concurrencyMaxLimit = 200;
+
+    // ms, max time of an over-limit request waiting in queue, 0 is rejected immediately
+    private long concurrencyQueueTimeout = 0L;
+
+    // Shed the low priority requests with 503 when the server is overloaded
+    private boolean sheddingEnabled = false;
+
+    // Overloaded when the in-flight requests exceed it, 0 is the maxThreads
+    private int sheddingMaxInFlight = 0;
+
+    // ms, overloaded when the estimated queue wait of the thread pool exceeds it
+    private long sheddingMaxQueueWait = 100L;
+
+    // ms, overloaded when the p99 response time of the last second exceeds it
+    private long sheddingMaxLatency = 2000L;
+
+    // ms, overloaded when the GC pause time of the last second exceeds it
+    private long sheddingMaxGcPause = 200L;
+
     private int sessionTimeout = 30;
 
     private String staticSuffix = "css|js|jpg|png|gif|jpeg|webp|ico|svg|html|htm|rtf|ttf|tof|woff|woff2|csv|xls|xlsx|doc|docx|ppt|pptx|pdf|rar|zip|txt|xml|mov|mp3|aac|avi|mpeg|swf";
@@ -77,6 +107,22 @@ public class WebServerConfig {
 
     private int maxPostSize = 2097152;
 
+    // Decode the request body of Content-Encoding gzip/deflate
+    private String decompression = "on";
+
+    // Bytes, max size of the decoded request body
+    private long decompressionMaxSize = 10485760L;
+
+    // Max ratio of the decoded to the compressed bytes, 0 is unlimited
+    private int decompressionMaxRatio = 100;
+
+    // Bytes, max size of the JSON body bound by @RequestBody
+    private long maxBodySize = 2097152L;
+
+    // Bytes, max size of each part and of the whole request of the streaming multipart action
+    private long uploadMaxPartSize = 104857600L;
+    private long uploadMaxTotalSize = 1073741824L;
+
     private int maxParameterCount = 1000;
 
     private String compressibleMimeType = "text/html,text/xml,text/plain,text/css,text/javascript,application/javascript,application/json,application/xml";
@@ -85,10 +131,25 @@ public class WebServerConfig {
 
     private String resourceExpires = "-1";
 
+    // Bytes, max size of the in-memory static resource cache (raw and compressed bytes), 0 disables it
+    private long resourceCacheMaxSize = 33554432L;
+
+    // Bytes, larger static files are not cached
+    private long resourceCacheMaxFileSize = 1048576L;
+
+    // Seconds, interval of revalidating the cached files against the mtime
+    private long resourceCacheRevalidate = 5L;
+
+    // Seconds, Access-Control-Max-Age of the CORS preflight if @CrossOrigin does not declare it, -1 is not sent
+    private long corsMaxAge = 1800L;
+
     private final String containerAware = "Spring";
 
     private String tldSkipPatterns = "*.jar";
 
+    // Records of the asynchronous access log ring, the record is dropped when it is full
+    private int accessLogCapacity = 8192;
+
     private boolean enableLogStatus = false;
     private long logIntervalSeconds = 15L;
 
@@ -136,12 +197,24 @@ public class WebServerConfig {
             this.webXml = properties.getProperty("server.webXml", webXml);
             this.port = Integer.parseInt(properties.getProperty("server.port", String.valueOf(port)));
             this.connectionTimeout = Integer.parseInt(properties.getProperty("server.connectionTimeout", String.valueOf(connectionTimeout)));
+            this.asyncTimeout = Long.parseLong(properties.getProperty("server.asyncTimeout", String.valueOf(asyncTimeout)));
             this.maxConnections = Integer.parseInt(properties.getProperty("server.maxConnections", String.valueOf(maxConnections)));
             this.maxThreads = Integer.parseInt(properties.getProperty("server.maxThreads", String.valueOf(maxThreads)));
             this.minSpareThreads = Integer.parseInt(properties.getProperty("server.minThreads", String.valueOf(minSpareThreads)));
             this.acceptCount = Integer.parseInt(properties.getProperty("server.acceptCount", String.valueOf(acceptCount)));
+            this.virtualThreads = Boolean.parseBoolean(properties.getProperty("server.virtualThreads", "false"));
             this.tldSkipPatterns = properties.getProperty("server.tldSkipPatterns", tldSkipPatterns);
 
+            this.concurrencyLimit = Integer.parseInt(properties.getProperty("server.concurrency.limit", String.valueOf(concurrencyLimit)));
+            this.concurrencyMaxLimit = Integer.parseInt(properties.getProperty("server.concurrency.maxLimit", String.valueOf(concurrencyMaxLimit)));
+            this.concurrencyQueueTimeout = Long.parseLong(properties.getProperty("server.concurrency.queueTimeout", String.valueOf(concurrencyQueueTimeout)));
+
+            this.sheddingEnabled = Boolean.parseBoolean(properties.getProperty("server.shedding.enabled", "false"));
+            this.sheddingMaxInFlight = Integer.parseInt(properties.getProperty("server.shedding.maxInFlight", String.valueOf(sheddingMaxInFlight)));
+            this.sheddingMaxQueueWait = Long.parseLong(properties.getProperty("server.shedding.maxQueueWait", String.valueOf(sheddingMaxQueueWait)));
+            this.sheddingMaxLatency = Long.parseLong(properties.getProperty("server.shedding.maxLatency", String.valueOf(sheddingMaxLatency)));
+            this.sheddingMaxGcPause = Long.parseLong(properties.getProperty("server.shedding.maxGcPause", String.valueOf(sheddingMaxGcPause)));
+
             this.bindAddress = properties.getProperty("server.bind-address");
             this.http2Enabled = Boolean.parseBoolean(properties.getProperty("server.http2.enabled", "false"));
 
@@ -152,9 +225,19 @@ public class WebServerConfig {
             this.sessionTimeout = Integer.parseInt(properties.getProperty("server.sessionTimeout", String.valueOf(sessionTimeout)));
             this.staticSuffix = properties.getProperty("server.resourceSuffix", staticSuffix);
             this.resourceExpires = properties.getProperty("server.resourceExpires", resourceExpires);
+            this.resourceCacheMaxSize = Long.parseLong(properties.getProperty("server.resourceCache.maxSize", String.valueOf(resourceCacheMaxSize)));
+            this.resourceCacheMaxFileSize = Long.parseLong(properties.getProperty("server.resourceCache.maxFileSize", String.valueOf(resourceCacheMaxFileSize)));
+            this.resourceCacheRevalidate = Long.parseLong(properties.getProperty("server.resourceCache.revalidate", String.valueOf(resourceCacheRevalidate)));
+            this.corsMaxAge = Long.parseLong(properties.getProperty("server.cors.maxAge", String.valueOf(corsMaxAge)));
             this.templateEngine = properties.getProperty("server.templateEngine", templateEngine);
 
             this.maxPostSize = Integer.parseInt(properties.getProperty("server.maxPostSize", String.valueOf(maxPostSize)));
+            this.decompression = properties.getProperty("server.decompression", decompression);
+            this.decompressionMaxSize = Long.parseLong(properties.getProperty("server.decompression.maxSize", String.valueOf(decompressionMaxSize)));
+            this.decompressionMaxRatio = Integer.parseInt(properties.getProperty("server.decompression.maxRatio", String.valueOf(decompressionMaxRatio)));
+            this.maxBodySize = Long.parseLong(properties.getProperty("server.maxBodySize", String.valueOf(maxBodySize)));
+            this.uploadMaxPartSize = Long.parseLong(properties.getProperty("server.upload.maxPartSize", String.valueOf(uploadMaxPartSize)));
+            this.uploadMaxTotalSize = Long.parseLong(properties.getProperty("server.upload.maxTotalSize", String.valueOf(uploadMaxTotalSize)));
             this.maxParameterCount = Integer.parseInt(properties.getProperty("server.maxParameterCount", String.valueOf(maxParameterCount)));
 
             // OkHttpClient
@@ -170,6 +253,7 @@ public class WebServerConfig {
 
             // enable monitor
             this.enableLogStatus = Boolean.parseBoolean(properties.getProperty("server.monitor", "false"));
+            this.accessLogCapacity = Integer.parseInt(properties.getProperty("server.accessLog.capacity", String.valueOf(accessLogCapacity)));
             this.logIntervalSeconds = Long.parseLong(properties.getProperty("server.monitor.logIntervalSeconds", String.valueOf(logIntervalSeconds)));
         }
     }
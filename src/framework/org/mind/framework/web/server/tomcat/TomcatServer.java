@@ -27,7 +27,12 @@ import org.jetbrains.annotations.NotNull;
 import org.mind.framework.ContextSupport;
 import org.mind.framework.exception.ThrowProvider;
 import org.mind.framework.exception.WebServerException;
+import org.mind.framework.metric.CoalescingTraffic;
+import org.mind.framework.metric.DecodingTraffic;
+import org.mind.framework.metric.LimiterTraffic;
+import org.mind.framework.metric.RateLimitTraffic;
 import org.mind.framework.service.threads.ExecutorFactory;
+import org.mind.framework.service.threads.VirtualThreads;
 import org.mind.framework.util.ClassUtils;
 import org.mind.framework.util.IOUtils;
 import org.mind.framework.util.JsonUtils;
@@ -35,8 +40,10 @@ import org.mind.framework.web.container.spring.AnnotationLoad4SpringContext;
 import org.mind.framework.web.container.spring.WebContextLoadListener;
 import org.mind.framework.web.container.spring.XmlLoad4SpringContext;
 import org.mind.framework.web.dispatcher.DispatcherServlet;
+import org.mind.framework.web.dispatcher.log.AccessLog;
 import org.mind.framework.web.server.AbstractServerContext;
 import org.mind.framework.web.server.WebServerConfig;
+import org.mind.framework.web.server.tomcat.monitor.LoadSheddingValve;
 import org.mind.framework.web.server.tomcat.monitor.MonitoringValve;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -125,6 +132,10 @@ public class TomcatServer extends Tomcat {
         if (serverConfig.isEnableLogStatus())
             ctx.getPipeline().addValve(new MonitoringValve());
 
+        // 过载时快速拒绝低优先级请求
+        if (serverConfig.isSheddingEnabled())
+            ctx.getPipeline().addValve(new LoadSheddingValve());
+
         /*
          * Disable persistence in the StandardManager.
          * a LifecycleListener is used so not to interfere with Tomcat's default manager creation logic.
@@ -182,6 +193,10 @@ public class TomcatServer extends Tomcat {
         nioProtocol.setMaxConnections(serverConfig.getMaxConnections());
         nioProtocol.setMinSpareThreads(serverConfig.getMinSpareThreads());
         nioProtocol.setKeepAliveTimeout(15_000);//KeepAlive 连接空闲超时时间
+
+        // 虚拟线程处理请求, maxThreads/minSpareThreads 不再生效, 并发由 maxConnections 限制
+        if (VirtualThreads.isEnabled())
+            connector.setProperty("useVirtualThreads", "true");
         return connector;
     }
 
@@ -195,6 +210,7 @@ public class TomcatServer extends Tomcat {
         connector.setThrowOnFailure(true);
         connector.setMaxParameterCount(serverConfig.getMaxParameterCount());
         connector.setMaxPostSize(serverConfig.getMaxPostSize());
+        connector.setAsyncTimeout(serverConfig.getAsyncTimeout());
         return connector;
     }
 
@@ -285,10 +301,33 @@ public class TomcatServer extends Tomcat {
                 String statistics = monitoring.getStatisticsSummary();
                 if (StringUtils.isNotEmpty(statistics))
                     log.info(statistics);
-                break;
+            } else if (valve instanceof LoadSheddingValve shedding) {
+                log.info(shedding.getStatisticsSummary());
             }
         }
 
+        // adaptive concurrency limit of the actions
+        for (LimiterTraffic traffic : LimiterTraffic.all())
+            log.info("Concurrency Limit - {}", traffic);
+
+        // rate limit of the actions
+        for (RateLimitTraffic traffic : RateLimitTraffic.all())
+            log.info("Rate Limit - {}", traffic);
+
+        // single-flight of the actions
+        for (CoalescingTraffic traffic : CoalescingTraffic.all())
+            log.info("Request Coalescing - {}", traffic);
+
+        // asynchronous access log
+        AccessLog accessLog = AccessLog.getInstance();
+        if (accessLog.isRunning())
+            log.info("Access Log - {}", accessLog.getStatisticsSummary());
+
+        // compressed request bodies
+        DecodingTraffic decoding = DecodingTraffic.getInstance();
+        if (decoding.getTotalDecoded() + decoding.getTotalRejected() > 0L)
+            log.info("Request Decoding - {}", decoding);
+
         // basic info
         int maxConnections = protocol.getMaxConnections();
         int currentCount = (int) protocol.getConnectionCount();
@@ -307,6 +346,14 @@ public class TomcatServer extends Tomcat {
             //threadPoolExecutor.getTaskCount()
             return;
         }
+
+        if (VirtualThreads.isEnabled()) {
+            log.info("Server Monitor: {}/{}, Virtual threads - Async active: {}, Async started: {}",
+                    currentCount, maxConnections,
+                    VirtualThreads.getActiveCount(),
+                    VirtualThreads.getStartedCount());
+            return;
+        }
         log.info("Server Monitor: {}/{}", currentCount, maxConnections);
     }
 
@@ -355,7 +402,7 @@ public class TomcatServer extends Tomcat {
         wrapper.addInitParameter("resource", serverConfig.getStaticSuffix());
         wrapper.addInitParameter("expires", serverConfig.getResourceExpires());
         wrapper.setLoadOnStartup(1);
-        //wrapper.setAsyncSupported(true);
+        wrapper.setAsyncSupported(true);
 
         ctx.setSessionTimeout(serverConfig.getSessionTimeout());
         ctx.addServletMappingDecoded(IOUtils.DIR_SEPARATOR, AbstractServerContext.SERVLET_NAME);
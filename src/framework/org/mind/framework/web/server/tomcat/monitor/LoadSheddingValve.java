@@ -0,0 +1,297 @@
+package org.mind.framework.web.server.tomcat.monitor;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
+import org.apache.catalina.valves.ValveBase;
+import org.apache.tomcat.util.threads.ThreadPoolExecutor;
+import org.mind.framework.annotation.Mapping;
+import org.mind.framework.web.dispatcher.handler.RoutePriorities;
+import org.mind.framework.web.renderer.Render;
+import org.mind.framework.web.renderer.SseRender;
+import org.mind.framework.web.server.WebServerConfig;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Load shedding, fast-rejects the low priority requests with 503 when the server is overloaded.
+ * <p>
+ * The signals are evaluated once a second, the pressure is the max ratio of a signal to its threshold:
+ * <ul>
+ *     <li>peak in-flight requests</li>
+ *     <li>queue wait of the thread pool, estimated by: queued * avg response time / max threads</li>
+ *     <li>p99 response time of the admitted requests</li>
+ *     <li>GC pause time, from the {@link GarbageCollectorMXBean}s</li>
+ * </ul>
+ * Level 1 (pressure &ge; 1) sheds {@link Mapping.Priority#LOW}, level 2 (pressure &ge; 1.5) also sheds
+ * {@link Mapping.Priority#NORMAL}. The level falls back only when the pressure drops below 0.8 of the threshold of the
+ * level, so it does not flap around the thresholds.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@Slf4j(topic = "ServerMonitor")
+public class LoadSheddingValve extends ValveBase {
+    private static final long EVALUATE_INTERVAL = TimeUnit.SECONDS.toNanos(1L);
+
+    private static final double HEAVY_PRESSURE = 1.5D;
+
+    // hysteresis, the level falls back below 0.8 of its threshold
+    private static final double RECOVER_RATIO = 0.8D;
+
+    // latency samples (ms) of the last second at most
+    private static final int SAMPLES = 1024;
+
+    private final int maxInFlight;
+    private final long maxQueueWait;
+    private final long maxLatency;
+    private final long maxGcPause;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    private final AtomicLongArray latencies = new AtomicLongArray(SAMPLES);
+    private final AtomicLong sampleCount = new AtomicLong();
+    private long evaluatedCount;// guarded by evaluating
+
+    private final AtomicLong nextEvaluation = new AtomicLong(System.nanoTime() + EVALUATE_INTERVAL);
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    private long lastGcTime;// guarded by evaluating
+
+    // thread pool of the connector, resolved by the first request
+    private volatile Executor executor;
+
+    // 0: normal, 1: shed LOW, 2: shed LOW and NORMAL
+    @Getter
+    private volatile int level;
+
+    @Getter
+    private volatile double pressure;
+
+    private final LongAdder shedLow = new LongAdder();
+    private final LongAdder shedNormal = new LongAdder();
+    private final AtomicLong overloadedCount = new AtomicLong();
+
+    public LoadSheddingValve() {
+        this(WebServerConfig.INSTANCE);
+    }
+
+    public LoadSheddingValve(WebServerConfig config) {
+        this(config.getSheddingMaxInFlight() > 0 ? config.getSheddingMaxInFlight() : config.getMaxThreads(),
+                config.getSheddingMaxQueueWait(),
+                config.getSheddingMaxLatency(),
+                config.getSheddingMaxGcPause());
+    }
+
+    public LoadSheddingValve(int maxInFlight, long maxQueueWait, long maxLatency, long maxGcPause) {
+        // 支持异步请求, 否则 DispatcherServlet 无法启动 AsyncContext
+        super(true);
+        this.maxInFlight = maxInFlight;
+        this.maxQueueWait = maxQueueWait;
+        this.maxLatency = maxLatency;
+        this.maxGcPause = maxGcPause;
+        this.lastGcTime = this.totalGcTime();
+    }
+
+    @Override
+    public void invoke(Request request, Response response) throws IOException, ServletException {
+        if (Objects.isNull(executor))
+            executor = request.getConnector().getProtocolHandler().getExecutor();
+
+        long now = System.nanoTime();
+        long next = nextEvaluation.get();
+        if (now - next >= 0L && nextEvaluation.compareAndSet(next, now + EVALUATE_INTERVAL))
+            this.evaluate();
+
+        if (level > 0 && this.shed(RoutePriorities.of(request))) {
+            this.reject(response);
+            return;
+        }
+
+        int current = inFlight.incrementAndGet();
+        peakInFlight.accumulateAndGet(current, Math::max);
+        try {
+            getNext().invoke(request, response);
+        } finally {
+            // 异步请求在完成时统计, SSE 等长连接只统计建立连接
+            if (request.isAsync() && Objects.isNull(request.getAttribute(SseRender.STREAMING))) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        complete(now);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                this.complete(now);
+            }
+        }
+    }
+
+    /**
+     * Evaluate the signals of the last second and update the level, called once a second by the requests.
+     *
+     * @return the level
+     */
+    public synchronized int evaluate() {
+        long count = sampleCount.get();
+        int size = (int) Math.min(SAMPLES, count - evaluatedCount);
+        evaluatedCount = count;
+
+        long p99 = 0L;
+        long avg = 0L;
+        if (size > 0) {
+            long[] window = new long[size];
+            long sum = 0L;
+            for (int i = 0; i < size; ++i) {
+                window[i] = latencies.get((int) ((count - 1 - i) % SAMPLES));
+                sum += window[i];
+            }
+            Arrays.sort(window);
+            p99 = window[(int) Math.ceil(size * 0.99D) - 1];
+            avg = sum / size;
+        }
+
+        long gcTime = this.totalGcTime();
+        long gcPause = Math.max(0L, gcTime - lastGcTime);
+        lastGcTime = gcTime;
+
+        int queued = 0;
+        int maxThreads = maxInFlight;
+        if (executor instanceof ThreadPoolExecutor pool) {
+            queued = pool.getQueue().size();
+            maxThreads = pool.getMaximumPoolSize();
+        }
+        long queueWait = queued * avg / Math.max(1, maxThreads);
+
+        int peak = peakInFlight.getAndSet(inFlight.get());
+        return this.update(peak, queueWait, p99, gcPause);
+    }
+
+    /**
+     * Update the level by the signals.
+     *
+     * @param inFlight  peak in-flight requests
+     * @param queueWait ms, queue wait of the thread pool
+     * @param p99       ms, p99 response time
+     * @param gcPause   ms, GC pause time
+     * @return the level
+     */
+    public synchronized int update(int inFlight, long queueWait, long p99, long gcPause) {
+        double current = Math.max(
+                Math.max(ratio(inFlight, maxInFlight), ratio(queueWait, maxQueueWait)),
+                Math.max(ratio(p99, maxLatency), ratio(gcPause, maxGcPause)));
+
+        int previous = level;
+        int next;
+        if (current >= HEAVY_PRESSURE)
+            next = 2;
+        else if (current >= 1D)
+            next = previous == 2 && current >= HEAVY_PRESSURE * RECOVER_RATIO ? 2 : 1;
+        else if (previous == 0)
+            next = 0;
+        else if (current < RECOVER_RATIO)
+            next = 0;
+        else
+            next = 1;
+
+        this.pressure = current;
+        if (next != previous) {
+            this.level = next;
+            if (previous == 0)
+                overloadedCount.incrementAndGet();
+
+            if (next > previous)
+                log.warn("Load shedding level {} -> {}, in-flight: {}, queue wait: {}ms, p99: {}ms, gc pause: {}ms",
+                        previous, next, inFlight, queueWait, p99, gcPause);
+            else
+                log.info("Load shedding level {} -> {}, pressure: {}", previous, next, String.format("%.2f", current));
+        }
+        return next;
+    }
+
+    /**
+     * Whether the request of the priority is shed at the current level, and count it.
+     */
+    public boolean shed(Mapping.Priority priority) {
+        int current = level;
+        if (current > 0 && priority == Mapping.Priority.LOW) {
+            shedLow.increment();
+            return true;
+        }
+
+        if (current > 1 && priority == Mapping.Priority.NORMAL) {
+            shedNormal.increment();
+            return true;
+        }
+        return false;
+    }
+
+    public long getShedCount() {
+        return shedLow.sum() + shedNormal.sum();
+    }
+
+    public String getStatisticsSummary() {
+        return String.format("Load Shedding - level: %d, pressure: %.2f, in-flight: %d, overloaded: %d, shed - low: %d, normal: %d",
+                level, pressure, inFlight.get(), overloadedCount.get(), shedLow.sum(), shedNormal.sum());
+    }
+
+    private void complete(long startNanos) {
+        inFlight.decrementAndGet();
+        long index = sampleCount.getAndIncrement();
+        latencies.lazySet((int) (index % SAMPLES), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
+    private void reject(Response response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.TEXT_HTML_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(Render.SERVICE_UNAVAILABLE_HTML);
+    }
+
+    private long totalGcTime() {
+        long total = 0L;
+        for (GarbageCollectorMXBean collector : collectors) {
+            long time = collector.getCollectionTime();
+            if (time > 0L)
+                total += time;
+        }
+        return total;
+    }
+
+    private static double ratio(long value, long threshold) {
+        return threshold > 0L ? (double) value / threshold : 0D;
+    }
+}
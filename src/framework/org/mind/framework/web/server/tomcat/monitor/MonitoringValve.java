@@ -1,11 +1,14 @@
 package org.mind.framework.web.server.tomcat.monitor;
 
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.ServletException;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.catalina.connector.Request;
 import org.apache.catalina.connector.Response;
 import org.apache.catalina.valves.ValveBase;
 import org.apache.commons.lang3.StringUtils;
+import org.mind.framework.service.threads.VirtualThreads;
 import org.mind.framework.util.DateUtils;
 
 import java.io.IOException;
@@ -34,10 +37,20 @@ public class MonitoringValve extends ValveBase {
     private static final AtomicLong STATUS_4XX = new AtomicLong(0);
     private static final AtomicLong STATUS_5XX = new AtomicLong(0);
 
+    // 虚拟线程处理的请求数
+    private static final LongAdder VIRTUAL_COUNT = new LongAdder();
+
+    public MonitoringValve() {
+        // 支持异步请求, 否则 DispatcherServlet 无法启动 AsyncContext
+        super(true);
+    }
+
     @Override
     public void invoke(Request request, Response response) throws IOException, ServletException {
         long startTime = DateUtils.CachedTime.currentMillis();
         long currentRequestId = REQUEST_COUNT.incrementAndGet();
+        if (VirtualThreads.isVirtual(Thread.currentThread()))
+            VIRTUAL_COUNT.increment();
 
         try {
             // 调用下一个Valve或Servlet
@@ -48,11 +61,34 @@ public class MonitoringValve extends ValveBase {
             log.error("Request handle exception #{} - {}: {}", currentRequestId, e.getClass().getSimpleName(), e.getMessage());
             throw e;
         } finally {
-            // 计算响应时间
-            long responseTime = DateUtils.CachedTime.currentMillis() - startTime;
-
-            // 更新统计信息
-            updateStatistics(responseTime, response.getStatus());
+            // 异步请求在完成时统计
+            if (request.isAsync()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        updateStatistics(DateUtils.CachedTime.currentMillis() - startTime, response.getStatus());
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                        ERROR_COUNT.incrementAndGet();
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                // 计算响应时间
+                long responseTime = DateUtils.CachedTime.currentMillis() - startTime;
+
+                // 更新统计信息
+                updateStatistics(responseTime, response.getStatus());
+            }
         }
     }
 
@@ -98,6 +134,20 @@ public class MonitoringValve extends ValveBase {
         long avgResponseTime = TOTAL_RESPONSE_TIME.sum() / totalRequests;
         double errorRate = (double) ERROR_COUNT.get() / totalRequests * 100;
 
+        if (VirtualThreads.isEnabled()) {
+            long virtualCount = VIRTUAL_COUNT.sum();
+            return String.format(
+                    "Request Summary - Total: %d, Error: %d (%.2f%%), " +
+                            "Response - avg: %dms, min: %dms, max: %dms, " +
+                            "Status - 2xx: %d, 3xx: %d, 4xx: %d, 5xx: %d, " +
+                            "Threads - virtual: %d, platform: %d",
+                    totalRequests, ERROR_COUNT.get(), errorRate,
+                    avgResponseTime, MIN_RESPONSE_TIME.get() == Long.MAX_VALUE ? 0 : MIN_RESPONSE_TIME.get(), MAX_RESPONSE_TIME.get(),
+                    STATUS_2XX.get(), STATUS_3XX.get(), STATUS_4XX.get(), STATUS_5XX.get(),
+                    virtualCount, totalRequests - virtualCount
+            );
+        }
+
         return String.format(
                 "Request Summary - Total: %d, Error: %d (%.2f%%), " +
                         "Response - avg: %dms, min: %dms, max: %dms, " +
@@ -121,6 +171,7 @@ public class MonitoringValve extends ValveBase {
         STATUS_3XX.set(0);
         STATUS_4XX.set(0);
         STATUS_5XX.set(0);
+        VIRTUAL_COUNT.reset();
 
         log.info("Monitoring statistics have been reset");
     }
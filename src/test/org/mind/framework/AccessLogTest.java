@@ -0,0 +1,95 @@
+package org.mind.framework;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mind.framework.annotation.Mapping;
+import org.mind.framework.web.dispatcher.handler.Execution;
+import org.mind.framework.web.dispatcher.log.AccessLog;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+
+/**
+ * @version 1.0
+ * @author Marcus
+ * @date 2026/10/17
+ */
+public class AccessLogTest {
+
+    @Mapping(value = "/access/log", simpleLogging = true)
+    public String action() {
+        return "log";
+    }
+
+    private Execution newExecution() throws NoSuchMethodException {
+        Method method = AccessLogTest.class.getMethod("action");
+        return new Execution(this, method, method.getAnnotation(Mapping.class));
+    }
+
+    @Test
+    public void dropWhenFull() throws NoSuchMethodException {
+        Execution execution = newExecution();
+        AccessLog accessLog = new AccessLog(100);
+        Assertions.assertEquals(128, accessLog.getCapacity());
+
+        int accepted = 0;
+        for (int i = 0; i < 200; ++i)
+            if (accessLog.offer(execution, "/access/log", "GET", "127.0.0.1", 200, 0L, 3L, -1L, 2L))
+                ++accepted;
+
+        Assertions.assertEquals(128, accepted);
+        Assertions.assertEquals(72L, accessLog.getDropped());
+        Assertions.assertEquals(128, accessLog.size());
+
+        // the writer frees the slots for the next round
+        int written = 0;
+        int count;
+        while ((count = accessLog.drain()) > 0)
+            written += count;
+
+        Assertions.assertEquals(128, written);
+        Assertions.assertEquals(0, accessLog.size());
+        Assertions.assertTrue(accessLog.offer(execution, "/access/log", "GET", "127.0.0.1", 200, 0L, 3L, -1L, 2L));
+    }
+
+    @Test
+    public void allocationBenchmark() throws Exception {
+        Execution execution = newExecution();
+        AccessLog accessLog = new AccessLog(1 << 16);
+        accessLog.start();
+
+        // measure the request thread, not the appender
+        Configurator.setLevel(AccessLogTest.class.getName(), Level.OFF);
+
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        String uri = "/access/log";
+        String ip = "127.0.0.1";
+
+        try {
+            // warm up
+            for (int i = 0; i < 200_000; ++i)
+                accessLog.offer(execution, uri, "GET", ip, 200, i, i + 3L, -1L, 2L);
+
+            int rounds = 1_000_000;
+            long bytes = threadBean.getThreadAllocatedBytes(threadId);
+            long begin = System.nanoTime();
+            for (int i = 0; i < rounds; ++i)
+                accessLog.offer(execution, uri, "GET", ip, 200, i, i + 3L, -1L, 2L);
+            long nanos = System.nanoTime() - begin;
+            bytes = threadBean.getThreadAllocatedBytes(threadId) - bytes;
+
+            System.out.printf("offer: %,d ns/op, allocated: %.3f bytes/op, %s%n",
+                    nanos / rounds, (double) bytes / rounds, accessLog.getStatisticsSummary());
+
+            // no allocation on the request thread, except the tiny noise of the measurement
+            Assertions.assertTrue(bytes / rounds < 1L);
+        } finally {
+            accessLog.stop();
+            Configurator.setLevel(AccessLogTest.class.getName(), Level.INFO);
+        }
+        Assertions.assertEquals(1_200_000L, accessLog.getWritten() + accessLog.getDropped());
+    }
+}
@@ -0,0 +1,122 @@
+package org.mind.framework;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mind.framework.annotation.Mapping;
+import org.mind.framework.web.dispatcher.handler.ActionInvoker;
+import org.mind.framework.web.dispatcher.handler.ActionInvokers;
+import org.mind.framework.web.dispatcher.handler.Execution;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+
+/**
+ * @version 1.0
+ * @author Marcus
+ */
+public class ActionInvokerTest {
+
+    private int count;
+
+    @Mapping("/zero")
+    public String zero() {
+        return "zero";
+    }
+
+    @Mapping("/one/${id}")
+    public Object one(long id) {
+        return id + 1;
+    }
+
+    @Mapping("/three/${a}/${b}/${c}")
+    public String three(String a, Integer b, int c) {
+        return a + (b + c);
+    }
+
+    @Mapping("/none")
+    public void none() {
+        ++count;
+    }
+
+    @Mapping("/io")
+    public String io() throws IOException {
+        throw new IOException("io");
+    }
+
+    @Mapping("/state")
+    public String state() {
+        throw new UnsupportedOperationException("state");
+    }
+
+    public Object bench0() {
+        return this;
+    }
+
+    public Object bench1(String a) {
+        return a;
+    }
+
+    public Object bench3(String a, Integer b, Long c) {
+        return c;
+    }
+
+    private Execution execution(String name, Class<?>... types) throws NoSuchMethodException {
+        Method method = ActionInvokerTest.class.getMethod(name, types);
+        return new Execution(this, method, method.getAnnotation(Mapping.class));
+    }
+
+    @Test
+    public void invoke() throws NoSuchMethodException {
+        Assertions.assertEquals("zero", execution("zero").execute(null));
+        Assertions.assertEquals(11L, execution("one", long.class).execute(new Object[]{10L}));
+        Assertions.assertEquals("a3", execution("three", String.class, Integer.class, int.class).execute(new Object[]{"a", 1, 2}));
+
+        Assertions.assertNull(execution("none").execute(null));
+        Assertions.assertEquals(1, count);
+
+        // the same exceptions as the reflection
+        IllegalStateException checked = Assertions.assertThrows(IllegalStateException.class, () -> execution("io").execute(null));
+        Assertions.assertInstanceOf(IOException.class, checked.getCause());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> execution("state").execute(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> execution("one", long.class).execute(null));
+    }
+
+    @Test
+    public void benchmark() throws Throwable {
+        final int rounds = 5_000_000;
+        Object[][] cases = {
+                {"bench0", new Class<?>[0], null},
+                {"bench1", new Class<?>[]{String.class}, new Object[]{"a"}},
+                {"bench3", new Class<?>[]{String.class, Integer.class, Long.class}, new Object[]{"a", 1, 2L}}
+        };
+
+        for (Object[] c : cases) {
+            Method method = ActionInvokerTest.class.getMethod((String) c[0], (Class<?>[]) c[1]);
+            Object[] args = (Object[]) c[2];
+
+            ActionInvoker reflective = ActionInvokers.reflective(this, method);
+            ActionInvoker generated = ActionInvokers.create(this, method);
+
+            long reflectNanos = measure(rounds, reflective, args);
+            long generateNanos = measure(rounds, generated, args);
+
+            System.out.printf("args: %d, reflection: %6.2f ns/op, generated: %6.2f ns/op%n",
+                    method.getParameterCount(), (double) reflectNanos / rounds, (double) generateNanos / rounds);
+        }
+    }
+
+    private long measure(int rounds, ActionInvoker invoker, Object[] args) throws Throwable {
+        int sink = 0;
+        // warm up
+        for (int i = 0; i < rounds; ++i)
+            sink += invoker.invoke(args).hashCode();
+
+        long begin = System.nanoTime();
+        for (int i = 0; i < rounds; ++i)
+            sink += invoker.invoke(args).hashCode();
+        long nanos = System.nanoTime() - begin;
+
+        Assertions.assertNotEquals(Integer.MIN_VALUE, sink);
+        return nanos;
+    }
+}
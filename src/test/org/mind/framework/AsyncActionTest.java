@@ -0,0 +1,126 @@
+package org.mind.framework;
+
+import jakarta.servlet.ServletConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mind.framework.annotation.Mapping;
+import org.mind.framework.web.container.spring.SpringContainerAware;
+import org.mind.framework.web.dispatcher.handler.DispatcherHandlerRequest;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletConfig;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @version 1.0
+ * @author Marcus
+ * @date 2026/10/17
+ */
+public class AsyncActionTest {
+
+    private static DispatcherHandlerRequest dispatcher;
+
+    public static class AsyncAction {
+        @Mapping("/async/${value}")
+        public CompletableFuture<Map<String, Object>> value(int value) {
+            return CompletableFuture.supplyAsync(() -> Map.of("value", value));
+        }
+
+        @Mapping("/async/error")
+        public CompletableFuture<String> error() {
+            return CompletableFuture.supplyAsync(() -> {
+                throw new IllegalStateException("async failed");
+            });
+        }
+
+        @Mapping(value = "/async/late", asyncTimeout = 100L)
+        public CompletableFuture<String> late() {
+            return CompletableFuture.supplyAsync(() -> "late", CompletableFuture.delayedExecutor(5L, TimeUnit.SECONDS));
+        }
+    }
+
+    @BeforeAll
+    public static void init() throws Exception {
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.refresh();
+        ContextSupport.setApplicationContext(context);
+
+        dispatcher = new DispatcherHandlerRequest();
+        dispatcher.init(new SpringContainerAware() {
+            @Override
+            public List<Object> loadBeans(boolean... excludeSpringSelf) {
+                return List.of(new AsyncAction());
+            }
+
+            @Override
+            public ServletConfig getServletConfig() {
+                return new MockServletConfig();
+            }
+        });
+    }
+
+    @AfterAll
+    public static void destroy() {
+        dispatcher.destroy();
+    }
+
+    @Test
+    public void completion() throws Exception {
+        MockHttpServletRequest request = request("/async/7", true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        dispatcher.processor(request, response);
+        await(request);
+
+        Assertions.assertEquals(200, response.getStatus());
+        Assertions.assertEquals("{\"value\":7}", response.getContentAsString());
+    }
+
+    @Test
+    public void exception() throws Exception {
+        MockHttpServletRequest request = request("/async/error", true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        dispatcher.processor(request, response);
+        await(request);
+
+        Assertions.assertEquals(500, response.getStatus());
+    }
+
+    @Test
+    public void timeout() throws Exception {
+        // the request without async support waits on the container thread, bounded by the timeout
+        MockHttpServletRequest request = request("/async/late", false);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        long begin = System.currentTimeMillis();
+        dispatcher.processor(request, response);
+
+        Assertions.assertTrue(System.currentTimeMillis() - begin < 2_000L);
+        Assertions.assertEquals(503, response.getStatus());
+
+        // completed in time without async support
+        request = request("/async/3", false);
+        response = new MockHttpServletResponse();
+        dispatcher.processor(request, response);
+        Assertions.assertEquals("{\"value\":3}", response.getContentAsString());
+    }
+
+    private static MockHttpServletRequest request(String uri, boolean asyncSupported) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setAsyncSupported(asyncSupported);
+        return request;
+    }
+
+    private static void await(MockHttpServletRequest request) throws InterruptedException {
+        // started on the container thread, completed by the action
+        Assertions.assertNotNull(request.getAsyncContext());
+        for (int i = 0; i < 100 && request.isAsyncStarted(); ++i)
+            TimeUnit.MILLISECONDS.sleep(20L);
+        Assertions.assertFalse(request.isAsyncStarted(), "the asynchronous request is not completed");
+    }
+}
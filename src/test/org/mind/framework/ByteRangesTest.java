@@ -0,0 +1,214 @@
+package org.mind.framework;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mind.framework.web.renderer.ByteRanges;
+import org.mind.framework.web.renderer.FileRenderer;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * @version 1.0
+ * @author Marcus
+ * @date 2026/10/17
+ */
+public class ByteRangesTest {
+    // sparse, over 2GB
+    private static final long SIZE = 3L * 1024 * 1024 * 1024 + 17;
+    private static final long OFFSET = Integer.MAX_VALUE + 100L;
+    private static final byte[] HEAD = "head".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] MIDDLE = "over-2gb".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TAIL = "tail".getBytes(StandardCharsets.US_ASCII);
+
+    private static Path file;
+
+    @BeforeAll
+    public static void createSparseFile() throws IOException {
+        file = Files.createTempFile("ranges", ".bin");
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.setLength(SIZE);
+            raf.write(HEAD);
+            raf.seek(OFFSET);
+            raf.write(MIDDLE);
+            raf.seek(SIZE - TAIL.length);
+            raf.write(TAIL);
+        }
+    }
+
+    @AfterAll
+    public static void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void parse() {
+        Assertions.assertNull(ByteRanges.parse(null, 100));
+        Assertions.assertNull(ByteRanges.parse("items=0-1", 100));
+        Assertions.assertNull(ByteRanges.parse("bytes=5-1", 100));
+        Assertions.assertNull(ByteRanges.parse("bytes=a-1", 100));
+        Assertions.assertNull(ByteRanges.parse("bytes=99999999999999999999-", 100));
+        Assertions.assertNull(ByteRanges.parse("bytes=0-0" + ",0-0".repeat(ByteRanges.MAX_RANGES), 100));
+
+        Assertions.assertEquals("[0-99]", ByteRanges.parse("bytes=0-", 100).toString());
+        Assertions.assertEquals("[10-19, 90-99]", ByteRanges.parse("bytes=10-19, -10", 100).toString());
+        Assertions.assertEquals("[0-99]", ByteRanges.parse("bytes=-1000", 100).toString());
+        Assertions.assertEquals("[50-99]", ByteRanges.parse("Bytes = 50-1000, 200-300", 100).toString());
+
+        // not satisfiable
+        Assertions.assertTrue(ByteRanges.parse("bytes=100-", 100).isEmpty());
+        Assertions.assertTrue(ByteRanges.parse("bytes=-0", 100).isEmpty());
+        Assertions.assertTrue(ByteRanges.parse("bytes=0-", 0).isEmpty());
+
+        List<ByteRanges.Range> large = ByteRanges.parse("bytes=" + OFFSET + "-", SIZE);
+        Assertions.assertEquals(SIZE - OFFSET, large.get(0).length());
+    }
+
+    @Test
+    public void singleRangeOver2GB() throws IOException {
+        MockHttpServletResponse response = get("bytes=" + OFFSET + "-" + (OFFSET + MIDDLE.length - 1), null);
+        Assertions.assertEquals(206, response.getStatus());
+        Assertions.assertEquals("bytes " + OFFSET + "-" + (OFFSET + MIDDLE.length - 1) + "/" + SIZE, response.getHeader("Content-Range"));
+        Assertions.assertEquals(MIDDLE.length, response.getContentLengthLong());
+        Assertions.assertArrayEquals(MIDDLE, response.getContentAsByteArray());
+
+        // suffix
+        response = get("bytes=-4", null);
+        Assertions.assertEquals("bytes " + (SIZE - 4) + "-" + (SIZE - 1) + "/" + SIZE, response.getHeader("Content-Range"));
+        Assertions.assertArrayEquals(TAIL, response.getContentAsByteArray());
+    }
+
+    @Test
+    public void multipleRanges() throws IOException {
+        MockHttpServletResponse response = get("bytes=0-3," + OFFSET + "-" + (OFFSET + 7) + ",-4", null);
+        Assertions.assertEquals(206, response.getStatus());
+        Assertions.assertNull(response.getHeader("Content-Range"));
+        Assertions.assertNull(response.getHeader("Content-Encoding"));
+        Assertions.assertFalse(response.getHeader("ETag").startsWith("W/"));
+        Assertions.assertTrue(response.getContentType().startsWith("multipart/byteranges; boundary="));
+
+        String boundary = response.getContentType().substring("multipart/byteranges; boundary=".length());
+        String body = response.getContentAsString(StandardCharsets.ISO_8859_1);
+        Assertions.assertEquals(body.length(), response.getContentLengthLong());
+        Assertions.assertEquals(
+                "\r\n--" + boundary + "\r\nContent-Type: application/octet-stream\r\nContent-Range: bytes 0-3/" + SIZE + "\r\n\r\nhead" +
+                "\r\n--" + boundary + "\r\nContent-Type: application/octet-stream\r\nContent-Range: bytes " + OFFSET + "-" + (OFFSET + 7) + "/" + SIZE + "\r\n\r\nover-2gb" +
+                "\r\n--" + boundary + "\r\nContent-Type: application/octet-stream\r\nContent-Range: bytes " + (SIZE - 4) + "-" + (SIZE - 1) + "/" + SIZE + "\r\n\r\ntail" +
+                "\r\n--" + boundary + "--\r\n",
+                body);
+    }
+
+    @Test
+    public void notSatisfiable() throws IOException {
+        MockHttpServletResponse response = get("bytes=" + SIZE + "-", null);
+        Assertions.assertEquals(416, response.getStatus());
+        Assertions.assertEquals("bytes */" + SIZE, response.getHeader("Content-Range"));
+        Assertions.assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    public void ifRange() throws IOException {
+        long lastModified = Files.getLastModifiedTime(file).toMillis();
+        SimpleDateFormat format = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss zzz", Locale.US);
+        format.setTimeZone(TimeZone.getTimeZone("GMT"));
+
+        // matches the date, partial
+        MockHttpServletResponse response = get("bytes=0-3", format.format(new Date(lastModified)));
+        Assertions.assertEquals(206, response.getStatus());
+        Assertions.assertArrayEquals(HEAD, response.getContentAsByteArray());
+
+        // matches the strong ETag of the partial response
+        String strongETag = response.getHeader("ETag");
+        Assertions.assertEquals("\"" + SIZE + "-" + lastModified / 1000L * 1000L + "\"", strongETag);
+        response = get("bytes=0-3", strongETag);
+        Assertions.assertEquals(206, response.getStatus());
+        Assertions.assertArrayEquals(HEAD, response.getContentAsByteArray());
+
+        // changed (weak ETag never matches), the whole file
+        Path small = Files.write(Files.createTempFile("ranges", ".txt"), "0123456789".getBytes(StandardCharsets.US_ASCII));
+        try {
+            long smallModified = Files.getLastModifiedTime(small).toMillis();
+            for (String ifRange : new String[]{format.format(new Date(smallModified - 60_000L)), "W/\"10-" + smallModified / 1000L * 1000L + "\""}) {
+                response = new MockHttpServletResponse();
+                FileRenderer renderer = new FileRenderer(small.toFile());
+                renderer.setContentType("text/plain");
+                renderer.render(request("GET", "bytes=0-3", ifRange), response);
+                Assertions.assertEquals(200, response.getStatus());
+                Assertions.assertEquals(10L, response.getContentLengthLong());
+                Assertions.assertEquals("0123456789", response.getContentAsString());
+            }
+        } finally {
+            Files.delete(small);
+        }
+
+        // HEAD of the large file
+        response = new MockHttpServletResponse();
+        render(request("HEAD", null, null), response);
+        Assertions.assertEquals(200, response.getStatus());
+        Assertions.assertEquals(SIZE, response.getContentLengthLong());
+        Assertions.assertEquals("bytes", response.getHeader("Accept-Ranges"));
+        Assertions.assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    public void sendfile() throws IOException {
+        MockHttpServletRequest request = request("GET", "bytes=" + OFFSET + "-", null);
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        render(request, response);
+
+        Assertions.assertEquals(206, response.getStatus());
+        Assertions.assertEquals(SIZE - OFFSET, response.getContentLengthLong());
+        Assertions.assertEquals(file.toAbsolutePath().toString(), request.getAttribute("org.apache.tomcat.sendfile.filename"));
+        Assertions.assertEquals(OFFSET, request.getAttribute("org.apache.tomcat.sendfile.start"));
+        Assertions.assertEquals(SIZE, request.getAttribute("org.apache.tomcat.sendfile.end"));
+        Assertions.assertEquals(0, response.getContentAsByteArray().length);
+
+        // the captured response is written, sendfile would leave its body empty
+        request = request("GET", "bytes=0-3", null);
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        response = new MockHttpServletResponse();
+        ContentCachingResponseWrapper caching = new ContentCachingResponseWrapper(response);
+        render(request, caching);
+
+        Assertions.assertNull(request.getAttribute("org.apache.tomcat.sendfile.filename"));
+        Assertions.assertArrayEquals(HEAD, caching.getContentAsByteArray());
+        caching.copyBodyToResponse();
+        Assertions.assertArrayEquals(HEAD, response.getContentAsByteArray());
+    }
+
+    private static MockHttpServletResponse get(String range, String ifRange) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        render(request("GET", range, ifRange), response);
+        return response;
+    }
+
+    private static void render(MockHttpServletRequest request, HttpServletResponse response) throws IOException {
+        FileRenderer renderer = new FileRenderer(file.toFile());
+        renderer.setContentType("application/octet-stream");
+        renderer.render(request, response);
+    }
+
+    private static MockHttpServletRequest request(String method, String range, String ifRange) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/export");
+        if (range != null)
+            request.addHeader("Range", range);
+        if (ifRange != null)
+            request.addHeader("If-Range", ifRange);
+        return request;
+    }
+}
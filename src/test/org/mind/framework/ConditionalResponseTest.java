@@ -0,0 +1,189 @@
+package org.mind.framework;
+
+import jakarta.servlet.ServletConfig;
+import org.apache.coyote.CompressionConfig;
+import org.apache.coyote.Request;
+import org.apache.coyote.Response;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mind.framework.annotation.CacheControl;
+import org.mind.framework.annotation.Mapping;
+import org.mind.framework.web.container.spring.SpringContainerAware;
+import org.mind.framework.web.dispatcher.handler.CachedResponse;
+import org.mind.framework.web.dispatcher.handler.ConditionalResponse;
+import org.mind.framework.web.dispatcher.handler.DispatcherHandlerRequest;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletConfig;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @version 1.0
+ * @author Marcus
+ * @date 2026/10/17
+ */
+public class ConditionalResponseTest {
+
+    @CacheControl(maxAge = 60, sMaxAge = 600, staleWhileRevalidate = 30, staleIfError = 86400)
+    public void shared() {
+    }
+
+    @CacheControl(privateCache = true, sMaxAge = 600, mustRevalidate = true)
+    public void revalidated() {
+    }
+
+    @CacheControl(maxAge = 10, eTag = false)
+    public void noETag() {
+    }
+
+    public void none() {
+    }
+
+    public static class ProductAction {
+        @CacheControl(maxAge = 60, eTag = false)
+        @Mapping("/products/${id}")
+        public Map<String, Object> product(long id) {
+            return Map.of("id", id);
+        }
+    }
+
+    @Test
+    public void directives() throws NoSuchMethodException {
+        Assertions.assertEquals("public, max-age=60, s-maxage=600, stale-while-revalidate=30, stale-if-error=86400",
+                of("shared").getCacheControl());
+        Assertions.assertEquals("no-cache, private, must-revalidate", of("revalidated").getCacheControl());
+        Assertions.assertNull(of("none"));
+
+        MockHttpServletRequest get = new MockHttpServletRequest("GET", "/");
+        Assertions.assertTrue(of("shared").isRevalidated(get));
+        Assertions.assertFalse(of("noETag").isRevalidated(get));
+        Assertions.assertFalse(of("shared").isRevalidated(new MockHttpServletRequest("POST", "/")));
+    }
+
+    @Test
+    public void eTag() throws IOException {
+        byte[] body = "{\"id\":1,\"name\":\"product-1\"}".getBytes(StandardCharsets.UTF_8);
+        String eTag = ConditionalResponse.generateETag(body);
+        Assertions.assertTrue(eTag.matches("W/\"1b-[0-9a-f]{16}\""), eTag);
+        Assertions.assertEquals(eTag, ConditionalResponse.generateETag(body.clone()));
+
+        body[body.length - 2] = '2';
+        Assertions.assertNotEquals(eTag, ConditionalResponse.generateETag(body));
+        Assertions.assertEquals("W/\"0-0000000000000000\"", ConditionalResponse.generateETag(new byte[0]));
+    }
+
+    @Test
+    public void notModified() throws Exception {
+        ConditionalResponse conditional = of("shared");
+        byte[] body = new byte[64 * 1024];
+        for (int i = 0; i < body.length; ++i)
+            body[i] = (byte) ('a' + i % 26);
+
+        // first request, the body and the ETag
+        MockHttpServletResponse response = complete(conditional, body, null, 200);
+        Assertions.assertEquals(200, response.getStatus());
+        Assertions.assertArrayEquals(body, response.getContentAsByteArray());
+        String eTag = response.getHeader("ETag");
+        Assertions.assertEquals(ConditionalResponse.generateETag(body), eTag);
+        Assertions.assertEquals(conditional.getCacheControl(), response.getHeader("Cache-Control"));
+
+        // revalidated, 304 without the body
+        response = complete(conditional, body, eTag, 200);
+        Assertions.assertEquals(304, response.getStatus());
+        Assertions.assertEquals(0, response.getContentAsByteArray().length);
+        Assertions.assertEquals(eTag, response.getHeader("ETag"));
+        Assertions.assertEquals(conditional.getCacheControl(), response.getHeader("Cache-Control"));
+
+        // changed
+        body[0] = 'z';
+        response = complete(conditional, body, eTag, 200);
+        Assertions.assertEquals(200, response.getStatus());
+        Assertions.assertNotEquals(eTag, response.getHeader("ETag"));
+
+        // not 200, as is
+        response = complete(conditional, body, eTag, 404);
+        Assertions.assertEquals(404, response.getStatus());
+        Assertions.assertNull(response.getHeader("ETag"));
+        Assertions.assertNull(response.getHeader("Cache-Control"));
+        Assertions.assertEquals(body.length, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    public void uncaptured() throws Exception {
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.refresh();
+        ContextSupport.setApplicationContext(context);
+
+        DispatcherHandlerRequest dispatcher = new DispatcherHandlerRequest();
+        dispatcher.init(new SpringContainerAware() {
+            @Override
+            public List<Object> loadBeans(boolean... excludeSpringSelf) {
+                return List.of(new ProductAction());
+            }
+
+            @Override
+            public ServletConfig getServletConfig() {
+                return new MockServletConfig();
+            }
+        });
+
+        try {
+            // eTag = false, not captured, the declared directives instead of no-cache
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            dispatcher.processor(new MockHttpServletRequest("GET", "/products/1"), response);
+            Assertions.assertEquals(200, response.getStatus());
+            Assertions.assertEquals("{\"id\":1}", response.getContentAsString());
+            Assertions.assertEquals("public, max-age=60", response.getHeader("Cache-Control"));
+            Assertions.assertNull(response.getHeader("ETag"));
+        } finally {
+            dispatcher.destroy();
+        }
+    }
+
+    @Test
+    public void compressed() {
+        CompressionConfig config = new CompressionConfig();
+        config.setCompression("on");
+        config.setCompressionMinSize(0);
+
+        byte[] body = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+        // the weak ETag of the hashed body keeps the compression of the container, a strong one disables it
+        Assertions.assertTrue(useCompression(config, ConditionalResponse.generateETag(body)));
+        Assertions.assertTrue(useCompression(config, CachedResponse.generateETag(body)));
+        Assertions.assertFalse(useCompression(config, ConditionalResponse.generateETag(body).substring(2)));
+    }
+
+    private static boolean useCompression(CompressionConfig config, String eTag) {
+        Request request = new Request();
+        request.getMimeHeaders().addValue("Accept-Encoding").setString("gzip");
+
+        Response response = new Response();
+        response.setStatus(200);
+        response.setContentType("application/json;charset=UTF-8");
+        response.getMimeHeaders().addValue("ETag").setString(eTag);
+        return config.useCompression(request, response);
+    }
+
+    private static MockHttpServletResponse complete(ConditionalResponse conditional, byte[] body, String ifNoneMatch, int status) throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/products/1");
+        if (ifNoneMatch != null)
+            request.addHeader("If-None-Match", ifNoneMatch);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ContentCachingResponseWrapper captured = new ContentCachingResponseWrapper(response);
+        captured.setStatus(status);
+        captured.getOutputStream().write(body);
+        conditional.complete(captured, request, response);
+        return response;
+    }
+
+    private static ConditionalResponse of(String name) throws NoSuchMethodException {
+        return ConditionalResponse.of(ConditionalResponseTest.class.getMethod(name));
+    }
+}
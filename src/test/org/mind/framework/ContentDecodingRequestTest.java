@@ -0,0 +1,156 @@
+package org.mind.framework;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mind.framework.metric.DecodingTraffic;
+import org.mind.framework.util.HttpUtils;
+import org.mind.framework.web.dispatcher.handler.ContentDecodingRequest;
+import org.mind.framework.web.dispatcher.handler.ContentDecodingRequest.DecodingException;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * @version 1.0
+ * @author Marcus
+ * @date 2026/10/17
+ */
+public class ContentDecodingRequestTest {
+    private static final long MAX_SIZE = 1024 * 1024L;
+    private static final int MAX_RATIO = 100;
+
+    private static final String JSON = "{\"id\":1,\"name\":\"product-1\",\"tags\":[\"a\",\"b\",\"c\"]}";
+
+    @Test
+    public void identity() throws IOException {
+        MockHttpServletRequest request = post(JSON.getBytes(StandardCharsets.UTF_8), null, "application/json");
+        Assertions.assertSame(request, ContentDecodingRequest.wrap(request, MAX_SIZE, MAX_RATIO));
+
+        request.addHeader("Content-Encoding", "identity");
+        Assertions.assertSame(request, ContentDecodingRequest.wrap(request, MAX_SIZE, MAX_RATIO));
+    }
+
+    @Test
+    public void decode() throws IOException {
+        byte[] json = JSON.getBytes(StandardCharsets.UTF_8);
+        DecodingTraffic traffic = DecodingTraffic.getInstance();
+        long decoded = traffic.getTotalDecoded();
+
+        for (String encoding : new String[]{"gzip", "x-gzip", "deflate", "deflate-raw"}) {
+            byte[] body = "deflate-raw".equals(encoding) ? deflate(json, true) : encoding.endsWith("gzip") ? gzip(json) : deflate(json, false);
+            HttpServletRequest request = wrap(post(body, encoding.replace("-raw", ""), "application/json"));
+
+            Assertions.assertNull(request.getHeader("Content-Encoding"));
+            Assertions.assertNull(request.getHeader("Content-Length"));
+            Assertions.assertFalse(Collections.list(request.getHeaderNames()).contains("Content-Encoding"));
+            Assertions.assertEquals(-1, request.getContentLength());
+            Assertions.assertEquals(JSON, HttpUtils.getPostString(request), encoding);
+        }
+        Assertions.assertEquals(decoded + 4, traffic.getTotalDecoded());
+    }
+
+    @Test
+    public void form() throws IOException {
+        byte[] body = gzip("name=%E5%95%86%E5%93%81&tag=a&tag=b&empty".getBytes(StandardCharsets.UTF_8));
+        MockHttpServletRequest mock = post(body, "gzip", "application/x-www-form-urlencoded; charset=UTF-8");
+        mock.setQueryString("id=7");
+        HttpServletRequest request = wrap(mock);
+
+        Assertions.assertEquals("7", request.getParameter("id"));
+        Assertions.assertEquals("商品", request.getParameter("name"));
+        Assertions.assertArrayEquals(new String[]{"a", "b"}, request.getParameterValues("tag"));
+        Assertions.assertEquals("", request.getParameter("empty"));
+        Assertions.assertNull(request.getParameter("none"));
+    }
+
+    @Test
+    public void bomb() throws IOException {
+        DecodingTraffic traffic = DecodingTraffic.getInstance();
+        long rejected = traffic.getTotalRejected();
+
+        // 2MB of zeros compressed to a few KB, over the decoded size
+        byte[] zeros = new byte[2 * 1024 * 1024];
+        HttpServletRequest request = wrap(post(gzip(zeros), "gzip", "application/json"), MAX_SIZE, Integer.MAX_VALUE);
+        DecodingException e = Assertions.assertThrows(DecodingException.class, () -> drain(request.getInputStream()));
+        Assertions.assertEquals(413, e.getStatus());
+
+        // under the size, over the ratio
+        HttpServletRequest ratio = wrap(post(gzip(new byte[512 * 1024]), "gzip", "application/json"), MAX_SIZE, MAX_RATIO);
+        e = Assertions.assertThrows(DecodingException.class, () -> drain(ratio.getInputStream()));
+        Assertions.assertEquals(413, e.getStatus());
+
+        // the form parsing of the container API is unchecked
+        HttpServletRequest form = wrap(post(gzip(zeros), "gzip", "application/x-www-form-urlencoded"), MAX_SIZE, Integer.MAX_VALUE);
+        UncheckedIOException ue = Assertions.assertThrows(UncheckedIOException.class, () -> form.getParameter("name"));
+        Assertions.assertEquals(413, ((DecodingException) ue.getCause()).getStatus());
+
+        Assertions.assertEquals(rejected + 3, traffic.getTotalRejected());
+    }
+
+    @Test
+    public void malformed() throws IOException {
+        byte[] body = gzip(JSON.getBytes(StandardCharsets.UTF_8));
+        body[body.length / 2] ^= 0x5A;
+        HttpServletRequest corrupted = wrap(post(body, "gzip", "application/json"));
+        Assertions.assertEquals(400, Assertions.assertThrows(DecodingException.class, () -> drain(corrupted.getInputStream())).getStatus());
+
+        byte[] truncated = new byte[body.length - 12];
+        System.arraycopy(gzip(JSON.getBytes(StandardCharsets.UTF_8)), 0, truncated, 0, truncated.length);
+        HttpServletRequest request = wrap(post(truncated, "gzip", "application/json"));
+        Assertions.assertEquals(400, Assertions.assertThrows(DecodingException.class, () -> drain(request.getInputStream())).getStatus());
+
+        DecodingException e = Assertions.assertThrows(DecodingException.class,
+                () -> ContentDecodingRequest.wrap(post(body, "br", "application/json"), MAX_SIZE, MAX_RATIO));
+        Assertions.assertEquals(415, e.getStatus());
+    }
+
+    private static HttpServletRequest wrap(MockHttpServletRequest request) throws DecodingException {
+        return wrap(request, MAX_SIZE, MAX_RATIO);
+    }
+
+    private static HttpServletRequest wrap(MockHttpServletRequest request, long maxSize, int maxRatio) throws DecodingException {
+        HttpServletRequest wrapped = ContentDecodingRequest.wrap(request, maxSize, maxRatio);
+        Assertions.assertInstanceOf(ContentDecodingRequest.class, wrapped);
+        return wrapped;
+    }
+
+    private static MockHttpServletRequest post(byte[] body, String encoding, String contentType) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/request/body/1");
+        request.setContent(body);
+        request.setContentType(contentType);
+        if (encoding != null)
+            request.addHeader("Content-Encoding", encoding);
+        request.addHeader("Content-Length", body.length);
+        return request;
+    }
+
+    private static void drain(InputStream input) throws IOException {
+        byte[] buffer = new byte[8192];
+        while (input.read(buffer) > -1) ;
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] deflate(byte[] data, boolean raw) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (DeflaterOutputStream deflate = new DeflaterOutputStream(out, new Deflater(Deflater.DEFAULT_COMPRESSION, raw))) {
+            deflate.write(data);
+        }
+        return out.toByteArray();
+    }
+}
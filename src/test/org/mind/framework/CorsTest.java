@@ -0,0 +1,145 @@
+package org.mind.framework;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mind.framework.web.interceptor.CorsInterceptor;
+import org.mind.framework.web.interceptor.CorsOriginMatcher;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.cors.CorsConfiguration;
+
+import java.util.List;
+
+/**
+ * @version 1.0
+ * @author Marcus
+ * @date 2026/10/17
+ */
+public class CorsTest {
+
+    @BeforeAll
+    public static void context() {
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.refresh();
+        ContextSupport.setApplicationContext(context);
+    }
+
+    @Test
+    public void origins() {
+        CorsOriginMatcher matcher = CorsOriginMatcher.of(List.of(
+                "https://www.abc.com", "localhost:3000", "*.mind.org", "https://*.secure.org", "api.*.xyz.com"));
+
+        Assertions.assertFalse(matcher.isAny());
+        Assertions.assertTrue(matcher.matches("https://www.abc.com"));
+        Assertions.assertTrue(matcher.matches("HTTPS://WWW.ABC.COM"));
+        Assertions.assertFalse(matcher.matches("http://www.abc.com"));
+        Assertions.assertFalse(matcher.matches("https://www.abc.com.evil.com"));
+        Assertions.assertFalse(matcher.matches("https://evil-www.abc.com"));
+
+        Assertions.assertTrue(matcher.matches("http://localhost:3000"));
+        Assertions.assertTrue(matcher.matches("https://localhost:3000"));
+        Assertions.assertFalse(matcher.matches("http://localhost:3001"));
+        Assertions.assertFalse(matcher.matches("file://localhost:3000"));
+
+        Assertions.assertTrue(matcher.matches("https://mind.org"));
+        Assertions.assertTrue(matcher.matches("https://a.b.mind.org"));
+        Assertions.assertFalse(matcher.matches("https://evilmind.org"));
+        Assertions.assertFalse(matcher.matches("https://a.mind.org.evil.com"));
+
+        Assertions.assertTrue(matcher.matches("https://x.secure.org"));
+        Assertions.assertFalse(matcher.matches("http://x.secure.org"));
+
+        Assertions.assertTrue(matcher.matches("https://api.xyz.com"));
+        Assertions.assertTrue(matcher.matches("https://api.eu.xyz.com"));
+        Assertions.assertFalse(matcher.matches("https://web.eu.xyz.com"));
+
+        Assertions.assertFalse(matcher.matches(null));
+        Assertions.assertFalse(matcher.matches("null"));
+
+        // cached decisions
+        for (int i = 0; i < 3000; ++i)
+            Assertions.assertEquals(i % 2 == 0, matcher.matches(i % 2 == 0 ? "https://s" + i + ".mind.org" : "https://s" + i + ".other.org"));
+
+        Assertions.assertTrue(CorsOriginMatcher.of(List.of("*")).isAny());
+        Assertions.assertFalse(CorsOriginMatcher.of(null).matches("https://www.abc.com"));
+    }
+
+    @Test
+    public void preflight() {
+        CorsInterceptor interceptor = new CorsInterceptor(config(List.of("*.mind.org"), List.of("GET", "PUT"), List.of("Content-Type", "X-Token"), 600L));
+
+        MockHttpServletResponse response = preflight(interceptor, "https://app.mind.org", "PUT", "content-type, x-token");
+        Assertions.assertEquals(200, response.getStatus());
+        Assertions.assertEquals("https://app.mind.org", response.getHeader("Access-Control-Allow-Origin"));
+        Assertions.assertEquals("GET,PUT", response.getHeader("Access-Control-Allow-Methods"));
+        Assertions.assertEquals("Content-Type, X-Token", response.getHeader("Access-Control-Allow-Headers"));
+        Assertions.assertEquals("true", response.getHeader("Access-Control-Allow-Credentials"));
+        Assertions.assertEquals("600", response.getHeader("Access-Control-Max-Age"));
+        Assertions.assertTrue(response.getHeaders("Vary").toString().contains("Origin"));
+
+        Assertions.assertEquals(403, preflight(interceptor, "https://app.evil.org", "PUT", null).getStatus());
+        Assertions.assertEquals(403, preflight(interceptor, "https://app.mind.org", "DELETE", null).getStatus());
+        Assertions.assertEquals(403, preflight(interceptor, "https://app.mind.org", "PUT", "X-Other").getStatus());
+        Assertions.assertNull(preflight(interceptor, "https://app.evil.org", "PUT", null).getHeader("Access-Control-Allow-Origin"));
+    }
+
+    @Test
+    public void preflightAll() {
+        CorsConfiguration config = config(List.of("*"), List.of("*"), List.of("*"), -1L);
+        config.setAllowCredentials(false);
+        CorsInterceptor interceptor = new CorsInterceptor(config);
+
+        MockHttpServletResponse response = preflight(interceptor, "https://any.org", "PATCH", "X-Any");
+        Assertions.assertEquals(200, response.getStatus());
+        Assertions.assertEquals("*", response.getHeader("Access-Control-Allow-Origin"));
+        Assertions.assertEquals("PATCH", response.getHeader("Access-Control-Allow-Methods"));
+        Assertions.assertEquals("X-Any", response.getHeader("Access-Control-Allow-Headers"));
+        Assertions.assertNull(response.getHeader("Access-Control-Allow-Credentials"));
+        Assertions.assertNull(response.getHeader("Access-Control-Max-Age"));
+    }
+
+    @Test
+    public void actual() {
+        CorsInterceptor interceptor = new CorsInterceptor(config(List.of("*.mind.org"), List.of("GET"), List.of("*"), 600L));
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/cors/1");
+        request.setServerName("localhost");
+        request.addHeader("Origin", "https://app.mind.org");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Assertions.assertTrue(interceptor.doBefore(request, response));
+        Assertions.assertEquals("https://app.mind.org", response.getHeader("Access-Control-Allow-Origin"));
+
+        request = new MockHttpServletRequest("GET", "/cors/1");
+        request.setServerName("localhost");
+        request.addHeader("Origin", "https://app.evil.org");
+        response = new MockHttpServletResponse();
+        Assertions.assertFalse(interceptor.doBefore(request, response));
+        Assertions.assertEquals(403, response.getStatus());
+    }
+
+    private static MockHttpServletResponse preflight(CorsInterceptor interceptor, String origin, String method, String headers) {
+        MockHttpServletRequest request = new MockHttpServletRequest("OPTIONS", "/cors/1");
+        request.setServerName("localhost");
+        request.addHeader("Origin", origin);
+        request.addHeader("Access-Control-Request-Method", method);
+        if (headers != null)
+            request.addHeader("Access-Control-Request-Headers", headers);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Assertions.assertFalse(interceptor.doBefore(request, response));
+        return response;
+    }
+
+    private static CorsConfiguration config(List<String> origins, List<String> methods, List<String> headers, long maxAge) {
+        CorsConfiguration config = new CorsConfiguration();
+        origins.forEach(config::addAllowedOrigin);
+        methods.forEach(config::addAllowedMethod);
+        headers.forEach(config::addAllowedHeader);
+        config.setAllowCredentials(true);
+        if (maxAge > -1L)
+            config.setMaxAge(maxAge);
+        return config;
+    }
+}
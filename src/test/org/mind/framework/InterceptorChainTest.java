@@ -0,0 +1,92 @@
+package org.mind.framework;
+
+import jakarta.servlet.ServletConfig;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mind.framework.annotation.Interceptor;
+import org.mind.framework.annotation.Mapping;
+import org.mind.framework.web.container.spring.SpringContainerAware;
+import org.mind.framework.web.dispatcher.handler.DispatcherHandlerRequest;
+import org.mind.framework.web.interceptor.AbstractHandlerInterceptor;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletConfig;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * @version 1.0
+ * @author Marcus
+ * @date 2026/10/17
+ */
+public class InterceptorChainTest {
+
+    private static DispatcherHandlerRequest dispatcher;
+
+    private static final List<String> intercepted = new CopyOnWriteArrayList<>();
+
+    @Interceptor(value = "/user/*", excludes = "/user/public")
+    public static class AuthInterceptor extends AbstractHandlerInterceptor {
+        @Override
+        public boolean doBefore(HttpServletRequest request, HttpServletResponse response) {
+            intercepted.add(request.getRequestURI());
+            return true;
+        }
+    }
+
+    public static class UserAction {
+        @Mapping("/user/${id}")
+        public Map<String, Object> user(String id) {
+            return Map.of("id", id);
+        }
+    }
+
+    @BeforeAll
+    public static void init() throws Exception {
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.refresh();
+        ContextSupport.setApplicationContext(context);
+
+        dispatcher = new DispatcherHandlerRequest();
+        dispatcher.init(new SpringContainerAware() {
+            @Override
+            public List<Object> loadBeans(boolean... excludeSpringSelf) {
+                return List.of(new AuthInterceptor(), new UserAction());
+            }
+
+            @Override
+            public ServletConfig getServletConfig() {
+                return new MockServletConfig();
+            }
+        });
+    }
+
+    @AfterAll
+    public static void destroy() {
+        dispatcher.destroy();
+    }
+
+    @Test
+    public void parameterizedRoute() throws Exception {
+        // the excluded URI comes first, the other URIs of the route are still intercepted
+        get("/user/public");
+        get("/user/123");
+        get("/user/public");
+        get("/user/456");
+
+        Assertions.assertEquals(List.of("/user/123", "/user/456"), intercepted);
+    }
+
+    private static void get(String uri) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        dispatcher.processor(new MockHttpServletRequest("GET", uri), response);
+        Assertions.assertEquals(200, response.getStatus());
+    }
+}
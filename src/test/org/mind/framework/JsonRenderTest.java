@@ -0,0 +1,138 @@
+package org.mind.framework;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mind.framework.util.JsonUtils;
+import org.mind.framework.web.renderer.JsonRender;
+import org.mind.framework.web.renderer.Render;
+import org.mind.framework.web.renderer.TextRender;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * @version 1.0
+ * @author Marcus
+ * @date 2026/10/17
+ */
+public class JsonRenderTest {
+
+    private static List<Map<String, Object>> newList(int size) {
+        List<Map<String, Object>> list = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("id", i);
+            item.put("name", "名称-" + i);
+            item.put("price", i * 1.5D);
+            list.add(item);
+        }
+        return list;
+    }
+
+    @Test
+    public void render() throws Exception {
+        // small, written once with Content-Length
+        Map<String, Object> small = newList(1).get(0);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new JsonRender(small).render(new MockHttpServletRequest(), response);
+        Assertions.assertEquals(JsonUtils.toJson(small), response.getContentAsString(StandardCharsets.UTF_8));
+        Assertions.assertEquals(response.getContentAsByteArray().length, response.getContentLength());
+        Assertions.assertEquals("application/json;charset=UTF-8", response.getContentType());
+
+        // large, streamed without Content-Length
+        List<Map<String, Object>> large = newList(5_000);
+        response = new MockHttpServletResponse();
+        new JsonRender(large).render(new MockHttpServletRequest(), response);
+        Assertions.assertEquals(JsonUtils.toJson(large), response.getContentAsString(StandardCharsets.UTF_8));
+        Assertions.assertNull(response.getHeader(HttpHeaders.CONTENT_LENGTH));
+
+        // null
+        response = new MockHttpServletResponse();
+        new JsonRender(null).render(new MockHttpServletRequest(), response);
+        Assertions.assertEquals(JsonUtils.EMPTY_JSON_OBJECT, response.getContentAsString());
+    }
+
+    @Test
+    public void encode() throws Exception {
+        // the non-BMP chars are split by the buffer boundary
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 5_000; ++i)
+            text.append(i % 3 == 0 ? "a" : i % 3 == 1 ? "名" : "\uD83D\uDE00");
+        Map<String, Object> target = Map.of("text", text.toString(), "broken", "\uD800x\uDC00");
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new JsonRender(target).render(new MockHttpServletRequest(), response);
+        Assertions.assertArrayEquals(JsonUtils.toJson(target).getBytes(StandardCharsets.UTF_8), response.getContentAsByteArray());
+    }
+
+    @Test
+    public void allocation() throws Exception {
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        for (int size : new int[]{10, 1_000, 50_000}) {
+            List<Map<String, Object>> list = newList(size);
+            int rounds = size >= 50_000 ? 20 : 2_000;
+
+            long[] text = measure(threadBean, threadId, rounds, () -> new TextRender(JsonUtils.toJson(list)));
+            long[] json = measure(threadBean, threadId, rounds, () -> new JsonRender(list));
+            System.out.printf("items: %6d, string + TextRender: %,12d ns/op %,12d bytes/op, JsonRender: %,12d ns/op %,12d bytes/op%n",
+                    size, text[0] / rounds, text[1] / rounds, json[0] / rounds, json[1] / rounds);
+
+            // the JSON string, its bytes and the copies of the growing builder are not allocated
+            Assertions.assertTrue(json[1] < (size > 10 ? text[1] / 2 : text[1]), "JsonRender allocated " + json[1] / rounds + " bytes/op");
+        }
+    }
+
+    /*
+     * The body is discarded, the allocation is of the render only.
+     */
+    private long[] measure(com.sun.management.ThreadMXBean threadBean, long threadId, int rounds, Supplier<Render> render) throws Exception {
+        // warm up
+        for (int i = 0; i < rounds; ++i)
+            render.get().render(new MockHttpServletRequest(), new DiscardResponse());
+
+        long bytes = threadBean.getThreadAllocatedBytes(threadId);
+        long begin = System.nanoTime();
+        for (int i = 0; i < rounds; ++i)
+            render.get().render(new MockHttpServletRequest(), new DiscardResponse());
+        long nanos = System.nanoTime() - begin;
+        return new long[]{nanos, threadBean.getThreadAllocatedBytes(threadId) - bytes};
+    }
+
+    private static class DiscardResponse extends MockHttpServletResponse {
+        private final ServletOutputStream output = new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] bytes, int offset, int length) {
+            }
+        };
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return output;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package org.mind.framework;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mind.framework.web.renderer.JsonStreamRender;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * @version 1.0
+ * @author Marcus
+ * @date 2026/10/17
+ */
+public class JsonStreamRenderTest {
+
+    @Test
+    public void array() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<Object> stream = Stream.<Object>of(Map.of("id", 1), "名称", 2, null).onClose(() -> closed.set(true));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        JsonStreamRender render = JsonStreamRender.of(stream);
+        render.render(new MockHttpServletRequest(), response);
+
+        Assertions.assertEquals("[{\"id\":1},\"名称\",2,null]", response.getContentAsString(StandardCharsets.UTF_8));
+        Assertions.assertEquals("application/json;charset=UTF-8", response.getContentType());
+        Assertions.assertEquals(4L, render.getCount());
+        Assertions.assertTrue(closed.get());
+
+        // empty
+        response = new MockHttpServletResponse();
+        JsonStreamRender.of(Stream.empty()).render(new MockHttpServletRequest(), response);
+        Assertions.assertEquals("[]", response.getContentAsString());
+    }
+
+    @Test
+    public void ndjson() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.ACCEPT, "application/x-ndjson");
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        JsonStreamRender.of(List.of(Map.of("id", 1), Map.of("id", 2)).iterator()).render(request, response);
+        Assertions.assertEquals("{\"id\":1}\n{\"id\":2}\n", response.getContentAsString());
+        Assertions.assertEquals("application/x-ndjson;charset=UTF-8", response.getContentType());
+
+        // the format is chosen by the action
+        response = new MockHttpServletResponse();
+        JsonStreamRender.of(List.of(1, 2).iterator()).array().render(request, response);
+        Assertions.assertEquals("[1,2]", response.getContentAsString());
+    }
+
+    @Test
+    public void pages() throws Exception {
+        AtomicInteger page = new AtomicInteger();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        JsonStreamRender render = JsonStreamRender.pages(() -> {
+            int from = page.getAndIncrement() * 3;
+            return from >= 7 ? List.of() : IntStream.range(from, Math.min(from + 3, 7)).boxed().toList();
+        });
+        render.render(new MockHttpServletRequest(), response);
+
+        Assertions.assertEquals("[0,1,2,3,4,5,6]", response.getContentAsString());
+        Assertions.assertEquals(7L, render.getCount());
+        Assertions.assertEquals(4, page.get());
+    }
+
+    @Test
+    public void flush() throws Exception {
+        RecordingOutputStream output = new RecordingOutputStream(Integer.MAX_VALUE);
+        JsonStreamRender.of(IntStream.range(0, 10).boxed()).flushSize(4).render(new MockHttpServletRequest(), response(output));
+
+        Assertions.assertEquals("[0,1,2,3,4,5,6,7,8,9]", output.content.toString(StandardCharsets.UTF_8));
+        // flushed after 4, 8 elements and the end
+        Assertions.assertEquals(List.of(8, 16, 21), output.flushed);
+    }
+
+    @Test
+    public void aborted() {
+        AtomicBoolean closed = new AtomicBoolean();
+        CloseableIterator iterator = new CloseableIterator(IntStream.range(0, 100_000).mapToObj(i -> "item-" + i).iterator(), closed);
+
+        // the client disconnects after 64KB
+        IOException e = Assertions.assertThrows(IOException.class,
+                () -> JsonStreamRender.of(iterator).render(new MockHttpServletRequest(), response(new RecordingOutputStream(64 * 1024))));
+        Assertions.assertEquals("Broken pipe", e.getMessage());
+        Assertions.assertTrue(closed.get());
+        Assertions.assertTrue(iterator.read < 100_000, "stop reading the source: " + iterator.read);
+    }
+
+    @Test
+    public void notRendered() throws Exception {
+        AtomicInteger closed = new AtomicInteger();
+        Stream<Integer> stream = Stream.of(1, 2).onClose(closed::incrementAndGet);
+        Assertions.assertNull(JsonStreamRender.from(List.of(1, 2)));
+
+        // closed by the dispatcher when the rendering is skipped, then once only
+        JsonStreamRender render = JsonStreamRender.from(stream);
+        Assertions.assertNotNull(render);
+        render.close();
+        render.close();
+        Assertions.assertEquals(1, closed.get());
+
+        CloseableIterator iterator = new CloseableIterator(List.of("a").iterator(), new AtomicBoolean());
+        render = JsonStreamRender.from(iterator);
+        render.render(new MockHttpServletRequest(), new MockHttpServletResponse());
+        render.close();
+        Assertions.assertTrue(iterator.closed.get());
+    }
+
+    private static MockHttpServletResponse response(ServletOutputStream output) {
+        return new MockHttpServletResponse() {
+            @Override
+            public ServletOutputStream getOutputStream() {
+                return output;
+            }
+        };
+    }
+
+    private static class CloseableIterator implements Iterator<String>, AutoCloseable {
+        private final Iterator<String> source;
+        private final AtomicBoolean closed;
+        private int read;
+
+        CloseableIterator(Iterator<String> source, AtomicBoolean closed) {
+            this.source = source;
+            this.closed = closed;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return source.hasNext();
+        }
+
+        @Override
+        public String next() {
+            ++read;
+            return source.next();
+        }
+
+        @Override
+        public void close() {
+            closed.set(true);
+        }
+    }
+
+    private static class RecordingOutputStream extends ServletOutputStream {
+        private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        private final List<Integer> flushed = new ArrayList<>();
+        private final int limit;
+
+        RecordingOutputStream(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            this.write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (content.size() + len > limit)
+                throw new IOException("Broken pipe");
+            content.write(b, off, len);
+        }
+
+        @Override
+        public void flush() {
+            flushed.add(content.size());
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package org.mind.framework;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mind.framework.web.dispatcher.multipart.MultipartParts;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Random;
+
+/**
+ * @version 1.0
+ * @author Marcus
+ * @date 2026/10/17
+ */
+public class MultipartPartsTest {
+    private static final String BOUNDARY = "----WebKitFormBoundary7MA4YWxkTrZu0gW";
+
+    /*
+     * Returns the bytes in random small chunks, so the delimiter is split between the reads.
+     */
+    static class ChunkedInputStream extends ByteArrayInputStream {
+        private final Random random = new Random(7);
+
+        ChunkedInputStream(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            return super.read(b, off, Math.min(len, 1 + random.nextInt(97)));
+        }
+    }
+
+    private static byte[] newContent(int size) {
+        byte[] content = new byte[size];
+        new Random(size).nextBytes(content);
+        // boundary-like sequences in the content
+        byte[] fake = ("\r\n--" + BOUNDARY.substring(0, BOUNDARY.length() - 1)).getBytes(StandardCharsets.ISO_8859_1);
+        for (int i = 1000; i + fake.length < size; i += 50_000)
+            System.arraycopy(fake, 0, content, i, fake.length);
+        return content;
+    }
+
+    private static byte[] newBody(byte[] file) throws Exception {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.write(("preamble\r\n--" + BOUNDARY + "\r\n").getBytes());
+        body.write("Content-Disposition: form-data; name=\"title\"\r\n\r\n".getBytes());
+        body.write("上传 title".getBytes(StandardCharsets.UTF_8));
+        body.write(("\r\n--" + BOUNDARY + "\r\n").getBytes());
+        body.write("Content-Disposition: form-data; name=\"file\"; filename=\"a \\\"b\\\".bin\"\r\n".getBytes());
+        body.write("Content-Type: application/octet-stream\r\n\r\n".getBytes());
+        body.write(file);
+        body.write(("\r\n--" + BOUNDARY + "\r\n").getBytes());
+        body.write("Content-Disposition: form-data; name=\"skipped\"; filename*=UTF-8''%E4%B8%AD.txt\r\n\r\n".getBytes());
+        body.write(newContent(20_000));
+        body.write(("\r\n--" + BOUNDARY + "--\r\nepilogue").getBytes());
+        return body.toByteArray();
+    }
+
+    @Test
+    public void parse() throws Exception {
+        byte[] file = newContent(1 << 20);
+        byte[] body = newBody(file);
+
+        // read by the input stream
+        MultipartParts parts = new MultipartParts(new ChunkedInputStream(body), BOUNDARY, 2L << 20, 8L << 20, 10);
+        Assertions.assertTrue(parts.hasNext());
+        MultipartParts.Part title = parts.next();
+        Assertions.assertEquals("title", title.getName());
+        Assertions.assertFalse(title.isFile());
+        Assertions.assertEquals("上传 title", title.getString());
+
+        MultipartParts.Part part = parts.next();
+        Assertions.assertEquals("a \"b\".bin", part.getFilename());
+        Assertions.assertEquals("application/octet-stream", part.getContentType());
+        Assertions.assertArrayEquals(file, part.getInputStream().readAllBytes());
+
+        // not read, skipped by the next
+        MultipartParts.Part skipped = parts.next();
+        Assertions.assertEquals("中.txt", skipped.getFilename());
+        Assertions.assertFalse(parts.hasNext());
+        Assertions.assertEquals(-1, skipped.getInputStream().read());
+        Assertions.assertEquals(3, parts.getCount());
+
+        // digest and file channel straight from the buffer
+        parts = new MultipartParts(new ChunkedInputStream(body), BOUNDARY, 2L << 20, 8L << 20, 10);
+        parts.next().discard();
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        Assertions.assertEquals(file.length, parts.next().update(digest));
+        Assertions.assertArrayEquals(MessageDigest.getInstance("SHA-256").digest(file), digest.digest());
+
+        parts = new MultipartParts(new ByteArrayInputStream(body), BOUNDARY, 2L << 20, 8L << 20, 10);
+        parts.next();
+        Path path = Files.createTempFile("multipart", ".bin");
+        try {
+            Assertions.assertEquals(file.length, parts.next().transferTo(path));
+            Assertions.assertArrayEquals(file, Files.readAllBytes(path));
+        } finally {
+            Files.deleteIfExists(path);
+        }
+        parts.next();
+        Assertions.assertFalse(parts.hasNext());
+    }
+
+    @Test
+    public void limits() throws Exception {
+        byte[] body = newBody(newContent(1 << 20));
+
+        // part over the limit, while reading
+        MultipartParts parts = new MultipartParts(new ChunkedInputStream(body), BOUNDARY, 512L << 10, 8L << 20, 10);
+        parts.next();
+        InputStream input = parts.next().getInputStream();
+        Assertions.assertThrows(MaxUploadSizeExceededException.class, input::readAllBytes);
+
+        // part over the limit, while skipping
+        MultipartParts skipping = new MultipartParts(new ChunkedInputStream(body), BOUNDARY, 512L << 10, 8L << 20, 10);
+        skipping.next();
+        skipping.next();
+        Assertions.assertThrows(MaxUploadSizeExceededException.class, skipping::hasNext);
+
+        // request over the limit, the rest is not read
+        MultipartParts total = new MultipartParts(new ChunkedInputStream(body), BOUNDARY, 2L << 20, 100_000L, 10);
+        total.next();
+        Assertions.assertThrows(MaxUploadSizeExceededException.class, () -> total.next().discard());
+        Assertions.assertTrue(total.getReceived() <= 100_000L + 97L);
+
+        // number of parts
+        MultipartParts count = new MultipartParts(new ChunkedInputStream(body), BOUNDARY, 2L << 20, 8L << 20, 2);
+        count.next();
+        count.next();
+        Assertions.assertThrows(MultipartException.class, count::hasNext);
+
+        // truncated
+        byte[] truncated = java.util.Arrays.copyOf(body, body.length / 2);
+        MultipartParts malformed = new MultipartParts(new ByteArrayInputStream(truncated), BOUNDARY, 2L << 20, 8L << 20, 10);
+        malformed.next();
+        Assertions.assertThrows(MultipartException.class, () -> malformed.next().discard());
+
+        Assertions.assertEquals(BOUNDARY, MultipartParts.boundaryOf("multipart/form-data; boundary=" + BOUNDARY));
+        Assertions.assertEquals("a b", MultipartParts.boundaryOf("multipart/mixed; charset=utf-8; boundary=\"a b\""));
+        Assertions.assertNull(MultipartParts.boundaryOf("application/json"));
+    }
+}
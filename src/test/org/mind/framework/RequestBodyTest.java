@@ -0,0 +1,152 @@
+package org.mind.framework;
+
+import com.google.gson.reflect.TypeToken;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mind.framework.annotation.Mapping;
+import org.mind.framework.annotation.RequestBody;
+import org.mind.framework.util.HttpUtils;
+import org.mind.framework.util.JsonUtils;
+import org.mind.framework.web.dispatcher.handler.RequestBodyBinding;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.ByteArrayInputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @version 1.0
+ * @author Marcus
+ * @date 2026/10/17
+ */
+public class RequestBodyTest {
+
+    public static class Item {
+        long id;
+        String name;
+        double price;
+    }
+
+    public static class Order {
+        String no;
+        List<Item> items;
+    }
+
+    public static class OrderAction {
+        @Mapping(value = "/order/${id}", method = org.springframework.web.bind.annotation.RequestMethod.POST)
+        public Object save(long id, @RequestBody Order order) {
+            return order;
+        }
+
+        @Mapping
+        public Object wrong(@RequestBody Order order, long id) {
+            return order;
+        }
+    }
+
+    private static byte[] newBody(int size) {
+        Order order = new Order();
+        order.no = "N-0001";
+        order.items = new ArrayList<>();
+        int bytes = 32;
+        for (int i = 0; bytes < size; ++i) {
+            Item item = new Item();
+            item.id = i;
+            item.name = "商品 item-" + i;
+            item.price = i * 1.5D;
+            order.items.add(item);
+            bytes += JsonUtils.toJson(item).getBytes(StandardCharsets.UTF_8).length + 1;
+        }
+        return JsonUtils.toJson(order).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static MockHttpServletRequest newRequest(byte[] body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/order/1");
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        request.setContent(body);
+        return request;
+    }
+
+    @Test
+    public void bind() throws Exception {
+        Method method = OrderAction.class.getMethod("save", long.class, Order.class);
+        RequestBodyBinding binding = RequestBodyBinding.of(method);
+        Assertions.assertNotNull(binding);
+        Assertions.assertEquals(1, binding.getIndex());
+
+        byte[] body = newBody(1024);
+        Object[] args = binding.bind(newRequest(body), new Object[]{1L});
+        Assertions.assertEquals(2, args.length);
+        Order order = (Order) args[1];
+        Assertions.assertEquals("N-0001", order.no);
+        Assertions.assertEquals("商品 item-1", order.items.get(1).name);
+
+        // empty body, required
+        RequestBodyBinding.BindingException e = Assertions.assertThrows(RequestBodyBinding.BindingException.class,
+                () -> binding.bind(newRequest(new byte[0]), new Object[]{1L}));
+        Assertions.assertEquals(HttpServletResponse.SC_BAD_REQUEST, e.getStatus());
+
+        // malformed
+        e = Assertions.assertThrows(RequestBodyBinding.BindingException.class,
+                () -> binding.bind(newRequest("{\"no\": \"N\", \"items\": [".getBytes()), new Object[]{1L}));
+        Assertions.assertEquals(HttpServletResponse.SC_BAD_REQUEST, e.getStatus());
+        e = Assertions.assertThrows(RequestBodyBinding.BindingException.class,
+                () -> binding.bind(newRequest("{\"no\": \"N\"} {}".getBytes()), new Object[]{1L}));
+        Assertions.assertEquals(HttpServletResponse.SC_BAD_REQUEST, e.getStatus());
+
+        // over the max size, by Content-Length and while streaming (chunked, no Content-Length)
+        RequestBodyBinding small = new RequestBodyBinding(Order.class, 512L, true, false);
+        e = Assertions.assertThrows(RequestBodyBinding.BindingException.class, () -> small.bind(newRequest(body), null));
+        Assertions.assertEquals(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE, e.getStatus());
+        e = Assertions.assertThrows(RequestBodyBinding.BindingException.class,
+                () -> small.read(new ByteArrayInputStream(body), StandardCharsets.UTF_8));
+        Assertions.assertEquals(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE, e.getStatus());
+
+        // the body parameter must be the last one
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> RequestBodyBinding.of(OrderAction.class.getMethod("wrong", Order.class, long.class)));
+    }
+
+    @Test
+    public void allocationBenchmark() throws Exception {
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        TypeToken<Order> typeToken = TypeToken.get(Order.class);
+        RequestBodyBinding binding = new RequestBodyBinding(Order.class, 8L << 20, true, false);
+
+        for (int size : new int[]{1024, 100 * 1024, 5 * 1024 * 1024}) {
+            byte[] body = newBody(size);
+            int rounds = size > 1024 * 1024 ? 10 : size > 1024 ? 200 : 5_000;
+
+            // String body: read all bytes, String, deletionBlank, parse the String
+            for (int i = 0; i < rounds; ++i)
+                JsonUtils.fromJson(HttpUtils.getPostString(newRequest(body), true), typeToken);
+            long bytes = threadBean.getThreadAllocatedBytes(threadId);
+            long begin = System.nanoTime();
+            for (int i = 0; i < rounds; ++i)
+                Assertions.assertNotNull(JsonUtils.fromJson(HttpUtils.getPostString(newRequest(body), true), typeToken));
+            long stringNanos = (System.nanoTime() - begin) / rounds;
+            long stringBytes = (threadBean.getThreadAllocatedBytes(threadId) - bytes) / rounds;
+
+            // streaming
+            for (int i = 0; i < rounds; ++i)
+                binding.bind(newRequest(body), null);
+            bytes = threadBean.getThreadAllocatedBytes(threadId);
+            begin = System.nanoTime();
+            for (int i = 0; i < rounds; ++i)
+                Assertions.assertNotNull(binding.bind(newRequest(body), null)[0]);
+            long streamNanos = (System.nanoTime() - begin) / rounds;
+            long streamBytes = (threadBean.getThreadAllocatedBytes(threadId) - bytes) / rounds;
+
+            System.out.printf("body: %,9d bytes, string: %,12d bytes/op %,11d ns/op, stream: %,12d bytes/op %,11d ns/op%n",
+                    body.length, stringBytes, stringNanos, streamBytes, streamNanos);
+            Assertions.assertTrue(streamBytes < stringBytes);
+        }
+    }
+}
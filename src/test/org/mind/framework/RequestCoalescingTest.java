@@ -0,0 +1,193 @@
+package org.mind.framework;
+
+import jakarta.servlet.ServletConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mind.framework.annotation.Mapping;
+import org.mind.framework.annotation.SingleFlight;
+import org.mind.framework.metric.CoalescingTraffic;
+import org.mind.framework.web.container.spring.SpringContainerAware;
+import org.mind.framework.web.dispatcher.handler.DispatcherHandlerRequest;
+import org.mind.framework.web.dispatcher.handler.RequestCoalescing;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * @version 1.0
+ * @author Marcus
+ * @date 2026/10/17
+ */
+public class RequestCoalescingTest {
+
+    private static DispatcherHandlerRequest dispatcher;
+
+    // the concurrent requests, not limited by the parallelism of the common pool
+    private static final ExecutorService executor = Executors.newCachedThreadPool();
+
+    public static class FlightAction {
+        private final AtomicInteger shareCount = new AtomicInteger();
+        private final AtomicInteger slowCount = new AtomicInteger();
+        private final CountDownLatch shareEntered = new CountDownLatch(1);
+        private final CountDownLatch shareRelease = new CountDownLatch(1);
+        private final CountDownLatch slowRelease = new CountDownLatch(1);
+
+        @SingleFlight(timeout = 5_000L)
+        @Mapping("/flight/share")
+        public Map<String, Object> share() throws InterruptedException {
+            shareEntered.countDown();
+            shareRelease.await(5L, TimeUnit.SECONDS);
+            return Map.of("count", shareCount.incrementAndGet());
+        }
+
+        @SingleFlight(timeout = 100L)
+        @Mapping("/flight/slow")
+        public Map<String, Object> slow() throws InterruptedException {
+            int count = slowCount.incrementAndGet();
+            // the first request is held until the follower falls back
+            if (count == 1)
+                slowRelease.await(5L, TimeUnit.SECONDS);
+            return Map.of("count", count);
+        }
+
+        @SingleFlight
+        @Mapping({"/flight/a", "/flight/b"})
+        public Map<String, Object> routes() {
+            return Map.of("routes", true);
+        }
+
+        @SingleFlight
+        public Map<String, Object> routes(int page) {
+            return Map.of("page", page);
+        }
+    }
+
+    private static final FlightAction action = new FlightAction();
+
+    @BeforeAll
+    public static void init() throws Exception {
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.refresh();
+        ContextSupport.setApplicationContext(context);
+
+        dispatcher = new DispatcherHandlerRequest();
+        dispatcher.init(new SpringContainerAware() {
+            @Override
+            public List<Object> loadBeans(boolean... excludeSpringSelf) {
+                return List.of(action);
+            }
+
+            @Override
+            public ServletConfig getServletConfig() {
+                return new MockServletConfig();
+            }
+        });
+    }
+
+    @AfterAll
+    public static void destroy() {
+        action.shareRelease.countDown();
+        action.slowRelease.countDown();
+        executor.shutdown();
+        dispatcher.destroy();
+    }
+
+    @Test
+    public void coalescing() throws Exception {
+        // the leader executes the action, the followers wait for it
+        CompletableFuture<MockHttpServletResponse> leader = CompletableFuture.supplyAsync(() -> get("/flight/share"), executor);
+        Assertions.assertTrue(action.shareEntered.await(5L, TimeUnit.SECONDS));
+
+        List<CompletableFuture<MockHttpServletResponse>> followers = new ArrayList<>();
+        for (int i = 0; i < 3; ++i)
+            followers.add(CompletableFuture.supplyAsync(() -> get("/flight/share"), executor));
+
+        TimeUnit.MILLISECONDS.sleep(300L);
+        CoalescingTraffic traffic = traffic(FlightAction.class.getName() + ".share()");
+        Assertions.assertEquals(0L, traffic.getTotalShared());
+
+        action.shareRelease.countDown();
+        String body = leader.get(5L, TimeUnit.SECONDS).getContentAsString();
+        Assertions.assertEquals("{\"count\":1}", body);
+        for (CompletableFuture<MockHttpServletResponse> follower : followers)
+            Assertions.assertEquals(body, follower.get(5L, TimeUnit.SECONDS).getContentAsString());
+
+        Assertions.assertEquals(1, action.shareCount.get());
+        Assertions.assertEquals(1L, traffic.getTotalExecuted());
+        Assertions.assertEquals(3L, traffic.getTotalShared());
+        Assertions.assertEquals(0L, traffic.getTotalFallback());
+    }
+
+    @Test
+    public void fallback() throws Exception {
+        CompletableFuture<MockHttpServletResponse> leader = CompletableFuture.supplyAsync(() -> get("/flight/slow"), executor);
+        Assertions.assertTrue(await(() -> action.slowCount.get() == 1));
+
+        // the follower waits 100ms, then executes the action independently
+        long begin = System.currentTimeMillis();
+        MockHttpServletResponse follower = get("/flight/slow");
+        Assertions.assertTrue(System.currentTimeMillis() - begin >= 100L);
+        Assertions.assertEquals("{\"count\":2}", follower.getContentAsString());
+        Assertions.assertFalse(leader.isDone());
+
+        CoalescingTraffic traffic = traffic(FlightAction.class.getName() + ".slow()");
+        Assertions.assertEquals(1L, traffic.getTotalFallback());
+        Assertions.assertEquals(0L, traffic.getTotalShared());
+
+        action.slowRelease.countDown();
+        Assertions.assertEquals("{\"count\":1}", leader.get(5L, TimeUnit.SECONDS).getContentAsString());
+        Assertions.assertEquals(1L, traffic.getTotalExecuted());
+    }
+
+    @Test
+    public void routes() throws Exception {
+        // the routes of the action share one instance and its traffic
+        get("/flight/a");
+        get("/flight/b");
+        CoalescingTraffic traffic = traffic(FlightAction.class.getName() + ".routes()");
+        Assertions.assertEquals(2L, traffic.getTotalExecuted());
+
+        // the overload has its own traffic
+        RequestCoalescing overload = RequestCoalescing.of(FlightAction.class.getMethod("routes", int.class));
+        Assertions.assertSame(overload, RequestCoalescing.of(FlightAction.class.getMethod("routes", int.class)));
+        Assertions.assertNotSame(traffic, overload.getTraffic());
+        Assertions.assertEquals(FlightAction.class.getName() + ".routes(int)", overload.getTraffic().getName());
+    }
+
+    private static CoalescingTraffic traffic(String name) {
+        return CoalescingTraffic.all().stream()
+                .filter(traffic -> name.equals(traffic.getName()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static MockHttpServletResponse get(String uri) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            dispatcher.processor(new MockHttpServletRequest("GET", uri), response);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return response;
+    }
+
+    private static boolean await(BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 250 && !condition.getAsBoolean(); ++i)
+            TimeUnit.MILLISECONDS.sleep(20L);
+        return condition.getAsBoolean();
+    }
+}
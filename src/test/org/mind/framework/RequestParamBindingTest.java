@@ -0,0 +1,224 @@
+package org.mind.framework;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mind.framework.annotation.Mapping;
+import org.mind.framework.web.container.spring.SpringContainerAware;
+import org.mind.framework.web.dispatcher.handler.RequestBodyBinding;
+import org.mind.framework.web.dispatcher.handler.RequestParamBinding;
+import org.mind.framework.web.dispatcher.support.BeanBinder;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * @version 1.0
+ * @author Marcus
+ * @date 2026/10/17
+ */
+public class RequestParamBindingTest {
+
+    public enum Status {NEW, PAID}
+
+    @Getter
+    @Setter
+    public static class Order {
+        private long id;
+        private String note;
+        private int quantity = 1;
+        private Boolean urgent;
+        private Status status;
+        private LocalDate date;
+        private UUID token;
+        private List<String> tags;
+        private Set<Integer> codes;
+        private long[] refs;
+        private Address address;
+        private List<Item> items;
+        // public field without setter
+        public String channel;
+        // internal state without setter, never bound
+        @Setter(AccessLevel.NONE)
+        private boolean admin;
+    }
+
+    @Getter
+    @Setter
+    public static class Address {
+        private String city;
+        private Address parent;
+    }
+
+    public record Item(String sku, int count, BigDecimal price) {
+    }
+
+    public static class Node {
+        public String name;
+        public Node next;
+    }
+
+    public static class Category {
+        public String name;
+        public Category parent;
+        public Category sibling;
+        public List<Category> children;
+    }
+
+    public static class NoDefault {
+        public NoDefault(String value) {
+        }
+    }
+
+    @Mapping("/orders/${id}")
+    public void action(long id, Order order, Item item) {
+    }
+
+    @Mapping("/orders/${id}")
+    public void misordered(Order order, long id) {
+    }
+
+    @Test
+    public void bindable() {
+        Assertions.assertTrue(BeanBinder.isBindable(Order.class));
+        Assertions.assertTrue(BeanBinder.isBindable(Item.class));
+        Assertions.assertFalse(BeanBinder.isBindable(NoDefault.class));
+        Assertions.assertFalse(BeanBinder.isBindable(String.class));
+        Assertions.assertFalse(BeanBinder.isBindable(Status.class));
+        Assertions.assertFalse(BeanBinder.isBindable(Map.class));
+        Assertions.assertFalse(BeanBinder.isBindable(long.class));
+        Assertions.assertFalse(BeanBinder.isBindable(MockHttpServletRequest.class));
+    }
+
+    @Test
+    public void scalars() {
+        Order order = BeanBinder.of(Order.class).bind(Map.of(
+                "id", new String[]{"42"},
+                "note", new String[]{""},
+                "urgent", new String[]{"true"},
+                "status", new String[]{"PAID"},
+                "date", new String[]{"2026-10-17"},
+                "token", new String[]{"123e4567-e89b-12d3-a456-426614174000"},
+                "quantity", new String[]{""},
+                "channel", new String[]{"web"},
+                "admin", new String[]{"true"}));
+
+        Assertions.assertEquals(42L, order.getId());
+        Assertions.assertEquals("", order.getNote());
+        Assertions.assertEquals(1, order.getQuantity());
+        Assertions.assertTrue(order.getUrgent());
+        Assertions.assertEquals(Status.PAID, order.getStatus());
+        Assertions.assertEquals(LocalDate.of(2026, 10, 17), order.getDate());
+        Assertions.assertEquals(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"), order.getToken());
+        Assertions.assertEquals("web", order.channel);
+        Assertions.assertFalse(order.isAdmin());
+        Assertions.assertNull(order.getAddress());
+        Assertions.assertNull(order.getItems());
+
+        // created without any parameter
+        Assertions.assertNotNull(BeanBinder.of(Order.class).bind(Map.of()));
+    }
+
+    @Test
+    public void nested() {
+        Order order = BeanBinder.of(Order.class).bind(Map.ofEntries(
+                Map.entry("tags", new String[]{"a", "b"}),
+                Map.entry("tags[]", new String[]{"c"}),
+                Map.entry("codes[0]", new String[]{"7"}),
+                Map.entry("codes[1]", new String[]{"7"}),
+                Map.entry("codes[2]", new String[]{"8"}),
+                Map.entry("refs", new String[]{"1", "2", "3"}),
+                Map.entry("address.city", new String[]{"Paris"}),
+                Map.entry("address.parent.city", new String[]{"France"}),
+                Map.entry("items[0].sku", new String[]{"A1"}),
+                Map.entry("items[0].count", new String[]{"2"}),
+                Map.entry("items[1].sku", new String[]{"B2"}),
+                Map.entry("items[1].price", new String[]{"9.90"})));
+
+        Assertions.assertEquals(List.of("a", "b", "c"), order.getTags());
+        Assertions.assertEquals(Set.of(7, 8), order.getCodes());
+        Assertions.assertArrayEquals(new long[]{1L, 2L, 3L}, order.getRefs());
+        Assertions.assertEquals("Paris", order.getAddress().getCity());
+        Assertions.assertEquals("France", order.getAddress().getParent().getCity());
+        Assertions.assertNull(order.getAddress().getParent().getParent());
+        Assertions.assertEquals(List.of(new Item("A1", 2, null), new Item("B2", 0, new BigDecimal("9.90"))), order.getItems());
+    }
+
+    @Test
+    public void recursive() {
+        Node node = BeanBinder.of(Node.class).bind(Map.of(
+                "name", new String[]{"1"},
+                "next.name", new String[]{"2"},
+                "next.next.next.next.next.next.next.next.next.name", new String[]{"deep"}));
+        Assertions.assertEquals("1", node.name);
+        Assertions.assertEquals("2", node.next.name);
+        Assertions.assertNull(node.next.next);
+    }
+
+    @Test
+    public void selfTyped() {
+        BeanBinder<Category> binder = BeanBinder.of(Category.class);
+        Category category = binder.bind(Map.of(
+                "name", new String[]{"books"},
+                "children[0].name", new String[]{"novels"},
+                "children[0].parent.sibling.name", new String[]{"music"}));
+        Assertions.assertEquals("novels", category.children.get(0).name);
+        Assertions.assertEquals("music", category.children.get(0).parent.sibling.name);
+        Assertions.assertNull(category.parent);
+
+        // the nested properties without any parameter are not visited, not k^depth binds of each request
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        Map<String, String[]> parameters = Map.of("name", new String[]{"books"});
+        for (int i = 0; i < 1_000; ++i)
+            binder.bind(parameters);
+
+        final int rounds = 10_000;
+        long bytes = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < rounds; ++i)
+            binder.bind(parameters);
+        bytes = threadBean.getThreadAllocatedBytes(threadId) - bytes;
+
+        System.out.printf("bind: allocated %.1f bytes/op%n", (double) bytes / rounds);
+        Assertions.assertTrue(bytes / rounds < 2_048L, "allocated bytes/op: " + bytes / rounds);
+    }
+
+    @Test
+    public void action() throws NoSuchMethodException {
+        RequestParamBinding binding = RequestParamBinding.of(
+                RequestParamBindingTest.class.getMethod("action", long.class, Order.class, Item.class));
+        Assertions.assertNotNull(binding);
+        Assertions.assertArrayEquals(new int[]{1, 2}, binding.getIndexes());
+        Assertions.assertNull(RequestParamBinding.of(RequestParamBindingTest.class.getMethod("bindable")));
+
+        // the POJO parameters follow the URI parameters
+        SpringContainerAware container = new SpringContainerAware();
+        Assertions.assertTrue(container.isMappingMethod(RequestParamBindingTest.class.getMethod("action", long.class, Order.class, Item.class)));
+        Assertions.assertFalse(container.isMappingMethod(RequestParamBindingTest.class.getMethod("misordered", Order.class, long.class)));
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/orders/5");
+        request.addParameter("note", "fast");
+        request.addParameter("sku", "Z9");
+        request.addParameter("count", "3");
+
+        Object[] args = binding.bind(request, new Object[]{5L});
+        Assertions.assertEquals(3, args.length);
+        Assertions.assertEquals(5L, args[0]);
+        Assertions.assertEquals("fast", ((Order) args[1]).getNote());
+        Assertions.assertEquals(new Item("Z9", 3, null), args[2]);
+
+        request.addParameter("quantity", "many");
+        RequestBodyBinding.BindingException e = Assertions.assertThrows(RequestBodyBinding.BindingException.class,
+                () -> binding.bind(request, new Object[]{5L}));
+        Assertions.assertEquals(400, e.getStatus());
+        Assertions.assertTrue(e.getMessage().contains("'quantity'"), e.getMessage());
+    }
+}
@@ -0,0 +1,125 @@
+package org.mind.framework;
+
+import jakarta.servlet.ServletConfig;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mind.framework.annotation.Mapping;
+import org.mind.framework.annotation.ResponseCache;
+import org.mind.framework.web.Action;
+import org.mind.framework.web.container.spring.SpringContainerAware;
+import org.mind.framework.web.dispatcher.handler.DispatcherHandlerRequest;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletConfig;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @version 1.0
+ * @author Marcus
+ * @date 2026/10/17
+ */
+public class ResponseCachingTest {
+
+    private static DispatcherHandlerRequest dispatcher;
+
+    private static final AtomicInteger count = new AtomicInteger();
+
+    public static class CachedAction {
+        @ResponseCache(params = "a", headers = "X-Tenant")
+        @Mapping("/cached/key")
+        public Map<String, Object> key() {
+            return Map.of("count", count.incrementAndGet());
+        }
+
+        @ResponseCache
+        @Mapping("/cached/headers")
+        public Map<String, Object> headers() {
+            HttpServletResponse response = Action.getActionContext().getResponse();
+            response.setHeader("X-Total", "42");
+            response.addHeader("Link", "</page/2>; rel=next");
+            response.addHeader("Link", "</page/9>; rel=last");
+            return Map.of("count", count.incrementAndGet());
+        }
+    }
+
+    @BeforeAll
+    public static void init() throws Exception {
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.refresh();
+        ContextSupport.setApplicationContext(context);
+
+        dispatcher = new DispatcherHandlerRequest();
+        dispatcher.init(new SpringContainerAware() {
+            @Override
+            public List<Object> loadBeans(boolean... excludeSpringSelf) {
+                return List.of(new CachedAction());
+            }
+
+            @Override
+            public ServletConfig getServletConfig() {
+                return new MockServletConfig();
+            }
+        });
+    }
+
+    @AfterAll
+    public static void destroy() {
+        dispatcher.destroy();
+    }
+
+    @Test
+    public void keys() throws Exception {
+        String first = get("/cached/key", Map.of("a", new String[]{"1", "2"}), null).getContentAsString();
+        Assertions.assertEquals(first, get("/cached/key", Map.of("a", new String[]{"1", "2"}), null).getContentAsString());
+
+        // the separators in the values do not collide
+        Assertions.assertNotEquals(first, get("/cached/key", Map.of("a", new String[]{"1,2"}), null).getContentAsString());
+        Assertions.assertNotEquals(first, get("/cached/key", Map.of("a", new String[]{"1", "2|X-Tenant=t"}), null).getContentAsString());
+
+        // the empty param and header are not absent
+        String absent = get("/cached/key", Map.of(), null).getContentAsString();
+        Assertions.assertNotEquals(absent, get("/cached/key", Map.of("a", new String[]{""}), null).getContentAsString());
+        Assertions.assertNotEquals(absent, get("/cached/key", Map.of(), "").getContentAsString());
+        Assertions.assertEquals(absent, get("/cached/key", Map.of(), null).getContentAsString());
+    }
+
+    @Test
+    public void headers() throws Exception {
+        MockHttpServletResponse miss = get("/cached/headers", Map.of(), null);
+        MockHttpServletResponse hit = get("/cached/headers", Map.of(), null);
+
+        Assertions.assertEquals(miss.getContentAsString(), hit.getContentAsString());
+        Assertions.assertEquals("42", hit.getHeader("X-Total"));
+        Assertions.assertEquals(List.of("</page/2>; rel=next", "</page/9>; rel=last"), hit.getHeaders("Link"));
+        Assertions.assertEquals(miss.getContentType(), hit.getContentType());
+        Assertions.assertEquals(1, hit.getHeaders(HttpHeaders.ETAG).size());
+
+        // replayed on 304
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/cached/headers");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, hit.getHeader(HttpHeaders.ETAG));
+        MockHttpServletResponse notModified = new MockHttpServletResponse();
+        dispatcher.processor(request, notModified);
+        Assertions.assertEquals(304, notModified.getStatus());
+        Assertions.assertEquals("42", notModified.getHeader("X-Total"));
+    }
+
+    private static MockHttpServletResponse get(String uri, Map<String, String[]> params, String tenant) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setParameters(params);
+        if (tenant != null)
+            request.addHeader("X-Tenant", tenant);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        dispatcher.processor(request, response);
+        Assertions.assertEquals(200, response.getStatus());
+        return response;
+    }
+}
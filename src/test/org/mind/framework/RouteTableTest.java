@@ -0,0 +1,148 @@
+package org.mind.framework;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mind.framework.annotation.Mapping;
+import org.mind.framework.web.dispatcher.handler.Execution;
+import org.mind.framework.web.dispatcher.handler.RouteTable;
+import org.mind.framework.web.dispatcher.handler.RouteTrie;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @version 1.0
+ * @author Marcus
+ * @date 2026/10/17
+ */
+public class RouteTableTest {
+
+    private volatile RouteTable table;
+
+    @Mapping("/route/${id}")
+    public String action(String id) {
+        return id;
+    }
+
+    private Execution newExecution() throws NoSuchMethodException {
+        Method method = RouteTableTest.class.getMethod("action", String.class);
+        return new Execution(this, method, method.getAnnotation(Mapping.class));
+    }
+
+    @Test
+    public void copyOnWrite() throws NoSuchMethodException {
+        Map<String, Execution> routes = new LinkedHashMap<>();
+        Execution index = newExecution();
+        Execution user = newExecution();
+        RouteTable.put(routes, "/index", index);
+        RouteTable.put(routes, "/user/${id}", user);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RouteTable.put(routes, "/index", index));
+
+        RouteTable origin = RouteTable.of(routes);
+        Assertions.assertSame(index, origin.exact("/index"));
+        Assertions.assertSame(user, origin.lookup("/user/1").execution());
+        Assertions.assertEquals(1, user.getArgsNumber());
+
+        Execution toggle = newExecution();
+        RouteTable added = origin.with(Map.of("/toggle/${name}", toggle));
+        Assertions.assertSame(toggle, added.lookup("/toggle/a").execution());
+        Assertions.assertNull(origin.lookup("/toggle/a"));
+        Assertions.assertEquals(2, origin.size());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> added.with(Map.of("/index", index)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> added.with(Map.of("/user/${uid}", user)));
+
+        RouteTable removed = added.without(Set.of("/toggle/${name}", "/none"));
+        Assertions.assertNull(removed.lookup("/toggle/a"));
+        Assertions.assertSame(user, removed.lookup("/user/1").execution());
+        Assertions.assertSame(removed, removed.without(Set.of("/none")));
+        Assertions.assertTrue(removed.without(List.of("/index", "/user/${id}")).isEmpty());
+    }
+
+    @Test
+    public void readsDuringSwaps() throws Exception {
+        Map<String, Execution> routes = new LinkedHashMap<>();
+        for (int i = 0; i < 200; ++i) {
+            RouteTable.put(routes, "/module" + i, newExecution());
+            RouteTable.put(routes, "/module" + i + "/detail/${id}", newExecution());
+        }
+        this.table = RouteTable.of(routes);
+
+        Map<String, Execution> toggles = new LinkedHashMap<>();
+        for (int i = 0; i < 50; ++i) {
+            RouteTable.put(toggles, "/toggle" + i, newExecution());
+            RouteTable.put(toggles, "/toggle" + i + "/${id}", newExecution());
+        }
+
+        int readers = Math.max(2, Runtime.getRuntime().availableProcessors() - 1);
+        ExecutorService executor = Executors.newFixedThreadPool(readers + 1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong reads = new AtomicLong();
+        AtomicLong toggleHits = new AtomicLong();
+        CountDownLatch started = new CountDownLatch(readers + 1);
+
+        try {
+            Future<?>[] futures = new Future<?>[readers];
+            for (int r = 0; r < readers; ++r) {
+                final int seed = r;
+                futures[r] = executor.submit(() -> {
+                    started.countDown();
+                    long count = 0L;
+                    long hits = 0L;
+                    int i = seed;
+                    while (running.get()) {
+                        RouteTable current = this.table;
+                        int n = i++ % 200;
+                        // stable routes are always found, in any snapshot
+                        Assertions.assertNotNull(current.exact("/module" + n));
+                        RouteTrie.Matched matched = current.lookup("/module" + n + "/detail/" + i);
+                        Assertions.assertNotNull(matched);
+                        Assertions.assertEquals(String.valueOf(i), matched.value(0));
+
+                        // toggles are all present or all absent in a snapshot
+                        boolean exact = current.exact("/toggle" + (n % 50)) != null;
+                        boolean param = current.lookup("/toggle" + (n % 50) + "/1") != null;
+                        Assertions.assertEquals(exact, param);
+                        if (exact)
+                            ++hits;
+                        count += 3;
+                    }
+                    reads.addAndGet(count);
+                    toggleHits.addAndGet(hits);
+                });
+            }
+
+            started.countDown();
+            started.await();
+
+            int swaps = 0;
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2L);
+            while (System.nanoTime() < deadline) {
+                this.table = this.table.with(toggles);
+                this.table = this.table.without(toggles.keySet());
+                swaps += 2;
+            }
+            running.set(false);
+
+            for (Future<?> future : futures)
+                future.get(10L, TimeUnit.SECONDS);
+
+            System.out.printf("readers: %d, swaps: %,d, reads: %,d, toggle hits: %,d%n",
+                    readers, swaps, reads.get(), toggleHits.get());
+            Assertions.assertTrue(swaps > 0);
+            Assertions.assertEquals(400, this.table.size());
+        } finally {
+            running.set(false);
+            executor.shutdownNow();
+        }
+    }
+}
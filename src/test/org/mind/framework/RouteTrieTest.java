@@ -0,0 +1,114 @@
+package org.mind.framework;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mind.framework.annotation.Mapping;
+import org.mind.framework.util.MatcherUtils;
+import org.mind.framework.web.dispatcher.handler.Execution;
+import org.mind.framework.web.dispatcher.handler.RouteTrie;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+
+/**
+ * @version 1.0
+ * @author Marcus
+ */
+public class RouteTrieTest {
+
+    @Mapping("/bench/${id}")
+    public String action(String id) {
+        return id;
+    }
+
+    private Execution newExecution() throws NoSuchMethodException {
+        Method method = RouteTrieTest.class.getMethod("action", String.class);
+        return new Execution(this, method, method.getAnnotation(Mapping.class));
+    }
+
+    @Test
+    public void lookup() throws NoSuchMethodException {
+        RouteTrie trie = new RouteTrie();
+        Execution user = newExecution();
+        Execution orders = newExecution();
+        Execution files = newExecution();
+        Execution item = newExecution();
+        Execution me = newExecution();
+
+        trie.add("/user/${id}", user);
+        trie.add("/user/${id}/orders/${orderId}", orders);
+        trie.add("/files/${bucket}/*", files);
+        trie.add("/item-${id}.html", item);
+        trie.add("/user/me/${tab}", me);
+
+        RouteTrie.Matched matched = trie.lookup("/user/1001");
+        Assertions.assertSame(user, matched.execution());
+        Assertions.assertArrayEquals(new String[]{"1001"}, matched.values());
+
+        matched = trie.lookup("/user/1001/orders/77");
+        Assertions.assertSame(orders, matched.execution());
+        Assertions.assertArrayEquals(new String[]{"1001", "77"}, matched.values());
+
+        matched = trie.lookup("/user/me/profile");
+        Assertions.assertSame(me, matched.execution());
+
+        matched = trie.lookup("/files/img/2025/01/a.png");
+        Assertions.assertSame(files, matched.execution());
+        Assertions.assertArrayEquals(new String[]{"img"}, matched.values());
+
+        matched = trie.lookup("/item-88.html");
+        Assertions.assertSame(item, matched.execution());
+        Assertions.assertArrayEquals(new String[]{"88"}, matched.values());
+
+        Assertions.assertNull(trie.lookup("/user"));
+        Assertions.assertNull(trie.lookup("/user/1001/orders"));
+        Assertions.assertNull(trie.lookup("/files/img"));
+        Assertions.assertNull(trie.lookup("/none/1"));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> trie.add("/user/${uid}", newExecution()));
+    }
+
+    @Test
+    public void benchmark() throws NoSuchMethodException {
+        for (int size : new int[]{10, 100, 1000}) {
+            RouteTrie trie = new RouteTrie();
+            List<String> regexList = new ArrayList<>(size);
+            for (int i = 0; i < size; ++i) {
+                String route = "/module" + i + "/detail/${id}";
+                trie.add(route, newExecution());
+                regexList.add(MatcherUtils.convertURI(route));
+            }
+
+            // worst case: the last registered route
+            String uri = "/module" + (size - 1) + "/detail/10086";
+            int rounds = size >= 1000 ? 2_000 : 20_000;
+
+            long regexNanos = measure(rounds, () -> {
+                for (String regex : regexList) {
+                    Matcher matcher = MatcherUtils.matcher(uri, regex, MatcherUtils.DEFAULT_EQ);
+                    if (matcher.matches())
+                        return matcher.group(1);
+                }
+                return null;
+            });
+
+            long trieNanos = measure(rounds, () -> trie.lookup(uri).values()[0]);
+
+            System.out.printf("routes: %4d, regex list: %,10d ns/op, route trie: %,6d ns/op%n",
+                    size, regexNanos / rounds, trieNanos / rounds);
+        }
+    }
+
+    private long measure(int rounds, java.util.function.Supplier<String> lookup) {
+        // warm up
+        for (int i = 0; i < rounds; ++i)
+            Assertions.assertEquals("10086", lookup.get());
+
+        long begin = System.nanoTime();
+        for (int i = 0; i < rounds; ++i)
+            lookup.get();
+        return System.nanoTime() - begin;
+    }
+}
@@ -0,0 +1,121 @@
+package org.mind.framework;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mind.framework.web.renderer.SseEvent;
+import org.mind.framework.web.renderer.SseHub;
+import org.mind.framework.web.renderer.SseRender;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * @version 1.0
+ * @author Marcus
+ * @date 2026/10/17
+ */
+public class SseTest {
+
+    /*
+     * Non-blocking output of the container, not ready until the client reads.
+     */
+    static class Output extends ServletOutputStream {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        volatile boolean ready = true;
+        WriteListener listener;
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            this.listener = writeListener;
+        }
+
+        @Override
+        public void write(int b) {
+            bytes.write(b);
+        }
+
+        String text() {
+            return bytes.toString(StandardCharsets.UTF_8);
+        }
+    }
+
+    private static Output connect(SseRender render, String lastEventId) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/events");
+        request.setAsyncSupported(true);
+        if (lastEventId != null)
+            request.addHeader("Last-Event-ID", lastEventId);
+
+        Output output = new Output();
+        render.render(request, new HttpServletResponseWrapper(new MockHttpServletResponse()) {
+            @Override
+            public ServletOutputStream getOutputStream() {
+                return output;
+            }
+        });
+        return output;
+    }
+
+    @Test
+    public void encode() {
+        Assertions.assertEquals("id: 1\nevent: price\ndata: a\ndata: b\n\n",
+                new String(SseEvent.of("1", "price", "a\nb").getBytes(), StandardCharsets.UTF_8));
+        Assertions.assertEquals("data: {\"k\":1}\n\n",
+                new String(SseEvent.of(Map.of("k", 1)).getBytes(), StandardCharsets.UTF_8));
+        Assertions.assertEquals(": heartbeat\n\n", new String(SseEvent.HEARTBEAT.getBytes(), StandardCharsets.UTF_8));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SseEvent.of("1\n", "price", "a"));
+    }
+
+    @Test
+    public void broadcast() throws Exception {
+        SseHub hub = new SseHub("test", 4, 8, 0L);
+        Output first = connect(hub.subscribe(), null);
+        Output second = connect(hub.subscribe(), null);
+        Assertions.assertEquals(2, hub.size());
+
+        hub.publish("price", "100");
+        hub.publish("price", "101");
+        hub.publish("price", "102");
+        String expected = "id: 1\nevent: price\ndata: 100\n\nid: 2\nevent: price\ndata: 101\n\nid: 3\nevent: price\ndata: 102\n\n";
+        Assertions.assertEquals(expected, first.text());
+        Assertions.assertEquals(expected, second.text());
+
+        // resume after the event 2
+        Output resumed = connect(hub.subscribe(), "2");
+        Assertions.assertEquals("id: 3\nevent: price\ndata: 102\n\n", resumed.text());
+
+        // the slow client is evicted when its buffer is full, the others are not delayed
+        second.ready = false;
+        for (int i = 0; i < 5; ++i)
+            hub.publish("price", String.valueOf(200 + i));
+
+        Assertions.assertEquals(1L, hub.getEvicted());
+        Assertions.assertEquals(2, hub.size());
+        Assertions.assertTrue(first.text().endsWith("id: 8\nevent: price\ndata: 204\n\n"));
+        Assertions.assertTrue(resumed.text().endsWith("id: 8\nevent: price\ndata: 204\n\n"));
+        Assertions.assertEquals(expected, second.text());
+
+        // the buffered events are written when the output is ready again
+        SseRender render = hub.subscribe();
+        Output third = connect(render, null);
+        third.ready = false;
+        hub.publish("price", "300");
+        Assertions.assertEquals(1, render.size());
+        third.ready = true;
+        third.listener.onWritePossible();
+        Assertions.assertEquals("id: 9\nevent: price\ndata: 300\n\n", third.text());
+
+        hub.close();
+        Assertions.assertEquals(0, hub.size());
+    }
+}
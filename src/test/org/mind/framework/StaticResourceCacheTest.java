@@ -0,0 +1,207 @@
+package org.mind.framework;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mind.framework.web.dispatcher.handler.ResourceHandlerRequest;
+import org.mind.framework.web.dispatcher.handler.StaticResourceCache;
+import org.springframework.core.io.FileSystemResourceLoader;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletConfig;
+import org.springframework.mock.web.MockServletContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * @version 1.0
+ * @author Marcus
+ * @date 2026/10/17
+ */
+public class StaticResourceCacheTest {
+    private static final String MIME = "text/html,text/css,text/javascript,application/javascript,application/json";
+
+    private Path root;
+    private StaticResourceCache cache;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        root = Files.createTempDirectory("static-cache");
+        cache = new StaticResourceCache(64 * 1024, 16 * 1024, 256, MIME, 0L,
+                name -> name.endsWith(".js") ? "text/javascript" : name.endsWith(".png") ? "image/png" : null);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        cache.destroy();
+        try (Stream<Path> files = Files.walk(root)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void gzipVariant() throws IOException {
+        byte[] js = script(8 * 1024);
+        Path path = write("app.js", js);
+
+        StaticResourceCache.Entry entry = cache.get("/app.js", path);
+        Assertions.assertArrayEquals(js, entry.getBytes());
+        Assertions.assertNotNull(entry.getGzip());
+        Assertions.assertTrue(entry.getGzip().length < js.length);
+        Assertions.assertArrayEquals(js, gunzip(entry.getGzip()));
+        Assertions.assertNull(entry.getBrotli());
+
+        Assertions.assertSame(entry, cache.get("/app.js", path));
+        Assertions.assertEquals(1L, cache.getHits());
+        Assertions.assertEquals(1L, cache.getMisses());
+        Assertions.assertEquals(js.length + entry.getGzip().length, cache.getWeight());
+
+        // not compressible or too small
+        Assertions.assertNull(cache.get("/logo.png", write("logo.png", js)).getGzip());
+        Assertions.assertNull(cache.get("/min.js", write("min.js", script(100))).getGzip());
+        System.out.println(cache.getStatisticsSummary());
+    }
+
+    @Test
+    public void precompressedSiblings() throws IOException, InterruptedException {
+        byte[] js = script(8 * 1024);
+        Path path = write("lib.js", js);
+        // served as is, not decompressed by the cache
+        byte[] gz = {9, 9, 9};
+        write("lib.js.gz", gz);
+        write("lib.js.br", new byte[]{1, 2, 3});
+
+        StaticResourceCache.Entry entry = cache.get("/lib.js", path);
+        Assertions.assertArrayEquals(gz, entry.getGzip());
+        Assertions.assertArrayEquals(new byte[]{1, 2, 3}, entry.getBrotli());
+
+        // the stale sibling is ignored
+        cache.clear();
+        Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis() + 60_000L));
+        Files.delete(root.resolve("lib.js.br"));
+        entry = cache.get("/lib.js", path);
+        Assertions.assertNull(entry.getBrotli());
+        Assertions.assertArrayEquals(js, gunzip(entry.getGzip()));
+
+        // unchanged, the stale sibling is not a change
+        cache.revalidate();
+        Assertions.assertSame(entry, cache.get("/lib.js", path));
+    }
+
+    @Test
+    public void revalidate() throws IOException {
+        Path path = write("app.js", script(1024));
+        StaticResourceCache.Entry entry = cache.get("/app.js", path);
+
+        cache.revalidate();
+        Assertions.assertEquals(1, cache.size());
+
+        byte[] changed = script(2048);
+        Files.write(path, changed);
+        Files.setLastModifiedTime(path, FileTime.fromMillis(entry.getLastModified() + 2_000L));
+        cache.revalidate();
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertEquals(0L, cache.getWeight());
+        Assertions.assertArrayEquals(changed, cache.get("/app.js", path).getBytes());
+
+        Files.delete(path);
+        cache.revalidate();
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertNull(cache.get("/app.js", path));
+    }
+
+    @Test
+    public void boundedByBytes() throws IOException {
+        // 64KB, not compressed
+        for (int i = 0; i < 10; ++i)
+            cache.get("/" + i + ".png", write(i + ".png", new byte[10 * 1024]));
+
+        Assertions.assertTrue(cache.getWeight() <= cache.getMaxSize());
+        Assertions.assertEquals(6, cache.size());
+        Assertions.assertEquals(4L, cache.getEvictions());
+
+        // too large
+        Assertions.assertNull(cache.get("/large.png", write("large.png", new byte[17 * 1024])));
+    }
+
+    @Test
+    public void serveByAcceptEncoding() throws Exception {
+        byte[] js = script(8 * 1024);
+        write("app.js", js);
+
+        MockServletContext context = new MockServletContext("file:" + root.toAbsolutePath(), new FileSystemResourceLoader());
+        MockServletConfig config = new MockServletConfig(context);
+        config.addInitParameter("resource", "js|png");
+        config.addInitParameter("expires", "60");
+        ResourceHandlerRequest handler = new ResourceHandlerRequest(config);
+
+        try {
+            MockHttpServletResponse plain = get(handler, null, null);
+            Assertions.assertEquals(200, plain.getStatus());
+            Assertions.assertNull(plain.getHeader("Content-Encoding"));
+            Assertions.assertEquals("Accept-Encoding", plain.getHeader("Vary"));
+            Assertions.assertArrayEquals(js, plain.getContentAsByteArray());
+            Assertions.assertEquals(js.length, plain.getContentLength());
+
+            MockHttpServletResponse gzip = get(handler, "br;q=0, gzip, deflate", null);
+            Assertions.assertEquals("gzip", gzip.getHeader("Content-Encoding"));
+            Assertions.assertArrayEquals(js, gunzip(gzip.getContentAsByteArray()));
+            Assertions.assertEquals(gzip.getContentAsByteArray().length, gzip.getContentLength());
+            Assertions.assertEquals("max-age=60", gzip.getHeader("Cache-Control"));
+
+            Assertions.assertNull(get(handler, "gzip;q=0, identity", null).getHeader("Content-Encoding"));
+            Assertions.assertEquals("gzip", get(handler, "*", null).getHeader("Content-Encoding"));
+
+            MockHttpServletResponse notModified = get(handler, "gzip", plain.getHeader("ETag"));
+            Assertions.assertEquals(304, notModified.getStatus());
+            Assertions.assertEquals(0, notModified.getContentAsByteArray().length);
+
+            Assertions.assertEquals(404, get(handler, "gzip", null, "/missing.js").getStatus());
+            Assertions.assertTrue(handler.getCache().getHits() >= 4L);
+        } finally {
+            handler.getCache().destroy();
+        }
+    }
+
+    private MockHttpServletResponse get(ResourceHandlerRequest handler, String acceptEncoding, String eTag) throws Exception {
+        return get(handler, acceptEncoding, eTag, "/app.js");
+    }
+
+    private MockHttpServletResponse get(ResourceHandlerRequest handler, String acceptEncoding, String eTag, String uri) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        if (acceptEncoding != null)
+            request.addHeader("Accept-Encoding", acceptEncoding);
+        if (eTag != null)
+            request.addHeader("If-None-Match", eTag);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Assertions.assertTrue(handler.checkStaticResource(request, response));
+        return response;
+    }
+
+    private Path write(String name, byte[] bytes) throws IOException {
+        return Files.write(root.resolve(name), bytes);
+    }
+
+    private static byte[] script(int size) {
+        StringBuilder builder = new StringBuilder(size + 64);
+        for (int i = 0; builder.length() < size; ++i)
+            builder.append("function f").append(i).append("(a, b) { return a + b; }\n");
+        return builder.substring(0, size).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return gzip.readAllBytes();
+        }
+    }
+}
@@ -1,20 +1,38 @@
 package org.mind.framework;
 
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.mind.framework.annotation.CacheControl;
 import org.mind.framework.annotation.Mapping;
+import org.mind.framework.annotation.RateLimit;
+import org.mind.framework.annotation.RequestBody;
+import org.mind.framework.annotation.ResponseCache;
+import org.mind.framework.annotation.SingleFlight;
+import org.mind.framework.annotation.StreamingMultipart;
 import org.mind.framework.http.Response;
 import org.mind.framework.web.Action;
+import org.mind.framework.web.dispatcher.multipart.MultipartParts;
 import org.mind.framework.web.renderer.Render;
+import org.mind.framework.web.renderer.SseHub;
 import org.mind.framework.web.renderer.TemplateRender;
 import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.RequestMethod;
 
+import java.math.BigDecimal;
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * @author Marcus
@@ -24,6 +42,10 @@ import java.util.stream.IntStream;
 @Controller
 public class TestAction {
 
+    private final AtomicInteger cachedCount = new AtomicInteger();
+    private final AtomicInteger flightCount = new AtomicInteger();
+    private final SseHub priceHub = new SseHub("prices");
+
     @Mapping(value = {"/", "/index"})
     public String first() {
         return "Welcome usage mind-framework.";
@@ -63,6 +85,45 @@ public class TestAction {
                 .toJson();
     }
 
+    @CacheControl(maxAge = 60, staleWhileRevalidate = 300)
+    @Mapping(value = "/request/conditional/${id}", method = RequestMethod.GET)
+    public Map<String, Object> conditional(long id) {
+        return Map.of("id", id, "name", "product-" + id);
+    }
+
+    @Mapping(value = "/request/body/${id}", method = RequestMethod.POST)
+    public Map<String, Object> withBody(long id, @RequestBody Map<String, Object> body) {
+        return Map.of("id", id, "body", body);
+    }
+
+    @Mapping(value = "/request/events", method = RequestMethod.GET)
+    public Render events() {
+        return priceHub.subscribe();
+    }
+
+    @Mapping(value = "/request/events/${price}", method = RequestMethod.POST)
+    public String publish(String price) {
+        return String.valueOf(priceHub.publish("price", Map.of("price", price)));
+    }
+
+    @StreamingMultipart(maxPartSize = 8 * 1024 * 1024)
+    @Mapping(value = "/request/upload", method = RequestMethod.POST)
+    public Map<String, Object> upload(MultipartParts parts) throws Exception {
+        Map<String, Object> result = new HashMap<>();
+        while (parts.hasNext()) {
+            MultipartParts.Part part = parts.next();
+            if (!part.isFile()) {
+                result.put(part.getName(), part.getString());
+                continue;
+            }
+
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long size = part.update(digest);
+            result.put(part.getName(), Map.of("filename", part.getFilename(), "size", size, "sha256", HexFormat.of().formatHex(digest.digest())));
+        }
+        return result;
+    }
+
     @Mapping("/request/redirect")
     public String redirect() {
         return "redirect:https://github.com/dilldong/webmind";
@@ -114,4 +175,79 @@ public class TestAction {
                 .build();
     }
 
+    @Mapping("/async/${value}")
+    public CompletableFuture<Map<String, Object>> async(int value) {
+        return CompletableFuture.supplyAsync(() -> Map.of("value", value, "thread", Thread.currentThread().getName()));
+    }
+
+    @Mapping(value = "/async/timeout", asyncTimeout = 200L)
+    public CompletableFuture<String> asyncTimeout() {
+        return CompletableFuture.supplyAsync(() -> "late", CompletableFuture.delayedExecutor(1L, TimeUnit.SECONDS));
+    }
+
+    @Mapping("/async/error")
+    public CompletableFuture<String> asyncError() {
+        return CompletableFuture.failedFuture(new IllegalStateException("async failed"));
+    }
+
+    @ResponseCache(ttl = 2L, params = "lang")
+    @Mapping(value = "/cached/${id}", method = RequestMethod.GET)
+    public Map<String, Object> cached(long id) {
+        return Map.of("id", id, "count", cachedCount.incrementAndGet());
+    }
+
+    @SingleFlight(timeout = 2_000L)
+    @Mapping(value = "/flight/${id}", method = RequestMethod.GET)
+    public Map<String, Object> flight(long id) throws InterruptedException {
+        TimeUnit.MILLISECONDS.sleep(300L);
+        return Map.of("id", id, "count", flightCount.incrementAndGet());
+    }
+
+    @Mapping(value = "/limited", concurrencyLimit = 2)
+    public String limited() throws InterruptedException {
+        TimeUnit.MILLISECONDS.sleep(500L);
+        return "limited";
+    }
+
+    @Mapping(value = "/report", priority = Mapping.Priority.LOW)
+    public String report() {
+        return "report";
+    }
+
+    @RateLimit(permits = 2L, interval = 10L, key = RateLimit.KeyType.IP)
+    @Mapping("/rate")
+    public String rate() {
+        return "rate";
+    }
+
+    @Mapping(value = "/search/${category}", method = {RequestMethod.GET, RequestMethod.POST})
+    public Map<String, Object> search(String category, ProductQuery query) {
+        return Map.of("category", category, "query", query);
+    }
+
+    @Getter
+    @Setter
+    public static class ProductQuery {
+        private String keyword;
+        private int page = 1;
+        private List<String> tags;
+        private PriceRange price;
+    }
+
+    public record PriceRange(BigDecimal min, BigDecimal max) {
+    }
+
+    @Mapping(value = "/export/${count}", method = RequestMethod.GET)
+    public Stream<Map<String, Object>> export(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> Map.<String, Object>of("id", i, "name", "item-" + i))
+                .onClose(() -> log.info("Export closed: {}", count));
+    }
+
+    @CrossOrigin(origins = {"*.mind.org", "http://localhost:3000"}, allowedHeaders = {"Content-Type", "X-Token"})
+    @Mapping(value = "/cors/${id}", method = {RequestMethod.GET, RequestMethod.PUT})
+    public Map<String, Object> cors(long id) {
+        return Map.of("id", id);
+    }
+
 }
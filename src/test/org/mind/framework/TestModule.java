@@ -3,27 +3,48 @@ package org.mind.framework;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mind.framework.annotation.Mapping;
+import org.mind.framework.annotation.RateLimit;
 import org.mind.framework.helper.RedissonHelper;
 import org.mind.framework.security.Base62Utils;
 import org.mind.framework.service.threads.DynamicThreadPoolExecutor;
 import org.mind.framework.service.threads.ExecutorFactory;
+import org.mind.framework.service.threads.VirtualThreads;
 import org.mind.framework.util.FileUtils;
 import org.mind.framework.util.JsonUtils;
 import org.mind.framework.util.MatcherUtils;
+import org.mind.framework.util.PatternCache;
 import org.mind.framework.util.WeightedNode;
 import org.mind.framework.util.WeightedRoundRobin;
+import org.mind.framework.web.dispatcher.handler.ConcurrencyLimiter;
+import org.mind.framework.web.dispatcher.limit.ClusterPermits;
+import org.mind.framework.web.dispatcher.limit.InMemoryClusterPermits;
+import org.mind.framework.web.dispatcher.limit.RateLimiting;
+import org.mind.framework.web.dispatcher.limit.RedissonClusterPermits;
+import org.mind.framework.web.dispatcher.support.ConverterFactory;
+import org.mind.framework.web.server.tomcat.monitor.LoadSheddingValve;
 import org.redisson.api.RLongAdder;
+import org.redisson.api.RRateLimiter;
+import org.redisson.client.RedisException;
 
 import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
@@ -173,6 +194,233 @@ public class TestModule {
         System.out.println(Pattern.compile("#\\{key\\}").matcher(param).replaceAll(key));
     }
 
+    @Test
+    public void patternCache() {
+        PatternCache cache = new PatternCache(8);
+        for (int i = 0; i < 3; ++i)
+            Assertions.assertTrue(cache.compile("^\\/user\\/([^\\/]+?)$", MatcherUtils.DEFAULT_EQ).matcher("/user/1").matches());
+
+        Assertions.assertEquals(1L, cache.getMisses());
+        Assertions.assertEquals(2L, cache.getHits());
+
+        // flags are part of the key
+        Assertions.assertTrue(cache.compile("TXT", MatcherUtils.IGNORECASE_EQ).matcher("txt").matches());
+        Assertions.assertFalse(cache.compile("TXT", MatcherUtils.DEFAULT_EQ).matcher("txt").matches());
+
+        for (int i = 0; i < 100; ++i)
+            cache.compile("regex-" + i, MatcherUtils.DEFAULT_EQ);
+        Assertions.assertTrue(cache.size() <= cache.getCapacity());
+        System.out.println(cache);
+    }
+
+    enum Color {RED, GREEN}
+
+    @Test
+    public void converters() {
+        ConverterFactory factory = ConverterFactory.getInstance();
+        String uri = "/x/42/-7/yes/2025-01-31/2025-01-31T08:00:00Z/GREEN/123e4567-e89b-12d3-a456-426614174000";
+
+        Assertions.assertEquals(42, factory.getConverter(int.class).convert(uri, 3, 5));
+        Assertions.assertEquals(-7L, factory.getConverter(Long.class).convert(uri, 6, 8));
+        Assertions.assertEquals(Boolean.TRUE, factory.getConverter(boolean.class).convert(uri, 9, 12));
+        Assertions.assertEquals(LocalDate.of(2025, 1, 31), factory.getConverter(LocalDate.class).convert(uri, 13, 23));
+        Assertions.assertEquals(Instant.parse("2025-01-31T08:00:00Z"), factory.getConverter(Instant.class).convert(uri, 24, 44));
+        Assertions.assertEquals(Color.GREEN, factory.getConverter(Color.class).convert(uri, 45, 50));
+        Assertions.assertEquals(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"), factory.getConverter(UUID.class).convert(uri, 51, 87));
+
+        Assertions.assertEquals(Color.RED, factory.convert(Color.class, "RED"));
+        Assertions.assertEquals("abc", factory.convert(String.class, "abc"));
+        Assertions.assertTrue(factory.isConvert(UUID.class));
+        Assertions.assertFalse(factory.isConvert(Map.class));
+        Assertions.assertNull(factory.getConverter(Map.class));
+
+        // rendered as text, the converted enum, UUID and java.time are rendered as JSON
+        Assertions.assertTrue(factory.isText(String.class));
+        Assertions.assertTrue(factory.isText(long.class));
+        Assertions.assertTrue(factory.isText(BigDecimal.class));
+        Assertions.assertFalse(factory.isText(Color.class));
+        Assertions.assertFalse(factory.isText(UUID.class));
+        Assertions.assertFalse(factory.isText(LocalDate.class));
+
+        Assertions.assertThrows(NumberFormatException.class, () -> factory.getConverter(byte.class).convert("/300", 1, 4));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> factory.getConverter(Color.class).convert(uri, 3, 5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> factory.getConverter(UUID.class).convert("123e4567-e89b-12d3-a456-42661417400x", 0, 36));
+    }
+
+    @Test
+    public void virtualThreads() throws Exception {
+        Assertions.assertEquals(Runtime.version().feature() >= 21, VirtualThreads.isSupported());
+        Assertions.assertFalse(VirtualThreads.isVirtual(Thread.currentThread()));
+
+        // falls back to platform threads when not enabled or not supported
+        ExecutorService executor = ExecutorFactory.newVirtualThreadExecutor("vt-test-", 4);
+        try {
+            Thread thread = executor.submit(Thread::currentThread).get();
+            Assertions.assertEquals(VirtualThreads.isEnabled(), VirtualThreads.isVirtual(thread));
+        } finally {
+            executor.shutdown();
+        }
+
+        if (!VirtualThreads.isSupported())
+            Assertions.assertThrows(UnsupportedOperationException.class, () -> VirtualThreads.newThreadFactory("vt-"));
+    }
+
+    @Test
+    public void concurrencyLimiter() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter("test", 10, 50, 0L);
+        long[] permits = new long[10];
+        for (int i = 0; i < permits.length; ++i)
+            permits[i] = limiter.acquire();
+
+        // over the limit
+        Assertions.assertEquals(-1L, limiter.acquire());
+        Assertions.assertEquals(1L, limiter.getTraffic().getTotalRejected());
+        for (long permit : permits)
+            limiter.release(permit);
+        Assertions.assertEquals(0, limiter.getInFlight());
+
+        // busy with a stable latency of 1ms, then the latency rises to 20ms
+        this.busy(limiter, 200, 1L);
+        int stable = limiter.getLimit();
+        this.busy(limiter, 10, 20L);
+        int degraded = limiter.getLimit();
+        System.out.printf("limit: stable %d, degraded %d%n", stable, degraded);
+        Assertions.assertTrue(degraded < stable);
+        Assertions.assertTrue(degraded >= 1);
+    }
+
+    private void busy(ConcurrencyLimiter limiter, int rounds, long latencyMillis) {
+        for (int r = 0; r < rounds; ++r) {
+            int limit = limiter.getLimit();
+            for (int i = 0; i < limit; ++i)
+                limiter.acquire();
+
+            // released as if they started latencyMillis ago
+            for (int i = 0; i < limit; ++i)
+                limiter.release(System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+        }
+    }
+
+    @Test
+    public void rateLimiting() {
+        // local token bucket
+        RateLimiting local = new RateLimiting("local", 5L, 1L, TimeUnit.SECONDS, RateLimit.KeyType.ROUTE, null, false, 1, null);
+        for (int i = 0; i < 5; ++i)
+            Assertions.assertEquals(0L, local.tryAcquire("local"));
+        Assertions.assertEquals(1L, local.tryAcquire("local"));
+        Assertions.assertEquals(1L, local.getTraffic().getTotalRejected());
+
+        // two nodes share the cluster permits, synced in batches
+        InMemoryClusterPermits clusterPermits = new InMemoryClusterPermits();
+        RateLimiting node1 = new RateLimiting("node1", 20L, 1L, TimeUnit.MINUTES, RateLimit.KeyType.ROUTE, null, true, 5, clusterPermits);
+        RateLimiting node2 = new RateLimiting("node2", 20L, 1L, TimeUnit.MINUTES, RateLimit.KeyType.ROUTE, null, true, 5, clusterPermits);
+
+        int accepted = 0;
+        for (int i = 0; i < 30; ++i) {
+            if (node1.tryAcquire("route") == 0L)
+                ++accepted;
+            if (node2.tryAcquire("route") == 0L)
+                ++accepted;
+        }
+
+        System.out.printf("cluster accepted: %d, round trips: %d%n", accepted, clusterPermits.getCalls());
+        Assertions.assertEquals(20, accepted);
+        Assertions.assertTrue(clusterPermits.getCalls() < 30L);
+        Assertions.assertTrue(node1.tryAcquire("route") >= 1L);
+    }
+
+    @Test
+    public void rateLimitingFallback() {
+        // the cluster is down, retried after the backoff instead of each request
+        AtomicInteger calls = new AtomicInteger();
+        ClusterPermits broken = (key, permits, rate, intervalMillis) -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("Unable to connect to Redis");
+        };
+
+        RateLimiting limiting = new RateLimiting("broken", 3L, 1L, TimeUnit.MINUTES, RateLimit.KeyType.IP, null, true, 1, broken);
+        for (int i = 0; i < 3; ++i)
+            Assertions.assertEquals(0L, limiting.tryAcquire("a"));
+        Assertions.assertTrue(limiting.tryAcquire("a") >= 1L);
+        Assertions.assertEquals(0L, limiting.tryAcquire("b"));
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void redissonClusterPermits() {
+        // the limiter of a redis key which expires after the first acquire
+        Map<String, Integer> created = new HashMap<>();
+        RedissonClusterPermits clusterPermits = new RedissonClusterPermits() {
+            @Override
+            protected RRateLimiter newLimiter(String key, long rate, long intervalMillis) {
+                int count = created.merge(key, 1, Integer::sum);
+                AtomicInteger acquired = new AtomicInteger();
+                return (RRateLimiter) Proxy.newProxyInstance(RRateLimiter.class.getClassLoader(), new Class<?>[]{RRateLimiter.class}, (proxy, method, args) -> {
+                    if ("expired".equals(key) && count == 1 && acquired.incrementAndGet() > 1)
+                        throw new RedisException("ERR user_script:1: RateLimiter is not initialized");
+                    return Boolean.TRUE;
+                });
+            }
+        };
+
+        // the rate is set again when the key expired in redis
+        for (int i = 0; i < 3; ++i)
+            Assertions.assertTrue(clusterPermits.tryAcquire("expired", 1L, 10L, 1_500L));
+        Assertions.assertEquals(2, created.get("expired"));
+
+        // bounded keys, the least recently used is evicted
+        clusterPermits.tryAcquire("cold", 1L, 10L, 1_500L);
+        for (int i = 0; i < 10_000; ++i)
+            clusterPermits.tryAcquire("spoofed-" + i, 1L, 10L, 1_500L);
+        clusterPermits.tryAcquire("cold", 1L, 10L, 1_500L);
+        Assertions.assertEquals(2, created.get("cold"));
+        Assertions.assertEquals(1, created.get("spoofed-9999"));
+    }
+
+    @Test
+    public void rateLimitingKeys() {
+        // the least recently used key is evicted, the spoofed keys do not reset the others
+        RateLimiting limiting = new RateLimiting("keys", 1L, 1L, TimeUnit.MINUTES, RateLimit.KeyType.IP, null, false, 1, null);
+        Assertions.assertEquals(0L, limiting.tryAcquire("cold"));
+        Assertions.assertEquals(0L, limiting.tryAcquire("hot"));
+
+        for (int i = 0; i < 10_000; ++i) {
+            limiting.tryAcquire("spoofed-" + i);
+            if (i % 1_000 == 0)
+                Assertions.assertTrue(limiting.tryAcquire("hot") >= 1L);
+        }
+
+        Assertions.assertTrue(limiting.tryAcquire("hot") >= 1L);
+        Assertions.assertEquals(0L, limiting.tryAcquire("cold"));
+    }
+
+    @Test
+    public void loadShedding() {
+        // in-flight 100, queue wait 100ms, p99 1000ms, gc pause 200ms
+        LoadSheddingValve valve = new LoadSheddingValve(100, 100L, 1000L, 200L);
+        Assertions.assertEquals(0, valve.update(50, 0L, 200L, 0L));
+        Assertions.assertFalse(valve.shed(Mapping.Priority.LOW));
+
+        // overloaded by p99, shed the low priority
+        Assertions.assertEquals(1, valve.update(50, 0L, 1200L, 0L));
+        Assertions.assertTrue(valve.shed(Mapping.Priority.LOW));
+        Assertions.assertFalse(valve.shed(Mapping.Priority.NORMAL));
+
+        // hysteresis: stays until the pressure drops below 0.8
+        Assertions.assertEquals(1, valve.update(90, 0L, 200L, 0L));
+        Assertions.assertEquals(0, valve.update(70, 0L, 200L, 0L));
+
+        // heavily overloaded by the gc pause, shed the normal priority, never the high
+        Assertions.assertEquals(2, valve.update(50, 0L, 200L, 400L));
+        Assertions.assertTrue(valve.shed(Mapping.Priority.NORMAL));
+        Assertions.assertFalse(valve.shed(Mapping.Priority.HIGH));
+        Assertions.assertEquals(2, valve.update(50, 130L, 200L, 0L));
+        Assertions.assertEquals(1, valve.update(50, 110L, 200L, 0L));
+
+        Assertions.assertEquals(2L, valve.getShedCount());
+        System.out.println(valve.getStatisticsSummary());
+    }
+
     @Test
     public void test02() {
         String json = "\n" +